@@ -1,5 +1,10 @@
 package com.nexus.api;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.CqrsHandlersRegistry;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.EventHandlersRegistry;
@@ -7,13 +12,17 @@ import com.nexus.boot.InjectableRegistry;
 import com.nexus.boot.ManagedRegistry;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.AsyncEventBus;
 import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.NexusCqrsBus;
+import com.nexus.core.bus.NexusEventBus;
 import com.nexus.core.cqrs.CqrsBus;
+import com.nexus.core.event.DeadLetterQueue;
 import com.nexus.core.event.EventBus;
+import com.nexus.core.event.EventBusFactory;
+import com.nexus.core.journal.Journal;
 import com.nexus.exceptions.BusNotEnabledException;
 
-import io.github.classgraph.ScanResult;
-
 public class NexusContext {
 	private String[] pkgs;
 	
@@ -26,21 +35,41 @@ public class NexusContext {
 
 	private CqrsBus cqrsBus;
 	private EventBus eventBus;
+	private EventBusFactory eventBusFactory;
+	private Executor asyncExecutor;
+	private Executor eventExecutor;
+	private Executor partitionExecutor;
+	private DeadLetterQueue deadLetters;
+	private Journal journal;
 
 	private boolean hasCqrsBus;
+	private boolean ownCqrsBus;
 	private boolean hasEventBus;
+	private boolean asyncEvents;
+	private int bootThreads;
+	private int partitions;
 
-	private ScanResult sr;
+	private ComponentIndex components;
 
 	private NexusContext(NexusContextBuilder builder) {
 		this.pkgs = builder.getPkgs();
 		this.cqrsBus = builder.getCqrsBus();
 		this.eventBus = builder.getEventBus();
+		this.eventBusFactory = builder.getEventBusFactory();
 		this.hasCqrsBus = builder.hasCqrsBus();
 		this.hasEventBus = builder.hasEventBus();
+		this.bootThreads = builder.getBootThreads();
+		this.asyncExecutor = builder.getAsyncExecutor();
+		this.asyncEvents = builder.hasAsyncEvents();
+		this.eventExecutor = builder.getEventExecutor();
+		this.partitions = builder.getPartitions();
+		this.partitionExecutor = builder.getPartitionExecutor();
+		this.deadLetters = builder.getDeadLetterQueue();
+		this.journal = builder.getJournal();
 		setMainRegistry();
 		setBusesRegistry();
 		scanMainClasses();
+		this.di = this.di.freeze();
         RegistryProvider.updateRegistry(DependencyRegistry.class, this.di);
 		buildCqrsBus();
 		buildEventBus();
@@ -48,7 +77,7 @@ public class NexusContext {
 
 	private void setMainRegistry() {
 		this.pkgRegistry = RegistryProvider.getRegistry(PackagesRegistry.class);
-		this.di = RegistryProvider.getRegistry(DependencyRegistry.class);
+		this.di = RegistryProvider.getRegistry(DependencyRegistry.class).boot();
 		this.managedRegistry = RegistryProvider.getRegistry(ManagedRegistry.class);
 		this.injectRegistry = RegistryProvider.getRegistry(InjectableRegistry.class);
 	}
@@ -60,23 +89,55 @@ public class NexusContext {
 
 
 	private void scanMainClasses() {
-		this.sr = pkgRegistry.registry((Object[]) this.pkgs);
-		this.di = managedRegistry.registry(this.di, this.sr);
-		this.di = injectRegistry.registry(this.di, this.sr);
+		this.components = pkgRegistry.registry((Object[]) this.pkgs);
+		this.di = managedRegistry.registry(this.di, this.components);
+		this.di = registerInjectables();
+	}
+
+	private DependencyRegistry registerInjectables() {
+		if (this.bootThreads <= 0) return injectRegistry.registry(this.di, this.components);
+		ExecutorService executor = Executors.newFixedThreadPool(this.bootThreads, Thread.ofPlatform().name("nexus-boot-", 0).daemon().factory());
+		try {
+			return injectRegistry.registry(this.di, this.components, executor);
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	private void buildCqrsBus() {
 		if(this.cqrsBus == null && this.hasCqrsBus) {
-			this.cqrsHandlersRegistry = cqrsHandlersRegistry.registry(this.di, this.sr);
-			this.cqrsBus = BusesProvider.getNexusCqrsBus(this.cqrsHandlersRegistry);
+			this.cqrsHandlersRegistry = cqrsHandlersRegistry.registry(this.di, this.components);
+			this.ownCqrsBus = true;
+			NexusCqrsBus bus = this.asyncExecutor == null
+				? BusesProvider.getNexusCqrsBus(this.cqrsHandlersRegistry)
+				: BusesProvider.getNexusCqrsBus(this.cqrsHandlersRegistry, this.asyncExecutor);
+			this.cqrsBus = this.partitions > 0 ? BusesProvider.partitionCommands(bus, this.partitions, this.partitionExecutor) : bus;
 		}
 	}
 
+	/**
+	 * The built-in buses deliver through the event handlers registry, which the query caches subscribe
+	 * to. Buses from a factory or the builder may not, so cache invalidation wraps them instead.
+	 */
 	private void buildEventBus() {
+		boolean invalidatesCaches = this.ownCqrsBus && this.cqrsHandlersRegistry != null && this.cqrsHandlersRegistry.hasCacheInvalidation();
+		boolean builtIn = false;
 		if(this.eventBus == null && this.hasEventBus) {
-			this.eventHandlersRegistry = eventHandlersRegistry.registry(this.di, this.sr);
-			this.eventBus = BusesProvider.getNexusEventBus(this.eventHandlersRegistry);
+			this.eventHandlersRegistry = eventHandlersRegistry.registry(this.di, this.components);
+			builtIn = this.eventBusFactory == null;
+			if (invalidatesCaches && builtIn) this.cqrsHandlersRegistry.bindCacheInvalidation(this.eventHandlersRegistry);
+			if (this.eventBusFactory != null) this.eventBus = this.eventBusFactory.create(this.eventHandlersRegistry);
+			else if (this.asyncEvents) this.eventBus = this.deadLetters == null
+				? BusesProvider.getAsyncEventBus(this.eventHandlersRegistry, this.eventExecutor)
+				: BusesProvider.getAsyncEventBus(this.eventHandlersRegistry, this.eventExecutor, this.deadLetters);
+			else this.eventBus = this.deadLetters == null
+				? BusesProvider.getNexusEventBus(this.eventHandlersRegistry)
+				: BusesProvider.getNexusEventBus(this.eventHandlersRegistry, this.deadLetters);
+			if (this.eventBus instanceof NexusEventBus bus) this.deadLetters = bus.getDeadLetterQueue();
+			if (this.eventBus instanceof AsyncEventBus bus) this.deadLetters = bus.getDeadLetterQueue();
 		}
+		if (invalidatesCaches && !builtIn && this.eventBus != null && this.hasEventBus) this.eventBus = BusesProvider.invalidatingCaches(this.eventBus, this.cqrsHandlersRegistry);
+		if (this.journal != null && this.hasEventBus) this.eventBus = BusesProvider.journaled(this.eventBus, this.journal);
 	}
 
 	public CqrsBus getCqrsBus() {
@@ -101,12 +162,31 @@ public class NexusContext {
 		return this.eventBus;
 	}
 
+	/**
+	 * The queue failed event deliveries go to: the one given to the builder, or else the default queue
+	 * of the built-in bus. Null when no queue was given and the bus comes from the builder or a
+	 * factory.
+	 */
+	public DeadLetterQueue getDeadLetterQueue() {
+		getEventBus();
+		return this.deadLetters;
+	}
+
 	public static class NexusContextBuilder {
 		private String[] pkgs;
 		private CqrsBus cqrsBus;
 		private EventBus eventBus;
+		private EventBusFactory eventBusFactory;
+		private Executor asyncExecutor;
+		private Executor eventExecutor;
+		private Executor partitionExecutor;
+		private DeadLetterQueue deadLetters;
+		private Journal journal;
 		private boolean hasCqrsBus = true;
 		private boolean hasEventBus = true;
+		private boolean asyncEvents;
+		private int bootThreads;
+		private int partitions;
 
 		public NexusContextBuilder packagesToScan(String... pkgs) {
 			this.pkgs = pkgs;
@@ -123,6 +203,104 @@ public class NexusContext {
 			return this;
 		}
 
+		/**
+		 * Creates the event bus from the registered event handlers once they are resolved, e.g.
+		 * {@code withEventBus(RingBufferEventBus.builder())}.
+		 */
+		public NexusContextBuilder withEventBus(EventBusFactory eventBusFactory) {
+			this.eventBusFactory = eventBusFactory;
+			return this;
+		}
+
+		/**
+		 * Executor running {@link CqrsBus#sendAsync} handlers of the built-in CQRS bus. Without it each
+		 * call runs on a new virtual thread.
+		 */
+		public NexusContextBuilder withAsyncExecutor(Executor asyncExecutor) {
+			if (asyncExecutor == null) throw new IllegalArgumentException(String.format(
+																		"Invalid async executor: null. " +
+																		"Omit withAsyncExecutor() to run sendAsync handlers on virtual threads."
+																	));
+			this.asyncExecutor = asyncExecutor;
+			return this;
+		}
+
+		/**
+		 * Delivers events asynchronously, each one on a new virtual thread. Handlers still receive
+		 * events one at a time and in publish order.
+		 */
+		public NexusContextBuilder asyncEventBus() {
+			this.asyncEvents = true;
+			this.eventExecutor = null;
+			return this;
+		}
+
+		/**
+		 * Delivers events asynchronously on {@code executor}, e.g. a fixed pool, or {@code Runnable::run}
+		 * to keep delivery on the publisher thread. Handlers still receive events one at a time and in
+		 * publish order.
+		 */
+		public NexusContextBuilder asyncEventBus(Executor executor) {
+			if (executor == null) throw new IllegalArgumentException(String.format(
+																"Invalid event executor: null. " +
+																"Use asyncEventBus() without arguments to deliver events on virtual threads."
+															));
+			this.asyncEvents = true;
+			this.eventExecutor = executor;
+			return this;
+		}
+
+		/**
+		 * Runs sends whose input implements {@link com.nexus.core.cqrs.Routable} on {@code partitions}
+		 * serial lanes, one per routing key hash, each on a virtual thread. Sends with the same key run
+		 * in send order; different keys run in parallel.
+		 */
+		public NexusContextBuilder partitionedCommands(int partitions) {
+			return partitionedCommands(partitions, null);
+		}
+
+		/**
+		 * Like {@link #partitionedCommands(int)}, with the lanes running on {@code executor}, e.g. a
+		 * fixed pool of workers.
+		 */
+		public NexusContextBuilder partitionedCommands(int partitions, Executor executor) {
+			if (partitions < 1) throw new IllegalArgumentException(String.format(
+																"Invalid partition count %d: at least one lane is required.",
+																partitions
+															));
+			this.partitions = partitions;
+			this.partitionExecutor = executor;
+			return this;
+		}
+
+		/**
+		 * Failed event deliveries go to {@code deadLetters} and are retried from there, instead of a
+		 * default queue holding 1024 letters with 5 attempts each. The async bus retries on the
+		 * handler's lane. The synchronous bus retries on virtual threads, one at a time per handler,
+		 * but a retry can overlap with a delivery from a publishing thread.
+		 */
+		public NexusContextBuilder deadLetterQueue(DeadLetterQueue deadLetters) {
+			if (deadLetters == null) throw new IllegalArgumentException(String.format(
+																"Invalid dead letter queue: null. " +
+																"Omit deadLetterQueue() to use the default one, or build one with DeadLetterQueue.builder()."
+															));
+			this.deadLetters = deadLetters;
+			return this;
+		}
+
+		/**
+		 * Appends every published event to {@code journal} before it is delivered. The context does
+		 * not close the journal.
+		 */
+		public NexusContextBuilder journal(Journal journal) {
+			if (journal == null) throw new IllegalArgumentException(String.format(
+																"Invalid journal: null. " +
+																"Open one with Journal.builder().directory(path).open(), or omit journal()."
+															));
+			this.journal = journal;
+			return this;
+		}
+
 		public NexusContextBuilder onlyCqrs() {
 			this.hasCqrsBus = true;
 			this.hasEventBus = false;
@@ -135,6 +313,19 @@ public class NexusContext {
 			return this;
 		}
 
+		public NexusContextBuilder parallelInstantiation() {
+			return parallelInstantiation(Runtime.getRuntime().availableProcessors());
+		}
+
+		public NexusContextBuilder parallelInstantiation(int threads) {
+			if (threads < 1) throw new IllegalArgumentException(String.format(
+																"Invalid parallel instantiation pool size %d: at least one thread is required.",
+																threads
+															));
+			this.bootThreads = threads;
+			return this;
+		}
+
 		private String[] getPkgs() {
 			return this.pkgs;
 		}
@@ -147,6 +338,38 @@ public class NexusContext {
 			return this.eventBus;
 		}
 
+		private EventBusFactory getEventBusFactory() {
+			return this.eventBusFactory;
+		}
+
+		private Executor getAsyncExecutor() {
+			return this.asyncExecutor;
+		}
+
+		private Executor getEventExecutor() {
+			return this.eventExecutor;
+		}
+
+		private DeadLetterQueue getDeadLetterQueue() {
+			return this.deadLetters;
+		}
+
+		private Journal getJournal() {
+			return this.journal;
+		}
+
+		private int getPartitions() {
+			return this.partitions;
+		}
+
+		private Executor getPartitionExecutor() {
+			return this.partitionExecutor;
+		}
+
+		private boolean hasAsyncEvents() {
+			return this.asyncEvents;
+		}
+
 		private boolean hasCqrsBus() {
 			return this.hasCqrsBus;
 		}
@@ -155,6 +378,10 @@ public class NexusContext {
 			return this.hasEventBus;
 		}
 
+		private int getBootThreads() {
+			return this.bootThreads;
+		}
+
 		public NexusContext build() {
 			return new NexusContext(this);
 		}
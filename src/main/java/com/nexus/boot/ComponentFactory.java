@@ -0,0 +1,6 @@
+package com.nexus.boot;
+
+@FunctionalInterface
+public interface ComponentFactory {
+	Object create(DependencyRegistry di);
+}
@@ -0,0 +1,106 @@
+package com.nexus.boot;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.nexus.core.annotations.Injectable;
+import com.nexus.core.annotations.WiringConfig;
+import com.nexus.core.cqrs.Command;
+import com.nexus.core.cqrs.PipelineBehavior;
+import com.nexus.core.cqrs.Query;
+import com.nexus.core.event.EventHandler;
+
+import io.github.classgraph.ScanResult;
+
+/**
+ * Components discovered for a NexusContext, either read from the compile-time index
+ * written by {@code ComponentIndexProcessor} or collected from a ClassGraph scan.
+ */
+public final class ComponentIndex {
+	public static final String INDEX_RESOURCE = "META-INF/nexus/components.idx";
+	public static final String PACKAGE_KEY = "package";
+	public static final String WIRING_KEY = "wiring";
+	public static final String DEPENDS_KEY = "depends";
+
+	private final Map<ComponentKind, List<Class<?>>> components;
+	private final Map<Class<?>, ComponentFactory> factories;
+	private final Map<String, List<String>> dependencies;
+	private final boolean indexed;
+
+	ComponentIndex(Map<ComponentKind, List<Class<?>>> components, Map<Class<?>, ComponentFactory> factories, Map<String, List<String>> dependencies, boolean indexed) {
+		Map<ComponentKind, List<Class<?>>> copy = new EnumMap<>(ComponentKind.class);
+		for (ComponentKind kind : ComponentKind.values()) {
+			copy.put(kind, List.copyOf(components.getOrDefault(kind, List.of())));
+		}
+		this.components = copy;
+		this.factories = Map.copyOf(factories);
+		this.dependencies = Map.copyOf(dependencies);
+		this.indexed = indexed;
+	}
+
+	static ComponentIndex fromScan(ScanResult sr) {
+		Map<ComponentKind, List<Class<?>>> components = new EnumMap<>(ComponentKind.class);
+		components.put(ComponentKind.INJECTABLE, sr.getClassesWithAnnotation(Injectable.class).loadClasses());
+		components.put(ComponentKind.WIRING_CONFIG, sr.getClassesWithAnnotation(WiringConfig.class).loadClasses());
+		components.put(ComponentKind.COMMAND, sr.getClassesImplementing(Command.class).loadClasses());
+		components.put(ComponentKind.QUERY, sr.getClassesImplementing(Query.class).loadClasses());
+		components.put(ComponentKind.EVENT_HANDLER, sr.getClassesImplementing(EventHandler.class).loadClasses());
+		components.put(ComponentKind.PIPELINE_BEHAVIOR, sr.getClassesImplementing(PipelineBehavior.class).filter(info -> !info.isAbstract()).loadClasses());
+		return new ComponentIndex(components, Map.of(), Map.of(), false);
+	}
+
+	public List<Class<?>> get(ComponentKind kind) {
+		return components.get(kind);
+	}
+
+	public List<Class<?>> getInjectables() {
+		return get(ComponentKind.INJECTABLE);
+	}
+
+	public List<Class<?>> getWiringConfigs() {
+		return get(ComponentKind.WIRING_CONFIG);
+	}
+
+	public List<Class<?>> getCommands() {
+		return get(ComponentKind.COMMAND);
+	}
+
+	public List<Class<?>> getQueries() {
+		return get(ComponentKind.QUERY);
+	}
+
+	public List<Class<?>> getEventHandlers() {
+		return get(ComponentKind.EVENT_HANDLER);
+	}
+
+	public List<Class<?>> getPipelineBehaviors() {
+		return get(ComponentKind.PIPELINE_BEHAVIOR);
+	}
+
+	public List<Class<?>> getAllComponents() {
+		Set<Class<?>> all = new LinkedHashSet<>();
+		components.values().forEach(all::addAll);
+		return new ArrayList<>(all);
+	}
+
+	public ComponentFactory getFactory(Class<?> clazz) {
+		return factories.get(clazz);
+	}
+
+	/**
+	 * Binary names of the {@code @Inject} constructor parameter types recorded at compile time, or
+	 * null when the class was not indexed with them and its constructor has to be reflected on.
+	 */
+	public List<String> getDependencyNames(Class<?> clazz) {
+		return dependencies.get(clazz.getName());
+	}
+
+	public boolean isIndexed() {
+		return indexed;
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.nexus.boot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.nexus.exceptions.RegistryResolutionException;
+
+final class ComponentIndexLoader {
+
+	private ComponentIndexLoader() {}
+
+	/**
+	 * Returns null, so the caller scans, unless every classpath root holding one of {@code pkgs} has
+	 * an index. A jar without one, or classes compiled without the processor, would otherwise be
+	 * dropped silently.
+	 */
+	static ComponentIndex load(ClassLoader loader, String[] pkgs) {
+		Map<ComponentKind, Set<String>> entries = new EnumMap<>(ComponentKind.class);
+		Set<String> wirings = new TreeSet<>();
+		Map<String, List<String>> dependencies = new HashMap<>();
+		Set<String> indexedRoots = new HashSet<>();
+		for (URL url : getResources(loader, ComponentIndex.INDEX_RESOURCE)) {
+			indexedRoots.add(getRoot(url, ComponentIndex.INDEX_RESOURCE));
+			readIndex(url, entries, wirings, dependencies);
+		}
+		if (indexedRoots.isEmpty() || !coversAll(loader, indexedRoots, pkgs)) return null;
+
+		Map<ComponentKind, List<Class<?>>> components = new EnumMap<>(ComponentKind.class);
+		entries.forEach((kind, names) -> components.put(kind, loadClasses(loader, names, pkgs)));
+		Map<Class<?>, ComponentFactory> factories = new HashMap<>();
+		wirings.forEach(name -> instantiateWiring(loader, name).register(factories));
+		return new ComponentIndex(components, factories, dependencies, true);
+	}
+
+	private static List<URL> getResources(ClassLoader loader, String name) {
+		try {
+			return Collections.list(loader.getResources(name));
+		} catch (IOException e) {
+			throw new RegistryResolutionException(String.format(
+													"Cannot look up %s on the classpath: %s",
+													name,
+													e.getMessage()
+												), e);
+		}
+	}
+
+	private static void readIndex(URL url, Map<ComponentKind, Set<String>> entries, Set<String> wirings, Map<String, List<String>> dependencies) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				int separator = line.indexOf('=');
+				if (line.isEmpty() || line.startsWith("#") || separator < 0) continue;
+				String key = line.substring(0, separator);
+				String value = line.substring(separator + 1);
+				if (ComponentIndex.WIRING_KEY.equals(key)) {
+					wirings.add(value);
+					continue;
+				}
+				if (ComponentIndex.DEPENDS_KEY.equals(key)) {
+					readDependencies(value, dependencies);
+					continue;
+				}
+				ComponentKind kind = ComponentKind.fromKey(key);
+				if (kind != null) entries.computeIfAbsent(kind, k -> new TreeSet<>()).add(value);
+			}
+		} catch (IOException e) {
+			throw new RegistryResolutionException(String.format(
+													"Cannot read component index %s: %s",
+													url,
+													e.getMessage()
+												), e);
+		}
+	}
+
+	// "<class>:<dependency>,<dependency>", with nothing after the colon for no-arg constructors
+	private static void readDependencies(String value, Map<String, List<String>> dependencies) {
+		int separator = value.indexOf(':');
+		if (separator < 0) return;
+		String names = value.substring(separator + 1);
+		dependencies.put(value.substring(0, separator), names.isEmpty() ? List.of() : List.of(names.split(",")));
+	}
+
+	private static boolean coversAll(ClassLoader loader, Set<String> indexedRoots, String[] pkgs) {
+		for (String pkg : pkgs) {
+			String path = pkg.replace('.', '/');
+			List<URL> locations = getResources(loader, path);
+			// Jars without directory entries do not show up here, only a scan can tell what they hold
+			if (locations.isEmpty()) return false;
+			for (URL location : locations) {
+				if (!indexedRoots.contains(getRoot(location, path))) return false;
+			}
+		}
+		return true;
+	}
+
+	// The classpath root a resource was found in, e.g. "jar:file:/app.jar!/" or "file:/app/classes/"
+	private static String getRoot(URL url, String resource) {
+		String location = url.toString();
+		if (location.endsWith("/")) location = location.substring(0, location.length() - 1);
+		return location.endsWith(resource) ? location.substring(0, location.length() - resource.length()) : location;
+	}
+
+	private static List<Class<?>> loadClasses(ClassLoader loader, Set<String> names, String[] pkgs) {
+		List<Class<?>> classes = new ArrayList<>();
+		for (String name : names) {
+			int lastDot = name.lastIndexOf('.');
+			String pkgOfClass = lastDot < 0 ? "" : name.substring(0, lastDot);
+			for (String pkg : pkgs) {
+				if (isInPackage(pkgOfClass, pkg)) {
+					classes.add(loadClass(loader, name));
+					break;
+				}
+			}
+		}
+		return classes;
+	}
+
+	private static Class<?> loadClass(ClassLoader loader, String name) {
+		try {
+			return Class.forName(name, false, loader);
+		} catch (ClassNotFoundException | LinkageError e) {
+			throw new RegistryResolutionException(String.format(
+													"Component index lists class %s but it cannot be loaded. " +
+													"The index (%s) is probably stale; rebuild the project so the annotation processor regenerates it.",
+													name,
+													ComponentIndex.INDEX_RESOURCE
+												), e);
+		}
+	}
+
+	private static ComponentWiring instantiateWiring(ClassLoader loader, String name) {
+		Class<?> wiringClass = loadClass(loader, name);
+		if (!ComponentWiring.class.isAssignableFrom(wiringClass)) throw new RegistryResolutionException(String.format(
+																	"Component index declares %s as wiring class, but it does not implement %s. " +
+																	"Rebuild the project so the annotation processor regenerates the index.",
+																	name,
+																	ComponentWiring.class.getSimpleName()
+																));
+		try {
+			return (ComponentWiring) wiringClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new RegistryResolutionException(String.format(
+													"Cannot instantiate generated wiring class %s: %s",
+													name,
+													e.getClass().getSimpleName()
+												), e);
+		}
+	}
+
+	private static boolean isInPackage(String candidate, String pkg) {
+		return candidate.equals(pkg) || candidate.startsWith(pkg + ".");
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.nexus.boot;
+
+public enum ComponentKind {
+	INJECTABLE("injectable"),
+	WIRING_CONFIG("wiring-config"),
+	COMMAND("command"),
+	QUERY("query"),
+	EVENT_HANDLER("event-handler"),
+	PIPELINE_BEHAVIOR("pipeline-behavior");
+
+	private final String key;
+
+	ComponentKind(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public static ComponentKind fromKey(String key) {
+		for (ComponentKind kind : values()) {
+			if (kind.key.equals(key)) return kind;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,11 @@
+package com.nexus.boot;
+
+import java.util.Map;
+
+/**
+ * Implemented by the wiring classes that {@code ComponentIndexProcessor} generates. Each one
+ * registers a factory per component that calls its {@code @Inject} constructor directly.
+ */
+public interface ComponentWiring {
+	void register(Map<Class<?>, ComponentFactory> factories);
+}
@@ -1,42 +1,71 @@
 package com.nexus.boot;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
+import com.nexus.core.annotations.Bulkhead;
+import com.nexus.core.annotations.Cached;
+import com.nexus.core.annotations.Coalesce;
+import com.nexus.core.annotations.Timeout;
+import com.nexus.core.cqrs.Batch;
+import com.nexus.core.cqrs.BatchCommand;
 import com.nexus.core.cqrs.Command;
+import com.nexus.core.cqrs.ConcurrencyLimiter;
+import com.nexus.core.cqrs.Deadline;
 import com.nexus.core.cqrs.Handler;
+import com.nexus.core.cqrs.PipelineBehavior;
 import com.nexus.core.cqrs.Query;
+import com.nexus.core.cqrs.QueryCache;
+import com.nexus.core.cqrs.SingleFlight;
+import com.nexus.core.event.DomainEvent;
 import com.nexus.exceptions.RegistryResolutionException;
 import com.nexus.util.ClassValidator;
 
-import io.github.classgraph.ScanResult;
-
 public final class CqrsHandlersRegistry implements Registry<CqrsHandlersRegistry> {
+	private static final Comparator<PipelineBehavior> BY_ORDER = Comparator
+		.comparingInt(PipelineBehavior::order)
+		.thenComparing(behavior -> behavior.getClass().getName());
 
 	private Map<Class<?>, Query<?, ?>> queries = new HashMap<>();
 	private Map<Class<?>, Command<?, ?>> commands = new HashMap<>();
 	private Map<Class<?>, Handler<?, ?>> handlers = new HashMap<>();
+	private List<PipelineBehavior> behaviors = List.of();
+	private Map<Class<?>, QueryCache<?, ?>> caches = Map.of();
+	private Map<Class<?>, ConcurrencyLimiter<?, ?>> bulkheads = Map.of();
+	private ClassValue<Handler<?, ?>> lookup = newLookup(handlers);
+	private ClassValue<Handler<?, ?>> pipelines = newPipelineLookup(handlers);
+	private ClassValue<QueryCache<?, ?>[]> invalidations = newInvalidations(caches);
+	private final Set<EventHandlersRegistry> boundEventRegistries = Collections.newSetFromMap(new WeakHashMap<>());
 
 	protected CqrsHandlersRegistry() {}
 
 	@Override
 	public CqrsHandlersRegistry registry(Object... args) {
-		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ScanResult.class});
+		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ComponentIndex.class});
 		DependencyRegistry di = ClassValidator.cast(args[0], DependencyRegistry.class);
-		ScanResult sr = ClassValidator.cast(args[1], ScanResult.class);
-		initRegistry(di, sr);
+		ComponentIndex components = ClassValidator.cast(args[1], ComponentIndex.class);
+		initRegistry(di, components);
 		fillHandlers();
 		return this;
 	}
 
-	private void initRegistry(DependencyRegistry di, ScanResult sr) {
-		List<Class<?>> cmdClasses = sr.getClassesImplementing(Command.class).loadClasses();
-		List<Class<?>> queryClasses = sr.getClassesImplementing(Query.class).loadClasses();
-
-		cmdClasses.forEach(clazz -> commands.put(clazz, (Command <?, ?>) DependencyResolver.resolve(di, clazz)));
-		queryClasses.forEach(clazz -> queries.put(clazz, (Query<?, ?>) DependencyResolver.resolve(di, clazz)));
+	private void initRegistry(DependencyRegistry di, ComponentIndex components) {
+		List<Class<?>> cmdClasses = components.getCommands();
+		List<Class<?>> queryClasses = components.getQueries();
 
+		cmdClasses.forEach(clazz -> commands.put(clazz, (Command <?, ?>) DependencyResolver.resolve(di, clazz, components.getFactory(clazz))));
+		queryClasses.forEach(clazz -> queries.put(clazz, (Query<?, ?>) DependencyResolver.resolve(di, clazz, components.getFactory(clazz))));
+		behaviors = components.getPipelineBehaviors().stream()
+			.map(clazz -> (PipelineBehavior) DependencyResolver.resolve(di, clazz, components.getFactory(clazz)))
+			.sorted(BY_ORDER)
+			.toList();
 	}
 
 	private void fillHandlers() {
@@ -45,11 +74,111 @@ public final class CqrsHandlersRegistry implements Registry<CqrsHandlersRegistry
 		tmp.putAll(commands);
 		tmp.putAll(queries);
 		handlers = Map.copyOf(tmp);
+		lookup = newLookup(handlers);
+		Map<Class<?>, QueryCache<?, ?>> tmpCaches = new HashMap<>();
+		Map<Class<?>, ConcurrencyLimiter<?, ?>> tmpBulkheads = new HashMap<>();
+		Map<Class<?>, Handler<?, ?>> decorated = decorateHandlers(handlers, tmpCaches, tmpBulkheads);
+		caches = Map.copyOf(tmpCaches);
+		invalidations = newInvalidations(caches);
+		bulkheads = Map.copyOf(tmpBulkheads);
+		pipelines = newPipelineLookup(linkPipelines(handlers, decorated, behaviors));
 		}
 	}
 
+	/**
+	 * Wraps handlers in their annotated decorators, from the inside out: bulkhead, single-flight,
+	 * cache and timeout. Cache hits never take a bulkhead slot, only misses are coalesced and the
+	 * timeout covers the wait for a slot.
+	 */
+	private static Map<Class<?>, Handler<?, ?>> decorateHandlers(Map<Class<?>, Handler<?, ?>> handlers, Map<Class<?>, QueryCache<?, ?>> caches, Map<Class<?>, ConcurrencyLimiter<?, ?>> bulkheads) {
+		Map<Class<?>, Handler<?, ?>> decorated = new HashMap<>();
+		handlers.forEach((handlerClass, handler) -> {
+			Bulkhead bulkhead = handlerClass.getAnnotation(Bulkhead.class);
+			Coalesce coalesce = handlerClass.getAnnotation(Coalesce.class);
+			Cached cached = handlerClass.getAnnotation(Cached.class);
+			Timeout timeout = handlerClass.getAnnotation(Timeout.class);
+			if (bulkhead == null && coalesce == null && cached == null && timeout == null) return;
+			if ((coalesce != null || cached != null) && !(handler instanceof Query<?, ?>)) throw new RegistryResolutionException(String.format(
+																			"@%s is not supported on %s: only Query handlers can be cached or coalesced. " +
+																			"Commands change state and must run on every send.",
+																			cached != null ? "Cached" : "Coalesce",
+																			handlerClass.getSimpleName()
+																		));
+			Handler<?, ?> inner = batchAware(handler);
+			if (bulkhead != null) {
+				ConcurrencyLimiter<?, ?> limiter = newLimiter(handlerClass, inner, bulkhead);
+				bulkheads.put(handlerClass, limiter);
+				inner = limiter;
+			}
+			if (coalesce != null) inner = new SingleFlight<>(inner);
+			if (cached != null) {
+				QueryCache<?, ?> cache = new QueryCache<>(inner, cached.maxSize(), Duration.of(cached.ttl(), cached.unit().toChronoUnit()));
+				caches.put(handlerClass, cache);
+				inner = cache;
+			}
+			if (timeout != null) inner = withTimeout(inner, Duration.of(timeout.value(), timeout.unit().toChronoUnit()));
+			decorated.put(handlerClass, inner);
+		});
+		return decorated;
+	}
+
+	private static <C, R> Handler<C, R> withTimeout(Handler<C, R> handler, Duration timeout) {
+		return input -> Deadline.after(timeout).call(() -> handler.handle(input));
+	}
+
+	private static ConcurrencyLimiter<?, ?> newLimiter(Class<?> handlerClass, Handler<?, ?> handler, Bulkhead bulkhead) {
+		Duration maxWait = Duration.of(bulkhead.maxWait(), bulkhead.unit().toChronoUnit());
+		if (!bulkhead.adaptive()) return new ConcurrencyLimiter<>(handler, handlerClass.getSimpleName(), bulkhead.maxConcurrent(), maxWait);
+		Duration threshold = Duration.of(bulkhead.latencyThreshold(), bulkhead.unit().toChronoUnit());
+		return new ConcurrencyLimiter<>(handler, handlerClass.getSimpleName(), bulkhead.minConcurrent(), bulkhead.maxConcurrent(), maxWait, threshold);
+	}
+
+	/**
+	 * Links the behaviors that apply to each handler into a fixed chain ending in the handler, or in
+	 * its decorated form for cached and coalesced queries, so sending only walks pre-built links.
+	 * Handlers without either are their own pipeline. A wrapped {@link BatchCommand} ends in an
+	 * adapter that hands a {@link Batch} to {@code handleAll}.
+	 */
+	private static Map<Class<?>, Handler<?, ?>> linkPipelines(Map<Class<?>, Handler<?, ?>> handlers, Map<Class<?>, Handler<?, ?>> decorated, List<PipelineBehavior> behaviors) {
+		if (behaviors.isEmpty() && decorated.isEmpty()) return handlers;
+		Map<Class<?>, Handler<?, ?>> linked = HashMap.newHashMap(handlers.size());
+		handlers.forEach((handlerClass, handler) -> {
+			@SuppressWarnings("unchecked")
+			Handler<Object, Object> next = (Handler<Object, Object>) decorated.getOrDefault(handlerClass, batchAware(handler));
+			for (int i = behaviors.size() - 1; i >= 0; i--) {
+				PipelineBehavior behavior = behaviors.get(i);
+				if (behavior.appliesTo(handlerClass)) next = new Link(behavior, handlerClass, next);
+			}
+			linked.put(handlerClass, next);
+		});
+		return Map.copyOf(linked);
+	}
+
+	private static Handler<?, ?> batchAware(Handler<?, ?> handler) {
+		return handler instanceof BatchCommand<?, ?> command ? new BatchHandler(command) : handler;
+	}
+
+	private static ClassValue<Handler<?, ?>> newLookup(Map<Class<?>, Handler<?, ?>> handlers) {
+		return new ClassValue<>() {
+			@Override
+			protected Handler<?, ?> computeValue(Class<?> type) {
+				return (Handler<?, ?>) type.cast(handlers.get(type));
+			}
+		};
+	}
+
+	private static ClassValue<Handler<?, ?>> newPipelineLookup(Map<Class<?>, Handler<?, ?>> pipelines) {
+		return new ClassValue<>() {
+			@Override
+			protected Handler<?, ?> computeValue(Class<?> type) {
+				return pipelines.get(type);
+			}
+		};
+	}
+
 	public <C, R, T extends Handler<C, R>> T getCQRSHandler(Class<T> handlerClass) {
-		T cmd = handlerClass.cast(handlers.get(handlerClass));
+		@SuppressWarnings("unchecked")
+		T cmd = (T) lookup.get(handlerClass);
 		if(cmd == null) throw new RegistryResolutionException(String.format(
 																"CQRS handler not found: no handler of type %s is registered. " +
 																"Ensure the class implements Command<T, R> or Query<T, R>, is annotated with @Inject, " +
@@ -59,4 +188,135 @@ public final class CqrsHandlersRegistry implements Registry<CqrsHandlersRegistry
 		return cmd;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * The handler wrapped in every behavior that applies to it, or the handler itself when none does.
+	 */
+	public <C, R, T extends Handler<C, R>> Handler<C, R> getPipeline(Class<T> handlerClass) {
+		@SuppressWarnings("unchecked")
+		Handler<C, R> pipeline = (Handler<C, R>) pipelines.get(handlerClass);
+		if(pipeline == null) throw new RegistryResolutionException(String.format(
+																"CQRS handler not found: no handler of type %s is registered. " +
+																"Ensure the class implements Command<T, R> or Query<T, R>, is annotated with @Inject, " +
+																"and is located in a package being scanned by NexusContext.",
+																handlerClass.getSimpleName()
+															));
+		return pipeline;
+	}
+
+	public List<PipelineBehavior> getPipelineBehaviors() {
+		return behaviors;
+	}
+
+	/**
+	 * The result cache of a {@code @Cached} query, e.g. to read its statistics.
+	 */
+	@SuppressWarnings("unchecked")
+	public <C, R, T extends Query<C, R>> QueryCache<C, R> getQueryCache(Class<T> queryClass) {
+		QueryCache<C, R> cache = (QueryCache<C, R>) caches.get(queryClass);
+		if(cache == null) throw new RegistryResolutionException(String.format(
+																"No query cache registered for %s. " +
+																"Annotate the Query handler with @Cached to cache its results.",
+																queryClass.getSimpleName()
+															));
+		return cache;
+	}
+
+	/**
+	 * The concurrency limiter of a {@code @Bulkhead} handler, e.g. to read its current limit and
+	 * rejection count.
+	 */
+	@SuppressWarnings("unchecked")
+	public <C, R, T extends Handler<C, R>> ConcurrencyLimiter<C, R> getBulkhead(Class<T> handlerClass) {
+		ConcurrencyLimiter<C, R> bulkhead = (ConcurrencyLimiter<C, R>) bulkheads.get(handlerClass);
+		if(bulkhead == null) throw new RegistryResolutionException(String.format(
+																"No bulkhead registered for %s. " +
+																"Annotate the handler with @Bulkhead to limit its concurrency.",
+																handlerClass.getSimpleName()
+															));
+		return bulkhead;
+	}
+
+	/**
+	 * Subscribes the caches of queries declaring {@code @Cached(invalidateOn = ...)} to those events, so
+	 * publishing one of them clears the cache. Binding the same registry again does nothing.
+	 */
+	public void bindCacheInvalidation(EventHandlersRegistry events) {
+		synchronized (boundEventRegistries) {
+			if (!boundEventRegistries.add(events)) return;
+		}
+		caches.forEach((queryClass, cache) -> {
+			for (Class<? extends DomainEvent> eventType : queryClass.getAnnotation(Cached.class).invalidateOn()) {
+				events.subscribe(eventType, event -> cache.invalidateAll());
+			}
+		});
+	}
+
+	/**
+	 * True when some {@code @Cached} query is cleared by events.
+	 */
+	public boolean hasCacheInvalidation() {
+		return caches.keySet().stream().anyMatch(queryClass -> queryClass.getAnnotation(Cached.class).invalidateOn().length > 0);
+	}
+
+	/**
+	 * Clears the caches invalidated by {@code eventType} or one of its supertypes, for event buses
+	 * that do not deliver through an {@link EventHandlersRegistry} bound with
+	 * {@link #bindCacheInvalidation(EventHandlersRegistry)}.
+	 */
+	public void invalidateCaches(Class<?> eventType) {
+		for (QueryCache<?, ?> cache : invalidations.get(eventType)) {
+			cache.invalidateAll();
+		}
+	}
+
+	private static ClassValue<QueryCache<?, ?>[]> newInvalidations(Map<Class<?>, QueryCache<?, ?>> caches) {
+		return new ClassValue<>() {
+			@Override
+			protected QueryCache<?, ?>[] computeValue(Class<?> eventType) {
+				List<QueryCache<?, ?>> matching = new ArrayList<>();
+				caches.forEach((queryClass, cache) -> {
+					for (Class<? extends DomainEvent> invalidating : queryClass.getAnnotation(Cached.class).invalidateOn()) {
+						if (invalidating.isAssignableFrom(eventType)) {
+							matching.add(cache);
+							break;
+						}
+					}
+				});
+				return matching.toArray(QueryCache<?, ?>[]::new);
+			}
+		};
+	}
+
+	private static final class Link implements Handler<Object, Object> {
+		private final PipelineBehavior behavior;
+		private final Class<?> handlerClass;
+		private final Handler<Object, Object> next;
+
+		private Link(PipelineBehavior behavior, Class<?> handlerClass, Handler<Object, Object> next) {
+			this.behavior = behavior;
+			this.handlerClass = handlerClass;
+			this.next = next;
+		}
+
+		@Override
+		public Object handle(Object input) {
+			return behavior.handle(handlerClass, input, next);
+		}
+	}
+
+	private static final class BatchHandler implements Handler<Object, Object> {
+		private final BatchCommand<Object, Object> command;
+
+		@SuppressWarnings("unchecked")
+		private BatchHandler(BatchCommand<?, ?> command) {
+			this.command = (BatchCommand<Object, Object>) command;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Object handle(Object input) {
+			return input instanceof Batch<?> batch ? command.handleAll((List<Object>) batch.inputs()) : command.handle(input);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.nexus.boot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.nexus.exceptions.CircularDependencyException;
+
+/**
+ * Dependency DAG between components, built from the parameter types of their {@code @Inject}
+ * constructors. Parameter types outside the graph (e.g. {@code @Managed} beans) are expected to
+ * be registered already and do not create edges.
+ * <p>
+ * With a compile-time index the parameter types come from the index; only components the
+ * processor could not wire are reflected on.
+ */
+public final class DependencyGraph {
+	private final Map<Class<?>, List<Class<?>>> dependencies;
+
+	private DependencyGraph(Map<Class<?>, List<Class<?>>> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	public static DependencyGraph of(Collection<Class<?>> nodes) {
+		Set<Class<?>> nodeSet = new HashSet<>(nodes);
+		Map<Class<?>, List<Class<?>>> dependencies = new LinkedHashMap<>();
+		for (Class<?> node : nodes) {
+			List<Class<?>> internal = Arrays.stream(DependencyResolver.getDependencies(node))
+				.filter(nodeSet::contains)
+				.distinct()
+				.toList();
+			dependencies.put(node, internal);
+		}
+		return new DependencyGraph(dependencies);
+	}
+
+	public static DependencyGraph of(Collection<Class<?>> nodes, ComponentIndex components) {
+		Map<String, Class<?>> byName = HashMap.newHashMap(nodes.size());
+		nodes.forEach(node -> byName.put(node.getName(), node));
+		Map<Class<?>, List<Class<?>>> dependencies = new LinkedHashMap<>();
+		for (Class<?> node : nodes) {
+			List<String> names = components.getDependencyNames(node);
+			Stream<Class<?>> deps = names == null
+				? Arrays.stream(DependencyResolver.getDependencies(node)).filter(dep -> byName.get(dep.getName()) == dep)
+				: names.stream().<Class<?>>map(byName::get).filter(Objects::nonNull);
+			dependencies.put(node, deps.distinct().toList());
+		}
+		return new DependencyGraph(dependencies);
+	}
+
+	public List<Class<?>> getDependencies(Class<?> node) {
+		return dependencies.getOrDefault(node, List.of());
+	}
+
+	public int size() {
+		return dependencies.size();
+	}
+
+	/**
+	 * Splits the graph into layers whose members only depend on earlier layers, so every member of a
+	 * layer can be instantiated at the same time. Members of a layer are sorted with {@code order}.
+	 */
+	public List<List<Class<?>>> getLayers(Comparator<Class<?>> order) {
+		Map<Class<?>, Integer> pending = new HashMap<>();
+		Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+		List<Class<?>> current = new ArrayList<>();
+		dependencies.forEach((node, deps) -> {
+			pending.put(node, deps.size());
+			deps.forEach(dep -> dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(node));
+			if (deps.isEmpty()) current.add(node);
+		});
+
+		List<List<Class<?>>> layers = new ArrayList<>();
+		int placed = 0;
+		List<Class<?>> layer = current;
+		while (!layer.isEmpty()) {
+			layer.sort(order);
+			layers.add(List.copyOf(layer));
+			placed += layer.size();
+			List<Class<?>> next = new ArrayList<>();
+			for (Class<?> node : layer) {
+				for (Class<?> dependent : dependents.getOrDefault(node, List.of())) {
+					if (pending.merge(dependent, -1, Integer::sum) == 0) next.add(dependent);
+				}
+			}
+			layer = next;
+		}
+
+		if (placed != dependencies.size()) throw new CircularDependencyException(String.format(
+																"Circular dependency detected: %s. " +
+																"Break the cycle so every @Inject constructor only depends on components that can be created first.",
+																describeCycle(pending)
+															));
+		return layers;
+	}
+
+	private String describeCycle(Map<Class<?>, Integer> pending) {
+		// Every node left with pending dependencies depends on another such node, so walking them must loop
+		Class<?> start = pending.entrySet().stream()
+			.filter(e -> e.getValue() > 0)
+			.map(Map.Entry::getKey)
+			.min(Comparator.comparing(Class::getName))
+			.orElseThrow();
+		List<Class<?>> path = new ArrayList<>();
+		Class<?> current = start;
+		while (!path.contains(current)) {
+			path.add(current);
+			current = dependencies.get(current).stream()
+				.filter(dep -> pending.get(dep) > 0)
+				.findFirst()
+				.orElseThrow();
+		}
+		List<Class<?>> cycle = new ArrayList<>(path.subList(path.indexOf(current), path.size()));
+		cycle.add(current);
+		return cycle.stream().map(Class::getSimpleName).collect(Collectors.joining(" -> "));
+	}
+
+}
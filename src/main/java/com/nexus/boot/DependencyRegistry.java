@@ -1,19 +1,42 @@
 package com.nexus.boot;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.nexus.exceptions.DependencyNotFoundException;
 import com.nexus.exceptions.InvalidRegistryEntryException;
 import com.nexus.util.ClassValidator;
 
+/**
+ * Immutable by default: {@link #registry(Object...)} returns a new registry with the combined entries.
+ * During boot, {@link #boot()} gives a registry that collects entries in place instead of copying them
+ * on every call, and {@link #freeze()} turns it into an immutable registry once boot is done.
+ */
 public final class DependencyRegistry implements Registry<DependencyRegistry> {
 	private Map<Class<?>, Object> instances = Map.of();
+	private final boolean booting;
+	private final ClassValue<Object> lookup = new ClassValue<>() {
+		@Override
+		protected Object computeValue(Class<?> type) {
+			// Checked once per class, so get() can skip Class.cast on the hot path
+			return type.cast(instances.get(type));
+		}
+	};
 
-	protected DependencyRegistry() {}
+	protected DependencyRegistry() {
+		this.booting = false;
+	}
 
 	private DependencyRegistry(Map<Class<?>, Object> init) {
-		if (init != null && !init.isEmpty()) this.instances = Map.copyOf(init);
+		this(init, false);
+	}
+
+	private DependencyRegistry(Map<Class<?>, Object> init, boolean booting) {
+		this.booting = booting;
+		if (booting) this.instances = new ConcurrentHashMap<>(init);
+		else if (init != null && !init.isEmpty()) this.instances = Map.copyOf(init);
 	}
 
 	@Override
@@ -30,9 +53,25 @@ public final class DependencyRegistry implements Registry<DependencyRegistry> {
 		}
 		@SuppressWarnings("unchecked")
 		Map<Class<?>, Object> typedMap = (Map<Class<?>, Object>) map;
+		if (this.booting) {
+			this.instances.putAll(typedMap);
+			return this;
+		}
 		return new DependencyRegistry(combine(this.instances, typedMap));
 	}
 
+	public DependencyRegistry boot() {
+		return new DependencyRegistry(this.instances, true);
+	}
+
+	public DependencyRegistry freeze() {
+		return this.booting ? new DependencyRegistry(this.instances) : this;
+	}
+
+	public boolean isBooting() {
+		return this.booting;
+	}
+
 	private Map<Class<?>, Object> combine(Map<Class<?>, Object> a, Map<Class<?>, Object> b) {
 		Map<Class<?>, Object> combined = new HashMap<>(a);
 		combined.putAll(b);
@@ -40,18 +79,22 @@ public final class DependencyRegistry implements Registry<DependencyRegistry> {
 	}
 
 	public <T> T get(Class<T> clazz) {
-		Object instance = instances.get(clazz);
+		// Immutable registries cache each instance on its Class key; booting ones still change
+		Object instance = this.booting ? instances.get(clazz) : lookup.get(clazz);
 		if (instance == null) throw new DependencyNotFoundException(String.format(
 																		"Dependency not found: no instance of %s is registered in the dependency registry. " +
 																		"Make sure the class is annotated with @Injectable or registered via @Managed, " +
 																		"and that it's in a package being scanned by NexusContext.",
 																		clazz.getSimpleName()
 																	));
-		return clazz.cast(instance);
+		if (this.booting) return clazz.cast(instance);
+		@SuppressWarnings("unchecked")
+		T typed = (T) instance;
+		return typed;
 	}
 
 	public Map<Class<?>, Object> getInstances() {
-		return instances;
+		return this.booting ? Collections.unmodifiableMap(instances) : instances;
 	}
 
 }
@@ -7,6 +7,7 @@ import java.util.List;
 
 import com.nexus.core.annotations.Inject;
 import com.nexus.exceptions.DependencyInstantiationException;
+import com.nexus.exceptions.NexusException;
 
 public final class DependencyResolver {
 
@@ -14,15 +15,7 @@ public final class DependencyResolver {
 
 	public static Object resolve(DependencyRegistry di, Class<?> clazz) {
 		
-		List<Constructor<?>> annotatedConstructors = getAnnotatedConstructors(clazz);
-		hasMultipleAnnotatedConstructors(annotatedConstructors);
-		if (annotatedConstructors.isEmpty()) throw new DependencyInstantiationException(String.format(
-																							"No constructor annotated with @Inject found in class %s. " +
-																							"Add @Inject annotation to exactly one public constructor to enable dependency injection.",
-																							clazz.getSimpleName()
-																						));
-
-		Constructor<?> ctor = annotatedConstructors.get(0);
+		Constructor<?> ctor = getInjectConstructor(clazz);
 		Class<?>[] deps = ctor.getParameterTypes();
 		Object[] depInstances = new Object[deps.length];
 
@@ -54,6 +47,36 @@ public final class DependencyResolver {
 		}
 	}
 
+	public static Object resolve(DependencyRegistry di, Class<?> clazz, ComponentFactory factory) {
+		if (factory == null) return resolve(di, clazz);
+		try {
+			return clazz.cast(factory.create(di));
+		} catch (NexusException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new DependencyInstantiationException(String.format(
+														"Constructor invocation failed for class %s through its generated wiring factory. " +
+														"Check that the constructor logic doesn't throw exceptions and all dependencies are properly configured.",
+														clazz.getSimpleName()
+													), e);
+		}
+	}
+
+	public static Class<?>[] getDependencies(Class<?> clazz) {
+		return getInjectConstructor(clazz).getParameterTypes();
+	}
+
+	private static Constructor<?> getInjectConstructor(Class<?> clazz) {
+		List<Constructor<?>> annotatedConstructors = getAnnotatedConstructors(clazz);
+		hasMultipleAnnotatedConstructors(annotatedConstructors);
+		if (annotatedConstructors.isEmpty()) throw new DependencyInstantiationException(String.format(
+																							"No constructor annotated with @Inject found in class %s. " +
+																							"Add @Inject annotation to exactly one public constructor to enable dependency injection.",
+																							clazz.getSimpleName()
+																						));
+		return annotatedConstructors.get(0);
+	}
+
 	private static List<Constructor<?>> getAnnotatedConstructors(Class<?> clazz) {
 		return Arrays.stream(clazz.getConstructors()).filter(con -> con.isAnnotationPresent(Inject.class)).toList();
 	}
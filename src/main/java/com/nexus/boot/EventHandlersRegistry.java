@@ -3,35 +3,39 @@ package com.nexus.boot;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import com.nexus.core.event.BatchEventHandler;
+import com.nexus.core.event.DeadLetterQueue;
 import com.nexus.core.event.DomainEvent;
 import com.nexus.core.event.EventHandler;
 import com.nexus.exceptions.RegistryResolutionException;
 import com.nexus.util.ClassValidator;
 
-import io.github.classgraph.ScanResult;
-
+/**
+ * Handlers subscribe to the type argument of their {@code EventHandler}, which may be a supertype or
+ * interface of the published events. The handlers of each concrete event class are resolved once,
+ * in registration order, into an immutable dispatch plan cached on the class.
+ */
 public final class EventHandlersRegistry implements Registry<EventHandlersRegistry> {
 
-	private Map<Class<?>, List<EventHandler<?>>> handlersMap = new HashMap<>();
+	private final List<Subscription> subscriptions = new ArrayList<>();
+	private volatile ClassValue<DispatchPlan> plans = newPlans(List.of());
 
 	@Override
 	public EventHandlersRegistry registry(Object... args) {
-		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ScanResult.class});
+		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ComponentIndex.class});
 		DependencyRegistry di = ClassValidator.cast(args[0], DependencyRegistry.class);
-		ScanResult sr = ClassValidator.cast(args[1], ScanResult.class);
-		initRegistry(di, sr);
+		ComponentIndex components = ClassValidator.cast(args[1], ComponentIndex.class);
+		initRegistry(di, components);
+		plans = newPlans(List.copyOf(subscriptions));
 		return this;
 	}
 	
-	public void initRegistry(DependencyRegistry di, ScanResult sr) {
-		List<Class<?>> eventHandlersClasses = sr.getClassesImplementing(EventHandler.class).loadClasses();
+	public void initRegistry(DependencyRegistry di, ComponentIndex components) {
+		List<Class<?>> eventHandlersClasses = components.getEventHandlers();
 		eventHandlersClasses.forEach(clazz -> {
-			EventHandler<?> handler = (EventHandler<?>) DependencyResolver.resolve(di, clazz);
+			EventHandler<?> handler = (EventHandler<?>) DependencyResolver.resolve(di, clazz, components.getFactory(clazz));
 			
 			Class<?> eventType = extractEventType(clazz);
 			addHandler(eventType, handler);
@@ -42,7 +46,7 @@ public final class EventHandlersRegistry implements Registry<EventHandlersRegist
 		return Arrays.stream(handlerClass.getGenericInterfaces())
 			.filter(ParameterizedType.class::isInstance)
 			.map(ParameterizedType.class::cast)
-			.filter(pt -> pt.getRawType().equals(EventHandler.class))
+			.filter(pt -> pt.getRawType().equals(EventHandler.class) || pt.getRawType().equals(BatchEventHandler.class))
 			.findFirst()
 			.map(pt -> (Class<?>) pt.getActualTypeArguments()[0])
 			.orElseThrow(() -> new RegistryResolutionException(String.format(
@@ -53,14 +57,115 @@ public final class EventHandlersRegistry implements Registry<EventHandlersRegist
 			);
 	}
 
+	/**
+	 * Adds a handler that is not a scanned component, e.g. the invalidation of a query cache. It is
+	 * called after the scanned handlers of the same events.
+	 */
+	public <E extends DomainEvent> void subscribe(Class<E> eventType, EventHandler<? super E> handler) {
+		addHandler(eventType, handler);
+		plans = newPlans(List.copyOf(subscriptions));
+	}
+
 	private void addHandler(Class<?> eventType, EventHandler<?> handler) {
-		handlersMap.computeIfAbsent(eventType, k -> new ArrayList<>()).add(handler);
+		subscriptions.add(new Subscription(eventType, handler));
+	}
+
+	private static ClassValue<DispatchPlan> newPlans(List<Subscription> subscriptions) {
+		return new ClassValue<>() {
+			@Override
+			protected DispatchPlan computeValue(Class<?> eventType) {
+				return new DispatchPlan(subscriptions.stream()
+					.filter(subscription -> subscription.eventType().isAssignableFrom(eventType))
+					.map(Subscription::handler)
+					.toArray(EventHandler[]::new));
+			}
+		};
 	}
 
+	/**
+	 * Handlers subscribed to {@code eventType} or to any of its supertypes and interfaces.
+	 */
 	@SuppressWarnings("unchecked")
 	public <E extends DomainEvent> List<EventHandler<E>> getHandlers(Class<E> eventType) {
-		List<EventHandler<E>> handlers = (List<EventHandler<E>>) (List<?>) handlersMap.get(eventType);
-		return handlers != null ? handlers : Collections.emptyList();
+		return (List<EventHandler<E>>) (List<?>) plans.get(eventType).view;
+	}
+
+	/**
+	 * Calls every handler of {@code eventType} with {@code event} on the calling thread, walking the
+	 * cached plan array so nothing is allocated per event. A handler that throws stops the dispatch.
+	 */
+	public <E extends DomainEvent> void dispatch(Class<E> eventType, E event) {
+		dispatch(eventType, event, null);
+	}
+
+	/**
+	 * Like {@link #dispatch(Class, DomainEvent)}, but a handler that throws is handed to
+	 * {@code deadLetters} and the remaining handlers still run. A null queue rethrows instead.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends DomainEvent> void dispatch(Class<E> eventType, E event, DeadLetterQueue deadLetters) {
+		EventHandler<?>[] handlers = plans.get(eventType).handlers;
+		for (int i = 0; i < handlers.length; i++) {
+			EventHandler<E> handler = (EventHandler<E>) handlers[i];
+			try {
+				handler.on(event);
+			} catch (RuntimeException e) {
+				if (deadLetters == null) throw e;
+				deadLetters.deliveryFailed(handler, event, e);
+			}
+		}
+	}
+
+	/**
+	 * Like {@link #dispatch(Class, DomainEvent)} for a batch: a {@link BatchEventHandler} receives the
+	 * whole list in one call, other handlers one event at a time.
+	 */
+	public <E extends DomainEvent> void dispatchAll(Class<E> eventType, List<E> events) {
+		dispatchAll(eventType, events, null);
+	}
+
+	/**
+	 * Like {@link #dispatch(Class, DomainEvent, DeadLetterQueue)} for a batch. When a
+	 * {@link BatchEventHandler} throws, every event of the batch becomes a dead letter and is
+	 * redelivered on its own.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends DomainEvent> void dispatchAll(Class<E> eventType, List<E> events, DeadLetterQueue deadLetters) {
+		EventHandler<?>[] handlers = plans.get(eventType).handlers;
+		for (int i = 0; i < handlers.length; i++) {
+			EventHandler<E> handler = (EventHandler<E>) handlers[i];
+			if (handler instanceof BatchEventHandler<E> batch) {
+				try {
+					batch.onAll(events);
+				} catch (RuntimeException e) {
+					if (deadLetters == null) throw e;
+					for (E event : events) {
+						deadLetters.deliveryFailed(handler, event, e);
+					}
+				}
+				continue;
+			}
+			for (E event : events) {
+				try {
+					handler.on(event);
+				} catch (RuntimeException e) {
+					if (deadLetters == null) throw e;
+					deadLetters.deliveryFailed(handler, event, e);
+				}
+			}
+		}
+	}
+
+	private record Subscription(Class<?> eventType, EventHandler<?> handler) {}
+
+	private static final class DispatchPlan {
+		private final EventHandler<?>[] handlers;
+		private final List<EventHandler<?>> view;
+
+		private DispatchPlan(EventHandler<?>[] handlers) {
+			this.handlers = handlers;
+			this.view = List.of(handlers);
+		}
 	}
 
 }
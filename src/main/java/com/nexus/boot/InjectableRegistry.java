@@ -1,56 +1,144 @@
 package com.nexus.boot;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.nexus.core.annotations.Injectable;
+import com.nexus.exceptions.DependencyInstantiationException;
 import com.nexus.util.ClassValidator;
 
-import io.github.classgraph.ScanResult;
-
 public final class InjectableRegistry implements Registry<DependencyRegistry> {
 
 	protected InjectableRegistry() {}
 
+	private static final Comparator<Class<?>> BY_LEVEL = Comparator.<Class<?>>comparingInt(clazz -> clazz.getAnnotation(Injectable.class).level())
+		.thenComparing(Class::getName);
+
 	@Override
 	public DependencyRegistry registry(Object... args) {
-		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ScanResult.class});
+		if (args != null && args.length == 3) {
+			ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ComponentIndex.class, ExecutorService.class});
+			DependencyRegistry di = ClassValidator.cast(args[0], DependencyRegistry.class);
+			ComponentIndex components = ClassValidator.cast(args[1], ComponentIndex.class);
+			ExecutorService executor = ClassValidator.cast(args[2], ExecutorService.class);
+			return registerConcurrently(getLayers(components), di, components, executor);
+		}
+		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ComponentIndex.class});
 		DependencyRegistry di = ClassValidator.cast(args[0], DependencyRegistry.class);
-		ScanResult sr = ClassValidator.cast(args[1], ScanResult.class);
-		List<Class<?>> sorted = sortByLevel(sr);
-		return registerAll(sorted, di);
+		ComponentIndex components = ClassValidator.cast(args[1], ComponentIndex.class);
+		return registerAll(getLayers(components), di, components);
 	}
 
-	private List<Class<?>> sortByLevel(ScanResult sr) {
-		List<Class<?>> injectables = sr.getClassesWithAnnotation(Injectable.class).loadClasses();
-		injectables.sort(Comparator.comparingInt(clazz -> 
-			clazz.getAnnotation(Injectable.class).level()
-		));
-		return injectables;
+	/**
+	 * Orders injectables by their constructor dependencies. {@code level} only breaks ties between
+	 * classes that could be created at the same time, so a wrong level can no longer break the boot.
+	 */
+	private List<List<Class<?>>> getLayers(ComponentIndex components) {
+		return DependencyGraph.of(components.getInjectables(), components).getLayers(BY_LEVEL);
 	}
 
-	private DependencyRegistry registerAll(List<Class<?>> sorted, DependencyRegistry di) {
-		int currentLevel = -1;
-		Map<Class<?>, Object> collecting = new HashMap<>();
-
-		for (Class<?> injectable : sorted) {
-			int level = injectable.getAnnotation(Injectable.class).level();
-			if (level != currentLevel) {
-				if (!collecting.isEmpty()) {
-					di = di.registry(collecting);
-					collecting.clear();
-				}
-				currentLevel = level;
+	private DependencyRegistry registerAll(List<List<Class<?>>> layers, DependencyRegistry di, ComponentIndex components) {
+		for (List<Class<?>> layer : layers) {
+			Map<Class<?>, Object> instances = HashMap.newHashMap(layer.size());
+			for (Class<?> injectable : layer) {
+				instances.put(injectable, DependencyResolver.resolve(di, injectable, components.getFactory(injectable)));
 			}
-			collecting.put(injectable, DependencyResolver.resolve(di, injectable));
+			di = di.registry(instances);
 		}
+		return di;
+	}
 
-		if (!collecting.isEmpty()) di = di.registry(collecting);
+	private DependencyRegistry registerConcurrently(List<List<Class<?>>> layers, DependencyRegistry di, ComponentIndex components, ExecutorService executor) {
+		for (List<Class<?>> layer : layers) {
+			DependencyRegistry resolved = di;
+			CountDownLatch settled = new CountDownLatch(layer.size());
+			Map<Class<?>, Instantiation> pending = new LinkedHashMap<>();
+			for (Class<?> injectable : layer) {
+				Instantiation instantiation = new Instantiation(() -> DependencyResolver.resolve(resolved, injectable, components.getFactory(injectable)), settled);
+				instantiation.future = executor.submit(instantiation);
+				pending.put(injectable, instantiation);
+			}
+			Map<Class<?>, Object> instances = HashMap.newHashMap(layer.size());
+			try {
+				pending.forEach((injectable, instantiation) -> instances.put(injectable, await(injectable, instantiation.future)));
+			} catch (RuntimeException e) {
+				abandon(pending.values(), settled);
+				throw e;
+			}
+			di = di.registry(instances);
+		}
 
 		return di;
+	}
+
+	/**
+	 * Cancels the rest of a failed layer and waits until none of its constructors is still running,
+	 * so the failure only reaches the caller once the boot pool has gone quiet.
+	 */
+	private void abandon(Collection<Instantiation> layer, CountDownLatch settled) {
+		layer.forEach(Instantiation::cancel);
+		try {
+			settled.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Object await(Class<?> injectable, Future<Object> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DependencyInstantiationException(String.format(
+														"Interrupted while waiting for %s to be instantiated.",
+														injectable.getSimpleName()
+													), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			throw new DependencyInstantiationException(String.format(
+														"Parallel instantiation of %s failed: %s",
+														injectable.getSimpleName(),
+														e.getCause()
+													), e.getCause());
+		}
+	}
+
+	private static final class Instantiation implements Callable<Object> {
+		private final Callable<Object> constructor;
+		private final CountDownLatch settled;
+		// Whoever claims first, the pool thread or a cancelling caller, counts the instantiation as settled
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private Future<Object> future;
 
+		private Instantiation(Callable<Object> constructor, CountDownLatch settled) {
+			this.constructor = constructor;
+			this.settled = settled;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			if (!claimed.compareAndSet(false, true)) return null;
+			try {
+				return constructor.call();
+			} finally {
+				settled.countDown();
+			}
+		}
+
+		private void cancel() {
+			if (claimed.compareAndSet(false, true)) settled.countDown();
+			future.cancel(true);
+		}
 	}
 
 }
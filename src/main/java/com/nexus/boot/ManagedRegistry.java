@@ -8,23 +8,20 @@ import java.util.List;
 import java.util.Map;
 
 import com.nexus.core.annotations.Managed;
-import com.nexus.core.annotations.WiringConfig;
 import com.nexus.exceptions.DependencyInstantiationException;
 import com.nexus.util.ClassValidator;
 
-import io.github.classgraph.ScanResult;
-
 public final class ManagedRegistry implements Registry<DependencyRegistry> {
 
 	protected ManagedRegistry() {}
 
 	@Override
 	public DependencyRegistry registry(Object... args) {
-		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ScanResult.class});
+		ClassValidator.validateArgumentTypes(args, new Class<?>[] {DependencyRegistry.class, ComponentIndex.class});
 		DependencyRegistry di = ClassValidator.cast(args[0], DependencyRegistry.class);
-		ScanResult sr = ClassValidator.cast(args[1], ScanResult.class);
+		ComponentIndex components = ClassValidator.cast(args[1], ComponentIndex.class);
 		
-		List<Class<?>> classes = sr.getClassesWithAnnotation(WiringConfig.class).loadClasses();
+		List<Class<?>> classes = components.getWiringConfigs();
 		Map<Class<?>, Object> manageds = new HashMap<>();
 		initMethodRegistry(classes, manageds);
 		
@@ -5,15 +5,35 @@ import com.nexus.util.ClassValidator;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 
-public class PackagesRegistry implements Registry<ScanResult>{
+public class PackagesRegistry implements Registry<ComponentIndex>{
 
     protected PackagesRegistry() {}
 
     @Override
-    public ScanResult registry(Object... args) {
+    public ComponentIndex registry(Object... args) {
+        String[] pkgs = validatePackages(args);
+        ComponentIndex indexed = ComponentIndexLoader.load(getClassLoader(), pkgs);
+        return indexed != null ? indexed : scanPackages(pkgs);
+    }
+
+    public ComponentIndex scan(Object... args) {
+        return scanPackages(validatePackages(args));
+    }
+
+    private String[] validatePackages(Object[] args) {
         ClassValidator.validateArgumentsWithPredicate(args, String.class, s -> !s.isEmpty());
-        String[] pkgs = ClassValidator.castArray(args, new String[] {});
-        return new ClassGraph().acceptPackages(pkgs).enableAllInfo().scan();
+        return ClassValidator.castArray(args, new String[] {});
+    }
+
+    private ComponentIndex scanPackages(String[] pkgs) {
+        try (ScanResult sr = new ClassGraph().acceptPackages(pkgs).enableAllInfo().scan()) {
+            return ComponentIndex.fromScan(sr);
+        }
+    }
+
+    private ClassLoader getClassLoader() {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        return contextLoader != null ? contextLoader : PackagesRegistry.class.getClassLoader();
     }
 
 }
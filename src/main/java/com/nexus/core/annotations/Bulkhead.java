@@ -0,0 +1,36 @@
+package com.nexus.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many calls of a handler run at the same time. A call over the limit waits up to
+ * {@link #maxWait()} for a free slot and then fails with {@code BulkheadFullException}; the default
+ * of 0 rejects right away.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Bulkhead {
+	int maxConcurrent();
+
+	long maxWait() default 0;
+
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * Adapts the limit between {@link #minConcurrent()} and {@link #maxConcurrent()}: it grows by one
+	 * while calls are fast and the limit is in use, and shrinks by 10% when a call takes longer than
+	 * {@link #latencyThreshold()}.
+	 */
+	boolean adaptive() default false;
+
+	int minConcurrent() default 1;
+
+	/**
+	 * Latency, in {@link #unit()}, above which an adaptive bulkhead lowers its limit.
+	 */
+	long latencyThreshold() default 100;
+}
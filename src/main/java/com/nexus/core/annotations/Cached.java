@@ -0,0 +1,29 @@
+package com.nexus.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import com.nexus.core.event.DomainEvent;
+
+/**
+ * Caches the results of a {@code Query} handler by input, keeping at most {@link #maxSize()} entries.
+ * Eviction uses the CLOCK algorithm, an approximation of least recently used that is not
+ * configurable. A non-positive {@link #ttl()} keeps entries until they are evicted or invalidated.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+	int maxSize() default 1024;
+
+	long ttl() default 60;
+
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+	/**
+	 * Event types that clear the whole cache when they are published, including their subtypes.
+	 */
+	Class<? extends DomainEvent>[] invalidateOn() default {};
+}
@@ -0,0 +1,15 @@
+package com.nexus.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets concurrent sends of a {@code Query} with equal inputs share one execution: the first caller
+ * runs the handler and the others wait for its result or exception. Combined with {@link Cached},
+ * only cache misses are coalesced.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Coalesce {}
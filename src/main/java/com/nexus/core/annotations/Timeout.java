@@ -0,0 +1,19 @@
+package com.nexus.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline for every send to this handler, including the wait for a bulkhead slot. A shorter
+ * deadline of the caller, such as one passed to {@code send(handlerClass, input, timeout)}, wins.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Timeout {
+	long value();
+
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,110 @@
+package com.nexus.core.bus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.BatchEventHandler;
+import com.nexus.core.event.DeadLetterQueue;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.event.EventHandler;
+import com.nexus.exceptions.BusInitializationException;
+
+/**
+ * Event bus that returns to the publisher right away and delivers events on an executor. Every
+ * handler has its own serial lane, so it receives events one at a time in publish order while
+ * different handlers run concurrently. A failed delivery goes to the bus's {@link DeadLetterQueue},
+ * a default one unless another is given, which redelivers it on the handler's lane. Errors are
+ * reported to the uncaught exception handler of the lane's thread.
+ */
+public class AsyncEventBus implements EventBus {
+	private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("nexus-event-", 0).factory();
+
+	private final EventHandlersRegistry eventRegistry;
+	private final Executor executor;
+	private final DeadLetterQueue deadLetters;
+	private final Map<EventHandler<?>, SerialExecutor> lanes = new ConcurrentHashMap<>();
+
+	protected AsyncEventBus(EventHandlersRegistry eventRegistry, Executor executor) {
+		this(eventRegistry, executor, null);
+	}
+
+	protected AsyncEventBus(EventHandlersRegistry eventRegistry, Executor executor, DeadLetterQueue deadLetters) {
+		this.eventRegistry = eventRegistry;
+		this.executor = executor != null ? executor : command -> VIRTUAL_THREADS.newThread(command).start();
+		this.deadLetters = deadLetters != null ? deadLetters : DeadLetterQueue.builder().build();
+	}
+
+	@Override
+	public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+		for (EventHandler<T> handler : getRegistry().getHandlers(EventTypes.of(eventType, event))) {
+			SerialExecutor lane = getLane(handler);
+			lane.execute(() -> deliver(handler, event, lane));
+		}
+	}
+
+	/**
+	 * Submits one task per handler for the whole batch instead of one per event. Batches mixing
+	 * event classes are published event by event.
+	 */
+	@Override
+	public <T extends DomainEvent> void publishAll(Class<T> eventType, List<T> events) {
+		if (events.isEmpty()) return;
+		Class<T> type = EventTypes.ofAll(eventType, events);
+		if (type == null) {
+			events.forEach(event -> publish(eventType, event));
+			return;
+		}
+		// Copied because the caller may reuse its list before the lanes run
+		List<T> batch = Collections.unmodifiableList(new ArrayList<>(events));
+		for (EventHandler<T> handler : getRegistry().getHandlers(type)) {
+			SerialExecutor lane = getLane(handler);
+			lane.execute(() -> {
+				if (!(handler instanceof BatchEventHandler<T> batchHandler)) {
+					batch.forEach(event -> deliver(handler, event, lane));
+					return;
+				}
+				try {
+					batchHandler.onAll(batch);
+				} catch (RuntimeException e) {
+					batch.forEach(event -> deadLetters.deliveryFailed(handler, event, e, lane));
+				}
+			});
+		}
+	}
+
+	private <T extends DomainEvent> void deliver(EventHandler<T> handler, T event, SerialExecutor lane) {
+		try {
+			handler.on(event);
+		} catch (RuntimeException e) {
+			deadLetters.deliveryFailed(handler, event, e, lane);
+		}
+	}
+
+	public DeadLetterQueue getDeadLetterQueue() {
+		return deadLetters;
+	}
+
+	private SerialExecutor getLane(EventHandler<?> handler) {
+		SerialExecutor lane = lanes.get(handler);
+		return lane != null ? lane : lanes.computeIfAbsent(handler, h -> new SerialExecutor(executor));
+	}
+
+	private EventHandlersRegistry getRegistry() {
+		if(eventRegistry == null) {
+			throw new BusInitializationException(String.format(
+												"EventHandlersRegistry is not initialized. " +
+												"This indicates an internal error in NexusContext initialization. " +
+												"Try rebuilding the NexusContext or contact support if the problem persists."
+											));
+		}
+		return eventRegistry;
+	}
+
+}
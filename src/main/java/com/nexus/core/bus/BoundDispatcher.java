@@ -0,0 +1,18 @@
+package com.nexus.core.bus;
+
+import com.nexus.core.cqrs.Dispatcher;
+import com.nexus.core.cqrs.Handler;
+
+final class BoundDispatcher<C, R> implements Dispatcher<C, R> {
+	private final Handler<C, R> handler;
+
+	BoundDispatcher(Handler<C, R> handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public R send(C input) {
+		return handler.handle(input);
+	}
+
+}
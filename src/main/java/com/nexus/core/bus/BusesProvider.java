@@ -1,11 +1,15 @@
 package com.nexus.core.bus;
 
+import java.util.concurrent.Executor;
+
 import com.nexus.boot.CqrsHandlersRegistry;
 import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.DeadLetterQueue;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.journal.Journal;
 
 public class BusesProvider {
 	private static NexusCqrsBus cqrsBus;
-	private static NexusEventBus eventBus;
 
 	private BusesProvider() {}
 
@@ -16,10 +20,64 @@ public class BusesProvider {
 		return cqrsBus;
 	}
 
+	/**
+	 * Not a singleton: the executor belongs to the caller's bus, so contexts with different
+	 * executors never share one.
+	 */
+	public static NexusCqrsBus getNexusCqrsBus(CqrsHandlersRegistry registry, Executor asyncExecutor) {
+		return new NexusCqrsBus(registry, asyncExecutor);
+	}
+
+	/**
+	 * Not a singleton: returns a copy of {@code bus} that routes sends of {@code Routable} inputs
+	 * through {@code partitions} serial lanes running on {@code executor}, or on virtual threads when
+	 * it is null. The given bus, possibly shared with other contexts, is not changed.
+	 */
+	public static NexusCqrsBus partitionCommands(NexusCqrsBus bus, int partitions, Executor executor) {
+		return bus.partitioned(partitions, executor);
+	}
+
+	/**
+	 * Not a singleton: every bus gets its own default dead letter queue, so contexts never share
+	 * failed deliveries or retry them into another context's handlers.
+	 */
 	public static NexusEventBus getNexusEventBus(EventHandlersRegistry registry) {
-		if(eventBus == null) {
-			eventBus = new NexusEventBus(registry);
-		}
-		return eventBus;
+		return new NexusEventBus(registry);
+	}
+
+	/**
+	 * Not a singleton: the queue belongs to the caller's bus, so contexts with different queues or
+	 * registries never share one.
+	 */
+	public static NexusEventBus getNexusEventBus(EventHandlersRegistry registry, DeadLetterQueue deadLetters) {
+		return new NexusEventBus(registry, deadLetters);
+	}
+
+	/**
+	 * Not a singleton: every call gets its own handler lanes on the given executor. A null executor
+	 * delivers each event on a new virtual thread.
+	 */
+	public static AsyncEventBus getAsyncEventBus(EventHandlersRegistry registry, Executor executor) {
+		return new AsyncEventBus(registry, executor);
+	}
+
+	public static AsyncEventBus getAsyncEventBus(EventHandlersRegistry registry, Executor executor, DeadLetterQueue deadLetters) {
+		return new AsyncEventBus(registry, executor, deadLetters);
+	}
+
+	/**
+	 * Wraps {@code bus} so publishing an event clears the {@code @Cached} queries it invalidates, for
+	 * buses that do not deliver through the registry bound with
+	 * {@link CqrsHandlersRegistry#bindCacheInvalidation}.
+	 */
+	public static EventBus invalidatingCaches(EventBus bus, CqrsHandlersRegistry cqrsRegistry) {
+		return new CacheInvalidatingEventBus(bus, cqrsRegistry);
+	}
+
+	/**
+	 * Wraps {@code bus} so every published event is appended to {@code journal} before delivery.
+	 */
+	public static EventBus journaled(EventBus bus, Journal journal) {
+		return new JournaledEventBus(bus, journal);
 	}
 }
@@ -0,0 +1,41 @@
+package com.nexus.core.bus;
+
+import java.util.List;
+
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+
+/**
+ * Clears the {@code @Cached} query results an event invalidates once the wrapped bus has taken the
+ * event, for buses that do not deliver through the context's event handlers registry.
+ */
+final class CacheInvalidatingEventBus implements EventBus {
+	private final EventBus delegate;
+	private final CqrsHandlersRegistry cqrsRegistry;
+
+	CacheInvalidatingEventBus(EventBus delegate, CqrsHandlersRegistry cqrsRegistry) {
+		this.delegate = delegate;
+		this.cqrsRegistry = cqrsRegistry;
+	}
+
+	@Override
+	public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+		delegate.publish(eventType, event);
+		cqrsRegistry.invalidateCaches(EventTypes.of(eventType, event));
+	}
+
+	@Override
+	public <T extends DomainEvent> void publishAll(Class<T> eventType, List<T> events) {
+		delegate.publishAll(eventType, events);
+		Class<T> common = EventTypes.ofAll(eventType, events);
+		if (common != null) {
+			cqrsRegistry.invalidateCaches(common);
+			return;
+		}
+		for (T event : events) {
+			cqrsRegistry.invalidateCaches(EventTypes.of(eventType, event));
+		}
+	}
+
+}
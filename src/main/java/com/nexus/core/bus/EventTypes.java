@@ -0,0 +1,35 @@
+package com.nexus.core.bus;
+
+import java.util.List;
+
+import com.nexus.core.event.DomainEvent;
+
+final class EventTypes {
+
+	private EventTypes() {}
+
+	/**
+	 * Handlers are resolved for the concrete class of the event, so subscribers of a supertype of the
+	 * declared type still receive it.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends DomainEvent> Class<T> of(Class<T> eventType, T event) {
+		return event != null ? (Class<T>) event.getClass() : eventType;
+	}
+
+	/**
+	 * The concrete class shared by all {@code events}, or null when the batch mixes classes and has to
+	 * be dispatched event by event.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends DomainEvent> Class<T> ofAll(Class<T> eventType, List<T> events) {
+		Class<?> common = null;
+		for (T event : events) {
+			Class<?> type = event != null ? event.getClass() : eventType;
+			if (common == null) common = type;
+			else if (common != type) return null;
+		}
+		return (Class<T>) common;
+	}
+
+}
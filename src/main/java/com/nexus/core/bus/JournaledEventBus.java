@@ -0,0 +1,40 @@
+package com.nexus.core.bus;
+
+import java.util.List;
+
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.journal.Journal;
+
+/**
+ * Appends every event to a {@link Journal} before handing it to the wrapped bus, so handlers only
+ * see events that are journaled. A failed append reaches the publisher and the event is not
+ * delivered.
+ */
+final class JournaledEventBus implements EventBus {
+	private final EventBus delegate;
+	private final Journal journal;
+
+	JournaledEventBus(EventBus delegate, Journal journal) {
+		this.delegate = delegate;
+		this.journal = journal;
+	}
+
+	@Override
+	public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+		journal.append(event);
+		delegate.publish(eventType, event);
+	}
+
+	@Override
+	public <T extends DomainEvent> void publishAll(Class<T> eventType, List<T> events) {
+		if (events.isEmpty()) return;
+		journal.appendAll(events);
+		delegate.publishAll(eventType, events);
+	}
+
+	EventBus getDelegate() {
+		return delegate;
+	}
+
+}
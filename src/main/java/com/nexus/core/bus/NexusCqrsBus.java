@@ -1,19 +1,220 @@
 package com.nexus.core.bus;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
 import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.core.cqrs.Batch;
+import com.nexus.core.cqrs.BatchCommand;
 import com.nexus.core.cqrs.CqrsBus;
+import com.nexus.core.cqrs.Deadline;
+import com.nexus.core.cqrs.Dispatcher;
 import com.nexus.core.cqrs.Handler;
+import com.nexus.core.cqrs.Routable;
 import com.nexus.exceptions.BusInitializationException;
 
 public class NexusCqrsBus implements CqrsBus {
+	private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("nexus-cqrs-", 0).factory();
+
 	private final CqrsHandlersRegistry cqrsRegistry;
+	private final Executor asyncExecutor;
+	private final PartitionedExecutor partitions;
 
 	protected NexusCqrsBus(CqrsHandlersRegistry cqrsRegistry) {
+		this(cqrsRegistry, null);
+	}
+
+	protected NexusCqrsBus(CqrsHandlersRegistry cqrsRegistry, Executor asyncExecutor) {
+		this(cqrsRegistry, asyncExecutor != null ? asyncExecutor : command -> VIRTUAL_THREADS.newThread(command).start(), null);
+	}
+
+	private NexusCqrsBus(CqrsHandlersRegistry cqrsRegistry, Executor asyncExecutor, PartitionedExecutor partitions) {
 		this.cqrsRegistry = cqrsRegistry;
+		this.asyncExecutor = asyncExecutor;
+		this.partitions = partitions;
 	}
 
 	@Override
 	public <C, R, T extends Handler<C, R>> R send(Class<T> handlerClass, C input) {
+		return invoke(getRegistry().getPipeline(handlerClass), input);
+	}
+
+	@Override
+	public <C, R, T extends Handler<C, R>> Dispatcher<C, R> bind(Class<T> handlerClass) {
+		Handler<C, R> handler = getRegistry().getPipeline(handlerClass);
+		return new BoundDispatcher<>(partitions == null ? handler : input -> invoke(handler, input));
+	}
+
+	/**
+	 * Resolves the handler once. A {@link BatchCommand} gets the whole list, passed through its
+	 * pipeline as a {@link Batch}; any other handler is called through its pipeline once per input.
+	 * With partitioned dispatch, {@link Routable} inputs are spread over their lanes and run in
+	 * parallel across keys, and a {@code BatchCommand} gets one batch per lane.
+	 */
+	@Override
+	public <C, R, T extends Handler<C, R>> List<R> sendAll(Class<T> handlerClass, List<C> inputs) {
+		Handler<C, R> handler = getRegistry().getPipeline(handlerClass);
+		if (inputs.isEmpty()) return List.of();
+		boolean batched = BatchCommand.class.isAssignableFrom(handlerClass);
+		if (partitions != null && anyRoutable(inputs)) {
+			if (batched) return sendBatchesByLane(partitions, handlerClass, handler, inputs);
+			List<CompletableFuture<R>> results = new ArrayList<>(inputs.size());
+			for (C input : inputs) {
+				results.add(input instanceof Routable ? route(partitions, handler, input) : call(() -> handler.handle(input)));
+			}
+			List<R> values = new ArrayList<>(results.size());
+			for (CompletableFuture<R> result : results) {
+				values.add(join(result));
+			}
+			return values;
+		}
+		if (batched) return handleBatch(handlerClass, handler, inputs);
+		List<R> results = new ArrayList<>(inputs.size());
+		for (C input : inputs) {
+			results.add(handler.handle(input));
+		}
+		return results;
+	}
+
+	/**
+	 * Inputs sharing a lane form one batch that runs on that lane, so they stay ordered with the
+	 * other sends for their keys; inputs without a routing key form one batch on the calling thread.
+	 */
+	private <C, R> List<R> sendBatchesByLane(PartitionedExecutor partitions, Class<?> handlerClass, Handler<C, R> pipeline, List<C> inputs) {
+		Map<Integer, List<Integer>> positions = new LinkedHashMap<>();
+		for (int i = 0; i < inputs.size(); i++) {
+			int lane = inputs.get(i) instanceof Routable routable ? partitions.getLaneIndex(routable.routingKey()) : -1;
+			positions.computeIfAbsent(lane, l -> new ArrayList<>()).add(i);
+		}
+		List<CompletableFuture<List<R>>> results = new ArrayList<>(positions.size());
+		for (Map.Entry<Integer, List<Integer>> lane : positions.entrySet()) {
+			List<C> batch = new ArrayList<>(lane.getValue().size());
+			for (int position : lane.getValue()) {
+				batch.add(inputs.get(position));
+			}
+			Supplier<List<R>> task = () -> handleBatch(handlerClass, pipeline, batch);
+			results.add(lane.getKey() < 0 ? call(task) : route(partitions, ((Routable) batch.get(0)).routingKey(), task));
+		}
+		List<R> values = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+		int lane = 0;
+		for (List<Integer> laneInputs : positions.values()) {
+			List<R> laneValues = join(results.get(lane++));
+			for (int i = 0; i < laneInputs.size(); i++) {
+				values.set(laneInputs.get(i), laneValues.get(i));
+			}
+		}
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <C, R> List<R> handleBatch(Class<?> handlerClass, Handler<C, R> pipeline, List<C> inputs) {
+		Object results = pipeline instanceof BatchCommand<?, ?> command
+			? ((BatchCommand<C, R>) command).handleAll(inputs)
+			: ((Handler<Batch<C>, Object>) (Handler<?, ?>) pipeline).handle(new Batch<>(inputs));
+		if (!(results instanceof List<?> values) || values.size() != inputs.size()) throw new IllegalStateException(String.format(
+																		"%s.handleAll returned %s results for %d inputs. " +
+																		"A BatchCommand must return exactly one result per input, in input order, " +
+																		"and pipeline behaviors must pass its list of results on.",
+																		handlerClass.getSimpleName(),
+																		results == null ? "null instead of" : results instanceof List<?> list ? String.valueOf(list.size()) : "no list of",
+																		inputs.size()
+																	));
+		return (List<R>) values;
+	}
+
+	/**
+	 * The handler is resolved on the calling thread, so an unknown handler is thrown right away
+	 * like {@link #send(Class, Object)} does; only the handler itself runs on the async executor, or
+	 * on the lane of its routing key with partitioned dispatch. The deadline of the calling send, if
+	 * any, carries over to the handler and fails the future when it expires.
+	 */
+	@Override
+	public <C, R, T extends Handler<C, R>> CompletableFuture<R> sendAsync(Class<T> handlerClass, C input) {
+		Handler<C, R> handler = getRegistry().getPipeline(handlerClass);
+		if (partitions != null && input instanceof Routable) return route(partitions, handler, input);
+		Deadline deadline = Deadline.current();
+		if (deadline == null) return CompletableFuture.supplyAsync(() -> handler.handle(input), this.asyncExecutor);
+		return deadline.limit(CompletableFuture.supplyAsync(() -> deadline.call(() -> handler.handle(input)), this.asyncExecutor));
+	}
+
+	@Override
+	public <C, R, T extends Handler<C, R>> CompletableFuture<R> sendAsync(Class<T> handlerClass, C input, Duration timeout) {
+		Deadline deadline = Deadline.after(timeout);
+		return deadline.call(() -> sendAsync(handlerClass, input));
+	}
+
+	private <C, R> R invoke(Handler<C, R> handler, C input) {
+		if (partitions == null || !(input instanceof Routable)) return handler.handle(input);
+		return join(route(partitions, handler, input));
+	}
+
+	private <C, R> CompletableFuture<R> route(PartitionedExecutor partitions, Handler<C, R> handler, C input) {
+		return route(partitions, ((Routable) input).routingKey(), () -> handler.handle(input));
+	}
+
+	private static <R> CompletableFuture<R> route(PartitionedExecutor partitions, Object key, Supplier<R> task) {
+		if (!partitions.isInLane(key)) {
+			Deadline deadline = Deadline.current();
+			if (deadline == null) return partitions.submit(key, task);
+			return deadline.limit(partitions.submit(key, () -> deadline.call(task)));
+		}
+		// Already running on this key's lane, e.g. a handler sending a follow-up command
+		return call(task);
+	}
+
+	private static <R> CompletableFuture<R> call(Supplier<R> task) {
+		try {
+			return CompletableFuture.completedFuture(task.get());
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private static boolean anyRoutable(List<?> inputs) {
+		for (Object input : inputs) {
+			if (input instanceof Routable) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Waits interruptibly, so a deadline expiring on the calling thread releases it.
+	 */
+	private static <R> R join(CompletableFuture<R> result) {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			if (e.getCause() instanceof Error cause) throw cause;
+			throw new CompletionException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * A bus on the same registry and async executor with partitioned dispatch over {@code partitions}
+	 * lanes running on {@code executor}, or on virtual threads when it is null. Zero partitions turn
+	 * it off. This bus is left as it is, so callers already holding it keep their lanes.
+	 */
+	NexusCqrsBus partitioned(int partitions, Executor executor) {
+		if (partitions == 0) return new NexusCqrsBus(cqrsRegistry, asyncExecutor, null);
+		return new NexusCqrsBus(cqrsRegistry, asyncExecutor,
+				new PartitionedExecutor(partitions, executor != null ? executor : command -> VIRTUAL_THREADS.newThread(command).start()));
+	}
+
+	private CqrsHandlersRegistry getRegistry() {
 		if(cqrsRegistry == null) {
 			throw new BusInitializationException(String.format(
 													"CqrsHandlersRegistry is not initialized. " +
@@ -21,7 +222,7 @@ public class NexusCqrsBus implements CqrsBus {
 													"Try rebuilding the NexusContext or contact support if the problem persists."
 												));
 		}
-		return cqrsRegistry.getCQRSHandler(handlerClass).handle(input);
+		return cqrsRegistry;
 	}
 	
 }
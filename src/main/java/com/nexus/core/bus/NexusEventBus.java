@@ -1,19 +1,50 @@
 package com.nexus.core.bus;
 
+import java.util.List;
+
 import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.DeadLetterQueue;
 import com.nexus.core.event.DomainEvent;
 import com.nexus.core.event.EventBus;
 import com.nexus.exceptions.BusInitializationException;
 
+/**
+ * Event bus that delivers on the publishing thread. A handler that throws does not stop the others
+ * and does not reach the publisher: the delivery goes to the bus's {@link DeadLetterQueue} and is
+ * retried from there.
+ */
 public class NexusEventBus implements EventBus {
 	private final EventHandlersRegistry eventRegistry;
+	private final DeadLetterQueue deadLetters;
 
 	protected NexusEventBus(EventHandlersRegistry eventRegistry) {
+		this(eventRegistry, null);
+	}
+
+	protected NexusEventBus(EventHandlersRegistry eventRegistry, DeadLetterQueue deadLetters) {
 		this.eventRegistry = eventRegistry;
+		this.deadLetters = deadLetters != null ? deadLetters : DeadLetterQueue.builder().build();
 	}
 
 	@Override
 	public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+		getRegistry().dispatch(EventTypes.of(eventType, event), event, deadLetters);
+	}
+
+	@Override
+	public <T extends DomainEvent> void publishAll(Class<T> eventType, List<T> events) {
+		EventHandlersRegistry registry = getRegistry();
+		if (events.isEmpty()) return;
+		Class<T> type = EventTypes.ofAll(eventType, events);
+		if (type != null) registry.dispatchAll(type, events, deadLetters);
+		else events.forEach(event -> registry.dispatch(EventTypes.of(eventType, event), event, deadLetters));
+	}
+
+	public DeadLetterQueue getDeadLetterQueue() {
+		return deadLetters;
+	}
+
+	private EventHandlersRegistry getRegistry() {
 		if(eventRegistry == null) {
 			throw new BusInitializationException(String.format(
 												"EventHandlersRegistry is not initialized. " +
@@ -21,7 +52,7 @@ public class NexusEventBus implements EventBus {
 												"Try rebuilding the NexusContext or contact support if the problem persists."
 											));
 		}
-		eventRegistry.getHandlers(eventType).forEach(handler -> handler.on(event));   
+		return eventRegistry;
 	}
 	
 }
@@ -0,0 +1,65 @@
+package com.nexus.core.bus;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of serial lanes; a routing key always hashes to the same lane. Keys share lanes when
+ * there are more keys than lanes, which only costs parallelism, never ordering.
+ */
+final class PartitionedExecutor {
+	private static final ThreadLocal<SerialExecutor> CURRENT_LANE = new ThreadLocal<>();
+
+	private final SerialExecutor[] lanes;
+
+	PartitionedExecutor(int partitions, Executor executor) {
+		if (partitions < 1) throw new IllegalArgumentException(String.format(
+															"Invalid partition count %d: at least one lane is required.",
+															partitions
+														));
+		this.lanes = new SerialExecutor[partitions];
+		for (int i = 0; i < partitions; i++) {
+			lanes[i] = new SerialExecutor(executor);
+		}
+	}
+
+	<R> CompletableFuture<R> submit(Object key, Supplier<R> task) {
+		SerialExecutor lane = getLane(key);
+		CompletableFuture<R> result = new CompletableFuture<>();
+		lane.execute(() -> {
+			CURRENT_LANE.set(lane);
+			try {
+				result.complete(task.get());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			} finally {
+				CURRENT_LANE.remove();
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Whether the calling thread is running a task of the lane of {@code key}; a nested send for it
+	 * must run inline, since queueing it behind the running task would deadlock.
+	 */
+	boolean isInLane(Object key) {
+		return CURRENT_LANE.get() == getLane(key);
+	}
+
+	int getPartitions() {
+		return lanes.length;
+	}
+
+	int getLaneIndex(Object key) {
+		int hash = Objects.hashCode(key);
+		return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+	}
+
+	private SerialExecutor getLane(Object key) {
+		return lanes[getLaneIndex(key)];
+	}
+
+}
@@ -0,0 +1,301 @@
+package com.nexus.core.bus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.event.EventBusFactory;
+import com.nexus.core.event.EventHandler;
+import com.nexus.exceptions.BusInitializationException;
+
+/**
+ * Event bus built on a preallocated ring buffer. Publishers claim a slot with one atomic increment,
+ * write the event into it and mark it available; nothing is allocated or locked per event. Each
+ * handler group has one consumer thread that delivers events to its handlers in publish order.
+ * Publishers wait when the slowest group is a full buffer behind.
+ * <p>
+ * Handlers may publish to the bus they run on while it has room. A handler that publishes when its
+ * own consumer is a full buffer behind would wait for itself, so that publish fails with an
+ * {@link IllegalStateException} instead and its event is dropped.
+ * <p>
+ * Plug it in with {@code withEventBus(RingBufferEventBus.builder())} and close it to drain pending
+ * events and stop the consumer threads.
+ */
+public final class RingBufferEventBus implements EventBus, AutoCloseable {
+	private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+	private final EventHandlersRegistry eventRegistry;
+	private final WaitStrategy waitStrategy;
+	private final int bufferSize;
+	private final int mask;
+	private final int indexShift;
+	private final Class<?>[] types;
+	private final DomainEvent[] events;
+	private final int[] available;
+	// Consumers still to deliver each slot, only with several handler groups
+	private final AtomicIntegerArray pending;
+	private final Sequence claimed = new Sequence(-1);
+	private final Sequence gatingCache = new Sequence(-1);
+	private final Consumer[] consumers;
+	private final Thread[] threads;
+	private final Map<EventHandler<?>, Integer> groups = new ConcurrentHashMap<>();
+	private final AtomicInteger nextGroup = new AtomicInteger();
+	// Sequences claimed by publishers that gave up when the bus closed, never published
+	private final Set<Long> abandoned = ConcurrentHashMap.newKeySet();
+	private volatile boolean running = true;
+
+	private RingBufferEventBus(EventHandlersRegistry eventRegistry, int bufferSize, int handlerGroups, WaitStrategy waitStrategy) {
+		if (eventRegistry == null) throw new BusInitializationException(String.format(
+																		"EventHandlersRegistry is not initialized. " +
+																		"Create the RingBufferEventBus through NexusContextBuilder.withEventBus(RingBufferEventBus.builder())."
+																	));
+		this.eventRegistry = eventRegistry;
+		this.waitStrategy = waitStrategy;
+		this.bufferSize = bufferSize;
+		this.mask = bufferSize - 1;
+		this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+		this.types = new Class<?>[bufferSize];
+		this.events = new DomainEvent[bufferSize];
+		this.available = new int[bufferSize];
+		Arrays.fill(this.available, -1);
+		this.pending = handlerGroups > 1 ? new AtomicIntegerArray(bufferSize) : null;
+		this.consumers = new Consumer[handlerGroups];
+		this.threads = new Thread[handlerGroups];
+		for (int group = 0; group < handlerGroups; group++) {
+			consumers[group] = new Consumer(group);
+			threads[group] = Thread.ofPlatform().name("nexus-ring-" + group).daemon().start(consumers[group]);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+		if (!running) throw new IllegalStateException(String.format(
+														"Cannot publish %s: the RingBufferEventBus is closed.",
+														eventType.getSimpleName()
+													));
+		Class<T> type = EventTypes.of(eventType, event);
+		if (eventRegistry.getHandlers(type).isEmpty()) return;
+
+		long sequence = claimed.getAndIncrement() + 1;
+		awaitCapacity(sequence);
+		int index = (int) sequence & mask;
+		types[index] = type;
+		events[index] = event;
+		if (pending != null) pending.set(index, consumers.length);
+		AVAILABLE.setRelease(available, index, (int) (sequence >>> indexShift));
+		waitStrategy.signal();
+	}
+
+	private void awaitCapacity(long sequence) {
+		long wrapPoint = sequence - bufferSize;
+		if (wrapPoint <= gatingCache.get()) return;
+		Consumer own = getCurrentConsumer();
+		long min;
+		while (wrapPoint > (min = getMinimumConsumerSequence())) {
+			if (!running) {
+				abandon(sequence);
+				throw new IllegalStateException("The RingBufferEventBus was closed while waiting for free slots.");
+			}
+			if (own != null && wrapPoint > own.sequence.get()) {
+				abandon(sequence);
+				throw new IllegalStateException(String.format(
+													"Cannot publish from a handler on consumer thread %s: the ring buffer of %d slots is full " +
+													"and only this thread can free a slot. Publish from another thread or use a larger bufferSize.",
+													Thread.currentThread().getName(),
+													bufferSize
+												));
+			}
+			LockSupport.parkNanos(1L);
+		}
+		gatingCache.set(min);
+	}
+
+	// The consumers skip the slot instead of waiting for it forever
+	private void abandon(long sequence) {
+		abandoned.add(sequence);
+		waitStrategy.signal();
+	}
+
+	private Consumer getCurrentConsumer() {
+		Thread current = Thread.currentThread();
+		for (int group = 0; group < threads.length; group++) {
+			if (threads[group] == current) return consumers[group];
+		}
+		return null;
+	}
+
+	private long getMinimumConsumerSequence() {
+		long min = Long.MAX_VALUE;
+		for (Consumer consumer : consumers) {
+			min = Math.min(min, consumer.sequence.get());
+		}
+		return min;
+	}
+
+	private boolean isAvailable(long sequence) {
+		int index = (int) sequence & mask;
+		return (int) AVAILABLE.getAcquire(available, index) == (int) (sequence >>> indexShift);
+	}
+
+	private boolean isAbandoned(long sequence) {
+		return !abandoned.isEmpty() && abandoned.contains(sequence);
+	}
+
+	private int getGroup(EventHandler<?> handler) {
+		Integer group = groups.get(handler);
+		return group != null ? group : groups.computeIfAbsent(handler, h -> nextGroup.getAndIncrement() % consumers.length);
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Stops accepting events, lets every consumer deliver what was already published and waits for
+	 * the consumer threads to finish. Events published while closing may be dropped; publishers
+	 * still waiting for a free slot fail.
+	 */
+	@Override
+	public void close() {
+		if (!running) return;
+		running = false;
+		waitStrategy.signal();
+		for (Thread thread : threads) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private final class Consumer implements Runnable, BooleanSupplier {
+		private final Sequence sequence = new Sequence(-1);
+		private final int group;
+		private long next;
+
+		private Consumer(int group) {
+			this.group = group;
+		}
+
+		@Override
+		public void run() {
+			next = sequence.get() + 1;
+			while (true) {
+				if (isAvailable(next)) {
+					long last = next;
+					while (isAvailable(last + 1)) last++;
+					for (long s = next; s <= last; s++) {
+						int index = (int) s & mask;
+						deliver(types[index], events[index]);
+						release(index);
+					}
+					sequence.set(last);
+					next = last + 1;
+				} else if (isAbandoned(next)) {
+					sequence.set(next);
+					// The last group to pass the slot forgets it
+					if (getMinimumConsumerSequence() >= next) abandoned.remove(next);
+					next++;
+				} else if (!running) {
+					// Claimed slots are published right after the claim unless their publisher gave up
+					if (next > claimed.get()) return;
+					Thread.onSpinWait();
+				} else {
+					waitStrategy.await(this);
+				}
+			}
+		}
+
+		@Override
+		public boolean getAsBoolean() {
+			return isAvailable(next) || !running || isAbandoned(next);
+		}
+
+		/**
+		 * Drops the buffer's reference to a delivered event once every group has delivered it, before
+		 * this consumer's sequence lets a publisher reuse the slot.
+		 */
+		private void release(int index) {
+			if (pending == null || pending.decrementAndGet(index) == 0) events[index] = null;
+		}
+
+		// The registry's cached plan, so handlers subscribed after the first event of a type are seen
+		@SuppressWarnings("unchecked")
+		private void deliver(Class<?> type, DomainEvent event) {
+			List<EventHandler<DomainEvent>> handlers = eventRegistry.getHandlers((Class<DomainEvent>) type);
+			for (int i = 0; i < handlers.size(); i++) {
+				EventHandler<DomainEvent> handler = handlers.get(i);
+				if (consumers.length > 1 && getGroup(handler) != group) continue;
+				try {
+					handler.on(event);
+				} catch (Throwable e) {
+					// An Error would end this consumer and leave every publisher waiting for it
+					Thread current = Thread.currentThread();
+					current.getUncaughtExceptionHandler().uncaughtException(current, e);
+				}
+			}
+		}
+	}
+
+	public static final class Builder implements EventBusFactory {
+		private int bufferSize = 1024;
+		private int handlerGroups = 1;
+		private WaitStrategy waitStrategy = WaitStrategy.blocking();
+
+		private Builder() {}
+
+		public Builder bufferSize(int bufferSize) {
+			if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) throw new IllegalArgumentException(String.format(
+																					"Invalid ring buffer size %d: the size must be a positive power of two.",
+																					bufferSize
+																				));
+			this.bufferSize = bufferSize;
+			return this;
+		}
+
+		/**
+		 * Number of consumer threads; handlers are spread over them round-robin and each handler
+		 * always runs on the same one.
+		 */
+		public Builder handlerGroups(int handlerGroups) {
+			if (handlerGroups < 1) throw new IllegalArgumentException(String.format(
+																"Invalid handler group count %d: at least one consumer thread is required.",
+																handlerGroups
+															));
+			this.handlerGroups = handlerGroups;
+			return this;
+		}
+
+		public Builder waitStrategy(WaitStrategy waitStrategy) {
+			if (waitStrategy == null) throw new IllegalArgumentException(String.format(
+																"Invalid wait strategy: null. " +
+																"Use WaitStrategy.busySpin(), WaitStrategy.yielding() or WaitStrategy.blocking()."
+															));
+			this.waitStrategy = waitStrategy;
+			return this;
+		}
+
+		@Override
+		public RingBufferEventBus create(EventHandlersRegistry registry) {
+			return new RingBufferEventBus(registry, bufferSize, handlerGroups, waitStrategy);
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.nexus.core.bus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Ring buffer position padded on both sides so sequences written by different threads never share
+ * a cache line.
+ */
+final class Sequence extends SequenceValue {
+	@SuppressWarnings("unused")
+	private long p9, p10, p11, p12, p13, p14, p15;
+
+	Sequence(long initial) {
+		this.value = initial;
+	}
+
+	long get() {
+		return (long) VALUE.getAcquire(this);
+	}
+
+	void set(long value) {
+		VALUE.setRelease(this, value);
+	}
+
+	long getAndIncrement() {
+		return (long) VALUE.getAndAdd(this, 1L);
+	}
+
+}
+
+abstract class SequencePadding {
+	@SuppressWarnings("unused")
+	private long p1, p2, p3, p4, p5, p6, p7;
+}
+
+abstract class SequenceValue extends SequencePadding {
+	static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	protected volatile long value;
+}
@@ -0,0 +1,54 @@
+package com.nexus.core.bus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time and in submission order on top of any executor, so a handler never sees
+ * two events at once or out of order while different handlers still run in parallel.
+ */
+final class SerialExecutor implements Executor {
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final Executor executor;
+
+	SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		tasks.add(task);
+		schedule();
+	}
+
+	private void schedule() {
+		if (!scheduled.compareAndSet(false, true)) return;
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			scheduled.set(false);
+			throw e;
+		}
+	}
+
+	private void drain() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (Throwable e) {
+				// Errors too, or the lane would stay scheduled and never run again
+				Thread current = Thread.currentThread();
+				current.getUncaughtExceptionHandler().uncaughtException(current, e);
+			}
+		}
+		scheduled.set(false);
+		// A task may have been queued after the last poll but before the flag was cleared
+		if (!tasks.isEmpty()) schedule();
+	}
+
+}
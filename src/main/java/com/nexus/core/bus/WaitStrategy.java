@@ -0,0 +1,100 @@
+package com.nexus.core.bus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a {@link RingBufferEventBus} consumer waits for the next event: trading CPU for latency from
+ * {@link #busySpin()} to {@link #blocking()}.
+ */
+public interface WaitStrategy {
+
+	/**
+	 * Returns once {@code ready} is true. Implementations may return early; callers check again.
+	 */
+	void await(BooleanSupplier ready);
+
+	/**
+	 * Called by publishers after an event became available.
+	 */
+	void signal();
+
+	/**
+	 * Lowest latency; every consumer keeps a core busy.
+	 */
+	static WaitStrategy busySpin() {
+		return new WaitStrategy() {
+			@Override
+			public void await(BooleanSupplier ready) {
+				while (!ready.getAsBoolean()) Thread.onSpinWait();
+			}
+
+			@Override
+			public void signal() {}
+		};
+	}
+
+	/**
+	 * Spins briefly, then yields the core to other threads between checks.
+	 */
+	static WaitStrategy yielding() {
+		return new WaitStrategy() {
+			private static final int SPIN_TRIES = 100;
+
+			@Override
+			public void await(BooleanSupplier ready) {
+				int tries = 0;
+				while (!ready.getAsBoolean()) {
+					if (tries++ < SPIN_TRIES) Thread.onSpinWait();
+					else Thread.yield();
+				}
+			}
+
+			@Override
+			public void signal() {}
+		};
+	}
+
+	/**
+	 * Parks consumers on a condition until a publisher signals; lowest CPU use, highest latency.
+	 */
+	static WaitStrategy blocking() {
+		return new WaitStrategy() {
+			private final Lock lock = new ReentrantLock();
+			private final Condition published = lock.newCondition();
+			private final AtomicInteger waiters = new AtomicInteger();
+
+			@Override
+			public void await(BooleanSupplier ready) {
+				if (ready.getAsBoolean()) return;
+				waiters.incrementAndGet();
+				lock.lock();
+				try {
+					// Timed so a signal racing with the waiter count is never lost for long
+					while (!ready.getAsBoolean()) published.await(1, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					lock.unlock();
+					waiters.decrementAndGet();
+				}
+			}
+
+			@Override
+			public void signal() {
+				if (waiters.get() == 0) return;
+				lock.lock();
+				try {
+					published.signalAll();
+				} finally {
+					lock.unlock();
+				}
+			}
+		};
+	}
+
+}
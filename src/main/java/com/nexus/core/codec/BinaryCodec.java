@@ -0,0 +1,290 @@
+package com.nexus.core.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.nexus.exceptions.CodecException;
+
+/**
+ * Compact binary {@link Codec}. Common JDK values have built-in encodings; records, enums and
+ * simple classes get a schema generated on first use and cached per class, see {@link Schema}.
+ * Each encoded value starts with a one-byte tag, followed by the class name and a fingerprint of
+ * its schema for application types, so readers need no registration; fields inside a schema carry
+ * no names or tags at all. Schemas follow the class as it is: bytes written before a field was
+ * added, removed, renamed or retyped fail to decode with a {@link CodecException} rather than being
+ * misread. Decoding instantiates the classes named in the bytes, so only decode bytes from a
+ * trusted source such as your own journal.
+ */
+public final class BinaryCodec implements Codec {
+	private static final byte NULL = 0;
+	private static final byte TYPED = 1;
+	private static final byte LIST = 2;
+	private static final byte SET = 3;
+	private static final byte MAP = 4;
+	// Built-in value tags start here, in the order of BUILT_INS
+	private static final int FIRST_BUILT_IN = 5;
+
+	private static final List<BuiltIn<?>> BUILT_INS = List.of(
+		builtIn(String.class, (value, out) -> Wire.writeString(out, value), Wire::readString),
+		builtIn(Integer.class, (value, out) -> Wire.writeSignedVarInt(out, value), Wire::readSignedVarInt),
+		builtIn(Long.class, (value, out) -> Wire.writeSignedVarLong(out, value), Wire::readSignedVarLong),
+		builtIn(Boolean.class, (value, out) -> out.put((byte) (value ? 1 : 0)), in -> in.get() != 0),
+		builtIn(Double.class, (value, out) -> out.putDouble(value), ByteBuffer::getDouble),
+		builtIn(Float.class, (value, out) -> out.putFloat(value), ByteBuffer::getFloat),
+		builtIn(Short.class, (value, out) -> Wire.writeSignedVarInt(out, value), in -> (short) Wire.readSignedVarInt(in)),
+		builtIn(Byte.class, (value, out) -> out.put(value), ByteBuffer::get),
+		builtIn(Character.class, (value, out) -> Wire.writeVarInt(out, value), in -> (char) Wire.readVarInt(in)),
+		builtIn(byte[].class, (value, out) -> {
+			Wire.writeVarInt(out, value.length);
+			out.put(value);
+		}, in -> {
+			byte[] value = new byte[Wire.readVarInt(in)];
+			in.get(value);
+			return value;
+		}),
+		builtIn(UUID.class, (value, out) -> out.putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits()), in -> new UUID(in.getLong(), in.getLong())),
+		builtIn(Instant.class, (value, out) -> {
+			Wire.writeSignedVarLong(out, value.getEpochSecond());
+			Wire.writeVarInt(out, value.getNano());
+		}, in -> Instant.ofEpochSecond(Wire.readSignedVarLong(in), Wire.readVarInt(in))),
+		builtIn(LocalDate.class, (value, out) -> Wire.writeSignedVarLong(out, value.toEpochDay()), in -> LocalDate.ofEpochDay(Wire.readSignedVarLong(in))),
+		builtIn(BigDecimal.class, (value, out) -> Wire.writeString(out, value.toString()), in -> new BigDecimal(Wire.readString(in))),
+		builtIn(BigInteger.class, (value, out) -> Wire.writeString(out, value.toString()), in -> new BigInteger(Wire.readString(in)))
+	);
+	private static final Map<Class<?>, Integer> BUILT_IN_TAGS = builtInTags();
+
+	private final Map<Class<?>, TypeCodec<?>> registered;
+	private final ClassLoader classLoader;
+	private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+	// Owned by the instance rather than ClassValues: generated schemas point back at this codec, which
+	// would keep a ClassValue's weak class key, and so the codec, reachable while the class is loaded
+	private final Map<Class<?>, TypeCodec<?>> codecs = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Integer> fingerprints = new ConcurrentHashMap<>();
+
+	private BinaryCodec(Builder builder) {
+		this.registered = Map.copyOf(builder.registered);
+		this.classLoader = builder.classLoader;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public void encode(Object value, ByteBuffer target) {
+		writeAny(value, target);
+	}
+
+	@Override
+	public Object decode(ByteBuffer source) {
+		return readAny(source);
+	}
+
+	/**
+	 * The codec of {@code type} alone, writing no tag or type name. For callers that know the type
+	 * on both ends, e.g. a channel carrying one command.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> TypeCodec<T> codecFor(Class<T> type) {
+		return (TypeCodec<T>) getCodec(type);
+	}
+
+	@SuppressWarnings("unchecked")
+	TypeCodec<Object> codecOf(Class<?> type) {
+		return (TypeCodec<Object>) getCodec(type);
+	}
+
+	// Not computeIfAbsent: generating a schema may look up the codecs of its field types
+	private TypeCodec<?> getCodec(Class<?> type) {
+		TypeCodec<?> codec = codecs.get(type);
+		if (codec != null) return codec;
+		codec = registered.get(type);
+		if (codec == null) {
+			Integer tag = BUILT_IN_TAGS.get(type);
+			codec = tag != null ? BUILT_INS.get(tag - FIRST_BUILT_IN).codec() : Schema.generate(type, this);
+		}
+		TypeCodec<?> raced = codecs.putIfAbsent(type, codec);
+		return raced != null ? raced : codec;
+	}
+
+	private int getFingerprint(Class<?> type) {
+		Integer fingerprint = fingerprints.get(type);
+		if (fingerprint != null) return fingerprint;
+		fingerprint = Schema.fingerprint(type, this);
+		fingerprints.putIfAbsent(type, fingerprint);
+		return fingerprint;
+	}
+
+	/**
+	 * Whether values of {@code type} go through a schema generated by this codec.
+	 */
+	boolean isGenerated(Class<?> type) {
+		return !registered.containsKey(type) && !BUILT_IN_TAGS.containsKey(type);
+	}
+
+	void writeAny(Object value, ByteBuffer out) {
+		if (value == null) {
+			out.put(NULL);
+			return;
+		}
+		Class<?> type = value.getClass();
+		Integer tag = BUILT_IN_TAGS.get(type);
+		if (tag != null && !registered.containsKey(type)) {
+			out.put((byte) (int) tag);
+			codecOf(type).write(value, out);
+		} else if (value instanceof List<?> list) {
+			out.put(LIST);
+			writeElements(list, out);
+		} else if (value instanceof Set<?> set) {
+			out.put(SET);
+			writeElements(set, out);
+		} else if (value instanceof Map<?, ?> map) {
+			out.put(MAP);
+			Wire.writeVarInt(out, map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeAny(entry.getKey(), out);
+				writeAny(entry.getValue(), out);
+			}
+		} else {
+			// Enum constants with a body are subclasses; they are written as their enum
+			Class<?> named = type.isEnum() || type.getSuperclass() == null || !type.getSuperclass().isEnum() ? type : type.getSuperclass();
+			out.put(TYPED);
+			Wire.writeString(out, named.getName());
+			out.putInt(getFingerprint(named));
+			codecOf(named).write(value, out);
+		}
+	}
+
+	private void writeElements(Collection<?> elements, ByteBuffer out) {
+		Wire.writeVarInt(out, elements.size());
+		for (Object element : elements) {
+			writeAny(element, out);
+		}
+	}
+
+	Object readAny(ByteBuffer in) {
+		int tag = in.get();
+		switch (tag) {
+			case NULL:
+				return null;
+			case TYPED:
+				return codecOf(checkSchema(resolve(Wire.readString(in)), in.getInt())).read(in);
+			case LIST: {
+				int size = Wire.readVarInt(in);
+				List<Object> list = new ArrayList<>(Math.min(size, in.remaining()));
+				for (int i = 0; i < size; i++) list.add(readAny(in));
+				return list;
+			}
+			case SET: {
+				int size = Wire.readVarInt(in);
+				Set<Object> set = new LinkedHashSet<>();
+				for (int i = 0; i < size; i++) set.add(readAny(in));
+				return set;
+			}
+			case MAP: {
+				int size = Wire.readVarInt(in);
+				Map<Object, Object> map = new LinkedHashMap<>();
+				for (int i = 0; i < size; i++) map.put(readAny(in), readAny(in));
+				return map;
+			}
+			default:
+				if (tag < FIRST_BUILT_IN || tag >= FIRST_BUILT_IN + BUILT_INS.size()) throw new CodecException(String.format(
+																										"Unknown value tag %d: the bytes were not written by a BinaryCodec or are corrupted.",
+																										tag
+																									));
+				return BUILT_INS.get(tag - FIRST_BUILT_IN).codec().read(in);
+		}
+	}
+
+	private Class<?> checkSchema(Class<?> type, int fingerprint) {
+		int expected = getFingerprint(type);
+		if (fingerprint != expected) throw new CodecException(String.format(
+												"Cannot decode a %s: it was written with a different schema (fingerprint %08x, the class on the classpath has %08x). " +
+												"Its fields were added, removed, renamed, reordered or retyped since; " +
+												"decode it with the version of the class that wrote it.",
+												type.getName(),
+												fingerprint,
+												expected
+											));
+		return type;
+	}
+
+	private Class<?> resolve(String name) {
+		Class<?> type = classes.get(name);
+		if (type != null) return type;
+		try {
+			ClassLoader loader = classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
+			type = Class.forName(name, false, loader != null ? loader : BinaryCodec.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			throw new CodecException(String.format(
+										"Cannot decode a %s: the class is not on the classpath. " +
+										"Make sure the reader has the same event and payload classes as the writer.",
+										name
+									), e);
+		}
+		classes.put(name, type);
+		return type;
+	}
+
+	private static <T> BuiltIn<T> builtIn(Class<T> type, BiConsumer<T, ByteBuffer> writer, Function<ByteBuffer, T> reader) {
+		return new BuiltIn<>(type, TypeCodec.of(writer, reader));
+	}
+
+	private static Map<Class<?>, Integer> builtInTags() {
+		Map<Class<?>, Integer> tags = new HashMap<>();
+		for (int i = 0; i < BUILT_INS.size(); i++) {
+			tags.put(BUILT_INS.get(i).type(), FIRST_BUILT_IN + i);
+		}
+		return Map.copyOf(tags);
+	}
+
+	private record BuiltIn<T>(Class<T> type, TypeCodec<T> codec) {}
+
+	public static final class Builder {
+		private final Map<Class<?>, TypeCodec<?>> registered = new HashMap<>();
+		private ClassLoader classLoader;
+
+		private Builder() {}
+
+		/**
+		 * Uses {@code codec} for values of exactly {@code type}, instead of a generated schema or the
+		 * built-in encoding.
+		 */
+		public <T> Builder register(Class<T> type, TypeCodec<T> codec) {
+			if (type == null || codec == null) throw new IllegalArgumentException(String.format(
+																		"Invalid codec registration for %s: both the type and its codec are required.",
+																		type
+																	));
+			registered.put(type, codec);
+			return this;
+		}
+
+		/**
+		 * Loader for the classes named in decoded values, the thread's context loader by default.
+		 */
+		public Builder classLoader(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+			return this;
+		}
+
+		public BinaryCodec build() {
+			return new BinaryCodec(this);
+		}
+	}
+
+}
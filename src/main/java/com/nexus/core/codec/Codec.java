@@ -0,0 +1,22 @@
+package com.nexus.core.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes events and CQRS payloads directly into and out of {@link ByteBuffer}s, for journals,
+ * outboxes and transports. The encoded form names its own type, so {@link #decode(ByteBuffer)}
+ * needs nothing but the bytes.
+ */
+public interface Codec {
+
+	/**
+	 * Writes {@code value} at the position of {@code target}, advancing it. Throws
+	 * {@link java.nio.BufferOverflowException} when it does not fit.
+	 */
+	void encode(Object value, ByteBuffer target);
+
+	/**
+	 * Reads one value at the position of {@code source}, advancing it.
+	 */
+	Object decode(ByteBuffer source);
+}
@@ -0,0 +1,305 @@
+package com.nexus.core.codec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+import com.nexus.exceptions.CodecException;
+
+/**
+ * Codecs generated once per type from its structure: records through their components and
+ * canonical constructor, enums by ordinal, other classes through their instance fields and no-arg
+ * constructor. Fields are written in a fixed order without names or tags; primitives as they are,
+ * other fields of final types with a presence byte and anything else with its type. Since the
+ * layout is positional, typed values carry the {@link #fingerprint(Class, BinaryCodec)} of their
+ * schema so a reader with a different version of the class fails instead of misreading it.
+ */
+final class Schema {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private Schema() {}
+
+	static TypeCodec<?> generate(Class<?> type, BinaryCodec codec) {
+		try {
+			if (type.isEnum()) return enumCodec(type);
+			if (type.isRecord()) return recordCodec(type, codec);
+			if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray()
+					|| Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) throw unsupported(type, null);
+			return beanCodec(type, codec);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			if (e instanceof CodecException codecException) throw codecException;
+			throw unsupported(type, e);
+		}
+	}
+
+	/**
+	 * CRC32C of the schema's shape: the class name, then the declared type and name of every field
+	 * in write order, recursing into fields written without their type. Enums contribute their
+	 * constant names, since ordinals are stored. Registered and built-in types contribute their
+	 * name only, their codecs being the caller's to keep stable.
+	 */
+	static int fingerprint(Class<?> type, BinaryCodec codec) {
+		StringBuilder shape = new StringBuilder();
+		describe(type, codec, shape, new HashSet<>());
+		CRC32C crc = new CRC32C();
+		crc.update(shape.toString().getBytes(StandardCharsets.UTF_8));
+		return (int) crc.getValue();
+	}
+
+	private static void describe(Class<?> type, BinaryCodec codec, StringBuilder shape, Set<Class<?>> described) {
+		shape.append(type.getName());
+		// A type containing itself is described once
+		if (!described.add(type) || !codec.isGenerated(type)) return;
+		if (type.isEnum()) {
+			shape.append('{');
+			for (Object constant : type.getEnumConstants()) {
+				shape.append(((Enum<?>) constant).name()).append(',');
+			}
+			shape.append('}');
+			return;
+		}
+		shape.append('(');
+		if (type.isRecord()) {
+			for (RecordComponent component : type.getRecordComponents()) {
+				describeField(component.getType(), component.getName(), codec, shape, described);
+			}
+		} else if (!type.isInterface() && !type.isArray()) {
+			for (Field field : beanFields(type)) {
+				describeField(field.getType(), field.getDeclaringClass().getName() + '.' + field.getName(), codec, shape, described);
+			}
+		}
+		shape.append(')');
+	}
+
+	private static void describeField(Class<?> type, String name, BinaryCodec codec, StringBuilder shape, Set<Class<?>> described) {
+		if (isExact(type)) describe(type, codec, shape, described);
+		else shape.append(type.getName());
+		shape.append(' ').append(name).append(',');
+	}
+
+	/**
+	 * Fields whose values are written without their type, so their schema is part of the owner's.
+	 */
+	private static boolean isExact(Class<?> type) {
+		return !type.isPrimitive() && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+			&& (Modifier.isFinal(type.getModifiers()) || type.isEnum() || type.isRecord());
+	}
+
+	private static CodecException unsupported(Class<?> type, Throwable cause) {
+		return new CodecException(String.format(
+									"Cannot generate a binary schema for %s. " +
+									"Records, enums and classes with a no-arg constructor are supported; " +
+									"register a TypeCodec on the BinaryCodec builder for anything else.",
+									type.getName()
+								), cause);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static TypeCodec<?> enumCodec(Class<?> type) {
+		Enum[] constants = ((Class<Enum>) type).getEnumConstants();
+		return TypeCodec.<Enum>of(
+			(value, out) -> Wire.writeVarInt(out, value.ordinal()),
+			in -> {
+				int ordinal = Wire.readVarInt(in);
+				if (ordinal >= constants.length) throw new CodecException(String.format(
+																"Unknown ordinal %d for enum %s with %d constants.",
+																ordinal,
+																type.getName(),
+																constants.length
+															));
+				return constants[ordinal];
+			});
+	}
+
+	private static TypeCodec<?> recordCodec(Class<?> type, BinaryCodec codec) throws ReflectiveOperationException {
+		RecordComponent[] components = type.getRecordComponents();
+		FieldCodec[] fields = new FieldCodec[components.length];
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+		for (int i = 0; i < components.length; i++) {
+			components[i].getAccessor().setAccessible(true);
+			MethodHandle getter = LOOKUP.unreflect(components[i].getAccessor()).asType(GETTER);
+			fields[i] = FieldCodec.of(components[i].getType(), getter, null, codec);
+			parameterTypes[i] = components[i].getType();
+		}
+		Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+		constructor.setAccessible(true);
+		MethodHandle canonical = LOOKUP.unreflectConstructor(constructor);
+		canonical = canonical.asType(canonical.type().generic()).asSpreader(Object[].class, components.length);
+		return new RecordCodec(fields, canonical);
+	}
+
+	private static TypeCodec<?> beanCodec(Class<?> type, BinaryCodec codec) throws ReflectiveOperationException {
+		Constructor<?> constructor = type.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		MethodHandle create = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		List<Field> declared = beanFields(type);
+		FieldCodec[] fields = new FieldCodec[declared.size()];
+		for (int i = 0; i < fields.length; i++) {
+			Field field = declared.get(i);
+			field.setAccessible(true);
+			fields[i] = FieldCodec.of(field.getType(), LOOKUP.unreflectGetter(field).asType(GETTER), LOOKUP.unreflectSetter(field).asType(SETTER), codec);
+		}
+		return new BeanCodec(fields, create);
+	}
+
+	private static List<Field> beanFields(Class<?> type) {
+		List<Field> declared = new ArrayList<>();
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+				declared.add(field);
+			}
+		}
+		// Declaration order is not guaranteed by reflection, names are
+		declared.sort(Comparator.comparing((Field field) -> field.getDeclaringClass().getName()).thenComparing(Field::getName));
+		return declared;
+	}
+
+	private static RuntimeException rethrow(Throwable e) {
+		if (e instanceof RuntimeException runtime) return runtime;
+		if (e instanceof Error error) throw error;
+		return new CodecException("A generated codec failed to access a field or constructor.", e);
+	}
+
+	private record RecordCodec(FieldCodec[] fields, MethodHandle canonical) implements TypeCodec<Object> {
+		@Override
+		public void write(Object value, ByteBuffer target) {
+			for (FieldCodec field : fields) {
+				field.write(value, target);
+			}
+		}
+
+		@Override
+		public Object read(ByteBuffer source) {
+			Object[] arguments = new Object[fields.length];
+			for (int i = 0; i < fields.length; i++) {
+				arguments[i] = fields[i].read(source);
+			}
+			try {
+				return (Object) canonical.invokeExact(arguments);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+	}
+
+	private record BeanCodec(FieldCodec[] fields, MethodHandle create) implements TypeCodec<Object> {
+		@Override
+		public void write(Object value, ByteBuffer target) {
+			for (FieldCodec field : fields) {
+				field.write(value, target);
+			}
+		}
+
+		@Override
+		public Object read(ByteBuffer source) {
+			try {
+				Object instance = (Object) create.invokeExact();
+				for (FieldCodec field : fields) {
+					field.setter.invokeExact(instance, field.read(source));
+				}
+				return instance;
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+	}
+
+	/**
+	 * One field of a generated schema. Codecs of final field types are looked up on first use, so
+	 * a type may contain itself.
+	 */
+	private static final class FieldCodec {
+		private final Class<?> type;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		private final BinaryCodec codec;
+		private final boolean exact;
+		private TypeCodec<Object> typeCodec;
+
+		private FieldCodec(Class<?> type, MethodHandle getter, MethodHandle setter, BinaryCodec codec) {
+			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
+			this.codec = codec;
+			this.exact = isExact(type);
+		}
+
+		private static FieldCodec of(Class<?> type, MethodHandle getter, MethodHandle setter, BinaryCodec codec) {
+			return new FieldCodec(type, getter, setter, codec);
+		}
+
+		private void write(Object owner, ByteBuffer out) {
+			Object value;
+			try {
+				value = (Object) getter.invokeExact(owner);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+			if (type.isPrimitive()) {
+				writePrimitive(value, out);
+			} else if (exact) {
+				if (value == null) {
+					out.put((byte) 0);
+				} else {
+					out.put((byte) 1);
+					typeCodec().write(value, out);
+				}
+			} else {
+				codec.writeAny(value, out);
+			}
+		}
+
+		private Object read(ByteBuffer in) {
+			if (type.isPrimitive()) return readPrimitive(in);
+			if (exact) return in.get() == 0 ? null : typeCodec().read(in);
+			return codec.readAny(in);
+		}
+
+		private TypeCodec<Object> typeCodec() {
+			TypeCodec<Object> resolved = typeCodec;
+			if (resolved == null) typeCodec = resolved = codec.codecOf(type);
+			return resolved;
+		}
+
+		private void writePrimitive(Object value, ByteBuffer out) {
+			if (type == int.class) Wire.writeSignedVarInt(out, (Integer) value);
+			else if (type == long.class) Wire.writeSignedVarLong(out, (Long) value);
+			else if (type == boolean.class) out.put((byte) ((Boolean) value ? 1 : 0));
+			else if (type == double.class) out.putDouble((Double) value);
+			else if (type == float.class) out.putFloat((Float) value);
+			else if (type == byte.class) out.put((Byte) value);
+			else if (type == short.class) Wire.writeSignedVarInt(out, (Short) value);
+			else Wire.writeVarInt(out, (Character) value);
+		}
+
+		private Object readPrimitive(ByteBuffer in) {
+			if (type == int.class) return Wire.readSignedVarInt(in);
+			if (type == long.class) return Wire.readSignedVarLong(in);
+			if (type == boolean.class) return in.get() != 0;
+			if (type == double.class) return in.getDouble();
+			if (type == float.class) return in.getFloat();
+			if (type == byte.class) return in.get();
+			if (type == short.class) return (short) Wire.readSignedVarInt(in);
+			return (char) Wire.readVarInt(in);
+		}
+	}
+
+}
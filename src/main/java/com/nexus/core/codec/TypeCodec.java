@@ -0,0 +1,29 @@
+package com.nexus.core.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Binary form of one type, registered on a {@link BinaryCodec} for types its generated schemas do
+ * not cover, or to control their format.
+ */
+public interface TypeCodec<T> {
+	void write(T value, ByteBuffer target);
+
+	T read(ByteBuffer source);
+
+	static <T> TypeCodec<T> of(BiConsumer<T, ByteBuffer> writer, Function<ByteBuffer, T> reader) {
+		return new TypeCodec<>() {
+			@Override
+			public void write(T value, ByteBuffer target) {
+				writer.accept(value, target);
+			}
+
+			@Override
+			public T read(ByteBuffer source) {
+				return reader.apply(source);
+			}
+		};
+	}
+}
@@ -0,0 +1,141 @@
+package com.nexus.core.codec;
+
+import java.nio.ByteBuffer;
+
+import com.nexus.exceptions.CodecException;
+
+/**
+ * Primitive encodings shared by the codecs: LEB128 varints, zigzag for signed values and UTF-8
+ * strings written char by char, so nothing goes through a temporary byte array.
+ */
+final class Wire {
+
+	private Wire() {}
+
+	static void writeVarInt(ByteBuffer out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.put((byte) value);
+	}
+
+	static int readVarInt(ByteBuffer in) {
+		int result = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = in.get();
+			result |= (b & 0x7F) << shift;
+			if (b >= 0) return result;
+		}
+		throw new CodecException("Malformed varint: more than 5 bytes.");
+	}
+
+	static void writeVarLong(ByteBuffer out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.put((byte) value);
+	}
+
+	static long readVarLong(ByteBuffer in) {
+		long result = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			byte b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if (b >= 0) return result;
+		}
+		throw new CodecException("Malformed varlong: more than 10 bytes.");
+	}
+
+	static void writeSignedVarInt(ByteBuffer out, int value) {
+		writeVarInt(out, (value << 1) ^ (value >> 31));
+	}
+
+	static int readSignedVarInt(ByteBuffer in) {
+		int n = readVarInt(in);
+		return (n >>> 1) ^ -(n & 1);
+	}
+
+	static void writeSignedVarLong(ByteBuffer out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	static long readSignedVarLong(ByteBuffer in) {
+		long n = readVarLong(in);
+		return (n >>> 1) ^ -(n & 1);
+	}
+
+	static void writeString(ByteBuffer out, String value) {
+		int length = value.length();
+		writeVarInt(out, utf8Length(value));
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				out.put((byte) c);
+			} else if (c < 0x800) {
+				out.put((byte) (0xC0 | (c >> 6)));
+				out.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				out.put((byte) (0xF0 | (codePoint >> 18)));
+				out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				out.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				// An unpaired surrogate becomes '?', as String.getBytes does
+				out.put((byte) '?');
+			} else {
+				out.put((byte) (0xE0 | (c >> 12)));
+				out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				out.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	private static int utf8Length(String value) {
+		int length = value.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) continue;
+			if (c < 0x800) {
+				bytes += 1;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				bytes += 2;
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				bytes += 2;
+			}
+		}
+		return bytes;
+	}
+
+	static String readString(ByteBuffer in) {
+		int bytes = readVarInt(in);
+		if (bytes > in.remaining()) throw new CodecException(String.format(
+														"Malformed string: %d bytes announced but only %d left.",
+														bytes,
+														in.remaining()
+													));
+		char[] chars = new char[bytes];
+		int count = 0;
+		int end = in.position() + bytes;
+		while (in.position() < end) {
+			int b = in.get();
+			if (b >= 0) {
+				chars[count++] = (char) b;
+			} else if ((b & 0xE0) == 0xC0) {
+				chars[count++] = (char) (((b & 0x1F) << 6) | (in.get() & 0x3F));
+			} else if ((b & 0xF0) == 0xE0) {
+				chars[count++] = (char) (((b & 0x0F) << 12) | ((in.get() & 0x3F) << 6) | (in.get() & 0x3F));
+			} else {
+				int codePoint = ((b & 0x07) << 18) | ((in.get() & 0x3F) << 12) | ((in.get() & 0x3F) << 6) | (in.get() & 0x3F);
+				chars[count++] = Character.highSurrogate(codePoint);
+				chars[count++] = Character.lowSurrogate(codePoint);
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.nexus.core.cqrs;
+
+import java.util.List;
+
+/**
+ * The input a {@link BatchCommand} pipeline receives when {@link CqrsBus#sendAll} hands it a whole
+ * list. Pipeline behaviors and decorators see it once per batch, and the pipeline returns the list
+ * of results.
+ */
+public record Batch<T>(List<T> inputs) {}
@@ -0,0 +1,12 @@
+package com.nexus.core.cqrs;
+
+import java.util.List;
+
+/**
+ * Command that can process a whole {@link CqrsBus#sendAll} batch at once, e.g. with one multi-row
+ * write. Results are returned in input order, one per input; {@code sendAll} fails otherwise. When
+ * pipeline behaviors or decorators wrap the command, the batch passes through them as a {@link Batch}.
+ */
+public interface BatchCommand<T, R> extends Command<T, R> {
+	List<R> handleAll(List<T> inputs);
+}
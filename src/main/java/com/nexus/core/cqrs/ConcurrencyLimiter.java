@@ -0,0 +1,145 @@
+package com.nexus.core.cqrs;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.nexus.exceptions.BulkheadFullException;
+
+/**
+ * Bulkhead in front of a handler, limiting how many of its calls run at once. An adaptive limit
+ * follows AIMD: a fast call that ran while at least half of the limit was in use raises the limit
+ * by one, a call slower than the latency threshold lowers it by 10%. Calls that throw do not change
+ * the limit.
+ */
+public final class ConcurrencyLimiter<C, R> implements Handler<C, R> {
+	private final Handler<C, R> handler;
+	private final String name;
+	private final int minLimit;
+	private final int maxLimit;
+	private final long maxWaitNanos;
+	private final long latencyThresholdNanos;
+	private final boolean adaptive;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private final LongAdder rejected = new LongAdder();
+	// Guarded by lock
+	private int limit;
+	private int inFlight;
+
+	public ConcurrencyLimiter(Handler<C, R> handler, String name, int maxConcurrent, Duration maxWait) {
+		this(handler, name, maxConcurrent, maxConcurrent, maxWait, null);
+	}
+
+	/**
+	 * Adaptive bulkhead starting at {@code maxConcurrent}. A null {@code latencyThreshold} makes the
+	 * limit fixed.
+	 */
+	public ConcurrencyLimiter(Handler<C, R> handler, String name, int minConcurrent, int maxConcurrent, Duration maxWait, Duration latencyThreshold) {
+		if (minConcurrent < 1 || maxConcurrent < minConcurrent) throw new IllegalArgumentException(String.format(
+																		"Invalid bulkhead limits for %s: min %d, max %d. " +
+																		"Both must be at least 1 and min must not exceed max.",
+																		name,
+																		minConcurrent,
+																		maxConcurrent
+																	));
+		this.handler = handler;
+		this.name = name;
+		this.minLimit = minConcurrent;
+		this.maxLimit = maxConcurrent;
+		this.maxWaitNanos = Math.max(0, maxWait.toNanos());
+		this.adaptive = latencyThreshold != null;
+		this.latencyThresholdNanos = adaptive ? latencyThreshold.toNanos() : Long.MAX_VALUE;
+		this.limit = maxConcurrent;
+	}
+
+	@Override
+	public R handle(C input) {
+		boolean saturated = acquire();
+		long start = System.nanoTime();
+		boolean completed = false;
+		try {
+			R result = handler.handle(input);
+			completed = true;
+			return result;
+		} finally {
+			release(saturated, completed ? System.nanoTime() - start : -1);
+		}
+	}
+
+	private boolean acquire() {
+		lock.lock();
+		try {
+			long remaining = maxWaitNanos;
+			while (inFlight >= limit) {
+				if (remaining <= 0) {
+					rejected.increment();
+					throw new BulkheadFullException(String.format(
+														"Bulkhead of %s is full: %d of %d calls in flight. " +
+														"Raise maxConcurrent or maxWait in @Bulkhead, or retry later.",
+														name,
+														inFlight,
+														limit
+													));
+				}
+				remaining = released.awaitNanos(remaining);
+			}
+			inFlight++;
+			return inFlight * 2 >= limit;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			rejected.increment();
+			throw new BulkheadFullException(String.format(
+												"Interrupted while waiting for the bulkhead of %s.",
+												name
+											));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(boolean saturated, long latencyNanos) {
+		lock.lock();
+		try {
+			inFlight--;
+			if (adaptive && latencyNanos >= 0) adjust(saturated, latencyNanos);
+			released.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void adjust(boolean saturated, long latencyNanos) {
+		if (latencyNanos > latencyThresholdNanos) {
+			limit = Math.max(minLimit, Math.min(limit - 1, (int) (limit * 0.9)));
+		} else if (saturated && limit < maxLimit) {
+			limit++;
+			// A raised limit may let a waiting caller in
+			released.signal();
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+}
@@ -1,5 +1,42 @@
 package com.nexus.core.cqrs;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface CqrsBus {
 	<C, R, T extends Handler<C, R>> R send(Class<T> handlerClass, C input);
+
+	/**
+	 * Sends with a deadline that nested sends made by the handler inherit, throwing
+	 * {@code DeadlineExceededException} when it expires.
+	 */
+	default <C, R, T extends Handler<C, R>> R send(Class<T> handlerClass, C input, Duration timeout) {
+		return Deadline.after(timeout).call(() -> send(handlerClass, input));
+	}
+
+	default <C, R, T extends Handler<C, R>> Dispatcher<C, R> bind(Class<T> handlerClass) {
+		return input -> send(handlerClass, input);
+	}
+
+	default <C, R, T extends Handler<C, R>> List<R> sendAll(Class<T> handlerClass, List<C> inputs) {
+		return inputs.stream().map(input -> send(handlerClass, input)).toList();
+	}
+
+	/**
+	 * Opens a scope that runs independent sends concurrently on virtual threads and joins them all,
+	 * the first success, or whatever finished within a timeout. Use it in try-with-resources.
+	 */
+	default Fanout fanout() {
+		return new Fanout(this);
+	}
+
+	default <C, R, T extends Handler<C, R>> CompletableFuture<R> sendAsync(Class<T> handlerClass, C input) {
+		return CompletableFuture.supplyAsync(() -> send(handlerClass, input), Thread::startVirtualThread);
+	}
+
+	default <C, R, T extends Handler<C, R>> CompletableFuture<R> sendAsync(Class<T> handlerClass, C input, Duration timeout) {
+		Deadline deadline = Deadline.after(timeout);
+		return deadline.limit(CompletableFuture.supplyAsync(() -> deadline.call(() -> send(handlerClass, input)), Thread::startVirtualThread));
+	}
 }
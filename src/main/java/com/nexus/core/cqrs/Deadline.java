@@ -0,0 +1,133 @@
+package com.nexus.core.cqrs;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.nexus.exceptions.DeadlineExceededException;
+
+/**
+ * Point in time by which a send must complete. While a handler runs under a deadline it is the
+ * {@link #current()} one, so nested sends inherit it; a nested deadline can only shorten it. At
+ * expiry the running thread is interrupted, which unblocks waits on locks, queues, futures and
+ * interruptible I/O. Handlers doing long CPU work can check {@link #isExpired()} themselves.
+ */
+public final class Deadline {
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+	private final long deadlineNanos;
+
+	private Deadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	public static Deadline after(Duration timeout) {
+		return new Deadline(System.nanoTime() + timeout.toNanos());
+	}
+
+	/**
+	 * The deadline of the send running on this thread, or null when there is none.
+	 */
+	public static Deadline current() {
+		return CURRENT.get();
+	}
+
+	public boolean isExpired() {
+		return deadlineNanos - System.nanoTime() <= 0;
+	}
+
+	public long remaining(TimeUnit unit) {
+		return unit.convert(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
+	public boolean isBefore(Deadline other) {
+		return deadlineNanos - other.deadlineNanos < 0;
+	}
+
+	/**
+	 * Runs {@code task} on the calling thread under this deadline, or under the current one if that
+	 * expires first, and throws {@link DeadlineExceededException} if it does not finish in time.
+	 */
+	public <R> R call(Supplier<R> task) {
+		Deadline outer = CURRENT.get();
+		Deadline effective = outer != null && !isBefore(outer) ? outer : this;
+		if (effective.isExpired()) throw effective.exceeded(null);
+		// An inherited deadline is already being watched by the send that set it
+		if (effective == outer) return task.get();
+
+		Guard guard = new Guard(Thread.currentThread());
+		TimingWheel.Timer timer = TimingWheel.shared().schedule(guard, effective.deadlineNanos);
+		CURRENT.set(effective);
+		R result;
+		try {
+			result = task.get();
+		} catch (RuntimeException | Error e) {
+			if (!guard.finish(timer)) throw effective.exceeded(e);
+			throw e;
+		} finally {
+			if (outer == null) CURRENT.remove();
+			else CURRENT.set(outer);
+		}
+		if (!guard.finish(timer)) throw effective.exceeded(null);
+		return result;
+	}
+
+	/**
+	 * Fails {@code future} with {@link DeadlineExceededException} if it is not complete at this
+	 * deadline, so callers waiting on it are released even if the task never finishes.
+	 */
+	public <R> CompletableFuture<R> limit(CompletableFuture<R> future) {
+		if (future.isDone()) return future;
+		TimingWheel.Timer timer = TimingWheel.shared().schedule(() -> future.completeExceptionally(exceeded(null)), deadlineNanos);
+		future.whenComplete((result, e) -> timer.cancel());
+		return future;
+	}
+
+	private DeadlineExceededException exceeded(Throwable cause) {
+		return new DeadlineExceededException(String.format(
+													"Deadline exceeded: the send did not complete in time and was interrupted. " +
+													"Raise the timeout passed to send() or in @Timeout, or make the handler faster."
+												), cause);
+	}
+
+	/**
+	 * Interrupts the running thread at expiry. Whoever moves the state first wins, so a handler
+	 * finishing right at the deadline either completes normally or sees the interrupt, never both.
+	 */
+	private static final class Guard implements Runnable {
+		private static final int RUNNING = 0;
+		private static final int DONE = 1;
+		private static final int INTERRUPTING = 2;
+		private static final int INTERRUPTED = 3;
+
+		private final Thread thread;
+		private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		private Guard(Thread thread) {
+			this.thread = thread;
+		}
+
+		@Override
+		public void run() {
+			if (!state.compareAndSet(RUNNING, INTERRUPTING)) return;
+			thread.interrupt();
+			state.set(INTERRUPTED);
+		}
+
+		/**
+		 * Returns false when the deadline expired first, after clearing the interrupt it caused.
+		 */
+		private boolean finish(TimingWheel.Timer timer) {
+			if (state.compareAndSet(RUNNING, DONE)) {
+				timer.cancel();
+				return true;
+			}
+			while (state.get() != INTERRUPTED) Thread.onSpinWait();
+			Thread.interrupted();
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.nexus.core.cqrs;
+
+/**
+ * A CQRS handler bound once through {@link CqrsBus#bind(Class)}, so sending skips the handler lookup.
+ */
+@FunctionalInterface
+public interface Dispatcher<C, R> {
+	R send(C input);
+}
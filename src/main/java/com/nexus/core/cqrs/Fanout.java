@@ -0,0 +1,237 @@
+package com.nexus.core.cqrs;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scatter-gather scope over independent sends, opened with {@link CqrsBus#fanout()}. Each
+ * {@link #fork(Class, Object)} starts its send on a virtual thread right away and returns a
+ * {@link Part} holding its outcome; one of the join methods then waits for them under a policy:
+ * <ul>
+ * <li>{@link #joinAll()}: every send must succeed, the first failure cancels the rest;</li>
+ * <li>{@link #joinFirst()}: the first success wins and cancels the rest;</li>
+ * <li>{@link #joinUntil(Duration)}: whatever finished in time, stragglers are cancelled.</li>
+ * </ul>
+ * Cancelling interrupts the send's thread. Closing the scope cancels what is still running and
+ * waits for it, so no send outlives the try-with-resources block that opened it. Forked sends
+ * inherit the caller's {@link Deadline}.
+ */
+public final class Fanout implements AutoCloseable {
+	private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("nexus-fanout-", 0).factory();
+
+	private final CqrsBus bus;
+	private final List<Part<?>> parts = new ArrayList<>();
+	private final BlockingQueue<Part<?>> completed = new LinkedBlockingQueue<>();
+	private boolean joined;
+
+	Fanout(CqrsBus bus) {
+		this.bus = bus;
+	}
+
+	/**
+	 * Starts {@code handlerClass} with {@code input}. The handler is resolved on the calling thread,
+	 * so an unknown handler is thrown right away.
+	 */
+	public <C, R, T extends Handler<C, R>> Part<R> fork(Class<T> handlerClass, C input) {
+		if (joined) throw new IllegalStateException(String.format(
+														"Cannot fork %s: the Fanout was already joined or closed. Open a new one with CqrsBus.fanout().",
+														handlerClass.getSimpleName()
+													));
+		Dispatcher<C, R> dispatcher = bus.bind(handlerClass);
+		Deadline deadline = Deadline.current();
+		Part<R> part = new Part<>(this);
+		part.thread = VIRTUAL_THREADS.newThread(() -> {
+			try {
+				part.succeed(deadline == null ? dispatcher.send(input) : deadline.call(() -> dispatcher.send(input)));
+			} catch (Throwable e) {
+				// Checked exceptions thrown sneakily must fail the part too, or the joins wait forever
+				part.fail(e);
+			}
+		});
+		parts.add(part);
+		part.thread.start();
+		return part;
+	}
+
+	/**
+	 * Waits for every part to succeed. On the first failure the others are cancelled and the
+	 * failure is thrown, unchecked exceptions as they are and anything else wrapped in a
+	 * {@link CompletionException}.
+	 */
+	public void joinAll() {
+		int pending = startJoin();
+		while (pending-- > 0) {
+			Part<?> part = take();
+			if (part.getState() == State.FAILED) {
+				cancelAll();
+				throw rethrow(part.exception);
+			}
+		}
+	}
+
+	/**
+	 * Waits for the first part to succeed, cancels the others and returns its result. When every
+	 * part fails, the first failure is thrown with the others suppressed. The parts are expected to
+	 * share a result type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R joinFirst() {
+		int pending = startJoin();
+		if (pending == 0) throw new IllegalStateException("Cannot join the first result of a Fanout without forked sends.");
+		Throwable failure = null;
+		while (pending-- > 0) {
+			Part<?> part = take();
+			if (part.getState() == State.SUCCEEDED) {
+				cancelAll();
+				return (R) part.result;
+			}
+			if (failure == null) failure = part.exception;
+			else failure.addSuppressed(part.exception);
+		}
+		throw rethrow(failure);
+	}
+
+	/**
+	 * Waits until every part is done or {@code timeout} passes, then cancels whatever is still
+	 * running. Never throws for failed parts; check each {@link Part#getState()} instead.
+	 */
+	public void joinUntil(Duration timeout) {
+		int pending = startJoin();
+		long deadlineNanos = System.nanoTime() + timeout.toNanos();
+		try {
+			while (pending > 0) {
+				long remaining = deadlineNanos - System.nanoTime();
+				if (remaining <= 0 || completed.poll(remaining, TimeUnit.NANOSECONDS) == null) break;
+				pending--;
+			}
+		} catch (InterruptedException e) {
+			cancelAll();
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+		cancelAll();
+	}
+
+	/**
+	 * Cancels the parts still running and waits for their threads to finish.
+	 */
+	@Override
+	public void close() {
+		joined = true;
+		cancelAll();
+		boolean interrupted = false;
+		for (Part<?> part : parts) {
+			while (true) {
+				try {
+					part.thread.join();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	public List<Part<?>> getParts() {
+		return List.copyOf(parts);
+	}
+
+	private int startJoin() {
+		if (joined) throw new IllegalStateException("A Fanout can only be joined once. Open a new one with CqrsBus.fanout().");
+		joined = true;
+		return parts.size();
+	}
+
+	private Part<?> take() {
+		try {
+			return completed.take();
+		} catch (InterruptedException e) {
+			cancelAll();
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	private void cancelAll() {
+		for (Part<?> part : parts) {
+			part.cancel();
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable failure) {
+		if (failure instanceof RuntimeException e) return e;
+		if (failure instanceof Error e) throw e;
+		return new CompletionException(failure);
+	}
+
+	public enum State {
+		RUNNING, SUCCEEDED, FAILED, CANCELLED
+	}
+
+	/**
+	 * Outcome of one forked send.
+	 */
+	public static final class Part<R> {
+		private final Fanout scope;
+		private final AtomicInteger state = new AtomicInteger(State.RUNNING.ordinal());
+		private Thread thread;
+		private volatile R result;
+		private volatile Throwable exception;
+
+		private Part(Fanout scope) {
+			this.scope = scope;
+		}
+
+		public State getState() {
+			return State.values()[state.get()];
+		}
+
+		/**
+		 * The result of a part that succeeded.
+		 *
+		 * @throws IllegalStateException if the part failed, was cancelled or is still running
+		 */
+		public R get() {
+			if (getState() != State.SUCCEEDED) throw new IllegalStateException(String.format(
+																	"Cannot get the result of a Fanout part in state %s. " +
+																	"Check getState() or use orElse() with joinUntil() and joinFirst().",
+																	getState()
+																), exception);
+			return result;
+		}
+
+		public R orElse(R fallback) {
+			return getState() == State.SUCCEEDED ? result : fallback;
+		}
+
+		/**
+		 * The failure of a part that failed, or null.
+		 */
+		public Throwable getException() {
+			return exception;
+		}
+
+		private void succeed(R value) {
+			result = value;
+			if (state.compareAndSet(State.RUNNING.ordinal(), State.SUCCEEDED.ordinal())) scope.completed.add(this);
+		}
+
+		private void fail(Throwable e) {
+			exception = e;
+			if (state.compareAndSet(State.RUNNING.ordinal(), State.FAILED.ordinal())) scope.completed.add(this);
+		}
+
+		private void cancel() {
+			if (state.compareAndSet(State.RUNNING.ordinal(), State.CANCELLED.ordinal())) thread.interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.nexus.core.cqrs;
+
+/**
+ * Cross-cutting step around {@link Handler#handle}, such as logging, validation or transactions.
+ * Behaviors are discovered by the same scan as commands and queries and instantiated through
+ * {@code @Inject} constructors. The chain of every handler is linked once when the context is
+ * built; handlers no behavior applies to are called directly.
+ */
+public interface PipelineBehavior {
+
+	/**
+	 * Runs around the handler. Call {@code next.handle(input)} to continue down the chain, or return
+	 * without calling it to short-circuit.
+	 */
+	<C, R> R handle(Class<?> handlerClass, C input, Handler<C, R> next);
+
+	default boolean appliesTo(Class<?> handlerClass) {
+		return true;
+	}
+
+	/**
+	 * Behaviors with a lower order run further out; ties are broken by class name.
+	 */
+	default int order() {
+		return 0;
+	}
+}
@@ -0,0 +1,160 @@
+package com.nexus.core.cqrs;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache in front of a query handler, keyed by the query input. Hits are lock-free reads of
+ * a concurrent map that only mark the entry as referenced; eviction approximates LRU with the CLOCK
+ * algorithm, giving referenced entries a second chance before the oldest unreferenced one goes.
+ * Misses run the handler outside the lock; a result computed while its key or the whole cache was
+ * invalidated is returned but not stored, so an invalidation is never undone by a slow in-flight
+ * query. Invalidating one key leaves the misses of other keys alone.
+ */
+public final class QueryCache<C, R> implements Handler<C, R> {
+	private final Handler<C, R> query;
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<Object, Entry<R>> entries = new ConcurrentHashMap<>();
+	// Misses in flight per key, so invalidating a key only discards the results loaded before it
+	private final Map<Object, Load> loads = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final ReentrantLock lock = new ReentrantLock();
+	// Guarded by lock: stored entries oldest first, with stale ones skipped when they come up
+	private final ArrayDeque<Entry<R>> clock = new ArrayDeque<>();
+	private volatile long generation;
+
+	public QueryCache(Handler<C, R> query, int maxSize, Duration ttl) {
+		if (maxSize < 1) throw new IllegalArgumentException(String.format(
+														"Invalid query cache size %d: at least one entry is required.",
+														maxSize
+													));
+		this.query = query;
+		this.maxSize = maxSize;
+		this.ttlNanos = ttl.isNegative() || ttl.isZero() ? 0 : ttl.toNanos();
+	}
+
+	@Override
+	public R handle(C input) {
+		// Concurrent maps hold no null keys, such queries are not cached
+		if (input == null) return query.handle(null);
+		Entry<R> entry = entries.get(input);
+		if (entry != null) {
+			if (!isExpired(entry, System.nanoTime())) {
+				if (!entry.referenced) entry.referenced = true;
+				hits.increment();
+				return entry.value;
+			}
+			entries.remove(input, entry);
+		}
+		long generation = this.generation;
+		Load load = loads.compute(input, (key, current) -> {
+			Load joined = current == null || current.stale ? new Load() : current;
+			joined.inFlight++;
+			return joined;
+		});
+		misses.increment();
+		try {
+			R value = query.handle(input);
+			store(input, value, generation, load);
+			return value;
+		} finally {
+			// Only after storing, or an invalidation in between would not find the load to mark
+			loads.computeIfPresent(input, (key, current) -> current == load && --current.inFlight == 0 ? null : current);
+		}
+	}
+
+	private void store(Object key, R value, long generation, Load load) {
+		Entry<R> entry = new Entry<>(key, value, System.nanoTime());
+		lock.lock();
+		try {
+			if (generation != this.generation || load.stale) return;
+			entries.put(key, entry);
+			clock.addLast(entry);
+			while (entries.size() > maxSize) evictOne();
+			// Replaced and expired entries leave stale slots behind, drop them before they pile up
+			if (clock.size() > 2 * maxSize) clock.removeIf(stale -> entries.get(stale.key) != stale);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Called with the lock held
+	private void evictOne() {
+		while (true) {
+			Entry<R> oldest = clock.pollFirst();
+			if (oldest == null) return;
+			if (entries.get(oldest.key) != oldest) continue;
+			if (oldest.referenced) {
+				oldest.referenced = false;
+				clock.addLast(oldest);
+				continue;
+			}
+			if (entries.remove(oldest.key, oldest)) evictions.increment();
+			return;
+		}
+	}
+
+	public void invalidate(C input) {
+		if (input == null) return;
+		lock.lock();
+		try {
+			Load load = loads.get(input);
+			if (load != null) load.stale = true;
+			entries.remove(input);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void invalidateAll() {
+		lock.lock();
+		try {
+			generation++;
+			entries.clear();
+			clock.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public CacheStats getStats() {
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	private boolean isExpired(Entry<R> entry, long now) {
+		return ttlNanos > 0 && now - entry.storedAt >= ttlNanos;
+	}
+
+	private static final class Load {
+		// Only changed inside compute on the loads map
+		private int inFlight;
+		// Set under the cache lock once the key was invalidated while loading
+		private volatile boolean stale;
+	}
+
+	private static final class Entry<R> {
+		private final Object key;
+		private final R value;
+		private final long storedAt;
+		// Set by hits without a lock, cleared by the eviction sweep
+		private volatile boolean referenced;
+
+		private Entry(Object key, R value, long storedAt) {
+			this.key = key;
+			this.value = value;
+			this.storedAt = storedAt;
+		}
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.nexus.core.cqrs;
+
+/**
+ * Input that names the aggregate it belongs to. With partitioned dispatch enabled, sends whose inputs
+ * have equal routing keys run one at a time in send order, while different keys run in parallel.
+ */
+public interface Routable {
+	Object routingKey();
+}
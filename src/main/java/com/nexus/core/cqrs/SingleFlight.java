@@ -0,0 +1,83 @@
+package com.nexus.core.cqrs;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a query at most once at a time per input. Callers arriving while an equal input is in flight
+ * wait for that execution and get its result, or its exception rethrown. Nothing is remembered once
+ * the execution completes.
+ * <p>
+ * A query that sends its own input again on the thread running it is executed again rather than
+ * waiting for itself. Doing so from another thread and waiting for it still deadlocks, as the
+ * leader cannot finish before the follower it waits for.
+ */
+public final class SingleFlight<C, R> implements Handler<C, R> {
+	private static final Object NULL_INPUT = new Object();
+
+	private final Handler<C, R> query;
+	private final Map<Object, Flight<R>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder coalesced = new LongAdder();
+
+	public SingleFlight(Handler<C, R> query) {
+		this.query = query;
+	}
+
+	@Override
+	public R handle(C input) {
+		Object key = input != null ? input : NULL_INPUT;
+		Flight<R> flight = new Flight<>(Thread.currentThread());
+		Flight<R> leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			// Waiting for its own execution would never return
+			if (leader.thread == Thread.currentThread()) return query.handle(input);
+			coalesced.increment();
+			return await(leader);
+		}
+		try {
+			R result = query.handle(input);
+			flight.complete(result);
+			return result;
+		} catch (Throwable e) {
+			// Checked exceptions thrown sneakily too, or the followers would wait forever
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Number of calls that were served by another caller's execution.
+	 */
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+	private R await(CompletableFuture<R> leader) {
+		try {
+			return leader.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			if (e.getCause() instanceof Error cause) throw cause;
+			throw new CompletionException(e.getCause());
+		} catch (InterruptedException e) {
+			// E.g. the deadline of this caller expired; the leader keeps running for the others
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	private static final class Flight<R> extends CompletableFuture<R> {
+		private final Thread thread;
+
+		private Flight(Thread thread) {
+			this.thread = thread;
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.nexus.core.cqrs;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel: timers are hashed into buckets by expiry tick and one thread walks a bucket
+ * per tick, so scheduling and cancelling are O(1) and no per-timer scheduled future exists. Timers
+ * fire up to one tick late. Buckets are intrusive linked lists owned by the wheel thread; other
+ * threads only hand it new and cancelled timers through queues, which it drains every tick.
+ */
+final class TimingWheel {
+	private static final TimingWheel SHARED = new TimingWheel(TimeUnit.MILLISECONDS.toNanos(1), 512);
+
+	private final long tickNanos;
+	private final int mask;
+	private final Bucket[] buckets;
+	private final Queue<Timer> pending = new ConcurrentLinkedQueue<>();
+	private final Queue<Timer> cancelled = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean started = new AtomicBoolean();
+	private final long startNanos = System.nanoTime();
+	// Only touched by the wheel thread
+	private long tick;
+
+	TimingWheel(long tickNanos, int wheelSize) {
+		if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) throw new IllegalArgumentException(String.format(
+																					"Invalid timing wheel size %d: the size must be a positive power of two.",
+																					wheelSize
+																				));
+		this.tickNanos = tickNanos;
+		this.mask = wheelSize - 1;
+		this.buckets = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = new Bucket();
+		}
+	}
+
+	static TimingWheel shared() {
+		return SHARED;
+	}
+
+	Timer schedule(Runnable task, long deadlineNanos) {
+		Timer timer = new Timer(this, task, deadlineNanos);
+		pending.add(timer);
+		if (!started.get() && started.compareAndSet(false, true)) {
+			Thread.ofPlatform().name("nexus-timer").daemon().start(this::run);
+		}
+		return timer;
+	}
+
+	private void run() {
+		while (true) {
+			long tickDeadline = startNanos + (tick + 1) * tickNanos;
+			long sleep;
+			while ((sleep = tickDeadline - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(sleep);
+			}
+			removeCancelled();
+			transferPending();
+			buckets[(int) (tick & mask)].expire(System.nanoTime());
+			tick++;
+		}
+	}
+
+	private void removeCancelled() {
+		Timer timer;
+		while ((timer = cancelled.poll()) != null) {
+			if (timer.bucket != null) timer.bucket.remove(timer);
+		}
+	}
+
+	private void transferPending() {
+		Timer timer;
+		while ((timer = pending.poll()) != null) {
+			if (timer.state.get() != Timer.WAITING) continue;
+			long expiryTick = Math.max(tick, (timer.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1);
+			timer.rounds = (expiryTick - tick) / buckets.length;
+			buckets[(int) (expiryTick & mask)].add(timer);
+		}
+	}
+
+	static final class Timer {
+		private static final int WAITING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+
+		private final TimingWheel wheel;
+		private final Runnable task;
+		private final long deadlineNanos;
+		private final AtomicInteger state = new AtomicInteger(WAITING);
+		// Only touched by the wheel thread
+		private long rounds;
+		private Bucket bucket;
+		private Timer prev;
+		private Timer next;
+
+		private Timer(TimingWheel wheel, Runnable task, long deadlineNanos) {
+			this.wheel = wheel;
+			this.task = task;
+			this.deadlineNanos = deadlineNanos;
+		}
+
+		void cancel() {
+			if (state.compareAndSet(WAITING, CANCELLED)) wheel.cancelled.add(this);
+		}
+	}
+
+	private static final class Bucket {
+		private Timer head;
+		private Timer tail;
+
+		private void add(Timer timer) {
+			timer.bucket = this;
+			timer.prev = tail;
+			if (tail == null) head = timer;
+			else tail.next = timer;
+			tail = timer;
+		}
+
+		private void remove(Timer timer) {
+			if (timer.prev == null) head = timer.next;
+			else timer.prev.next = timer.next;
+			if (timer.next == null) tail = timer.prev;
+			else timer.next.prev = timer.prev;
+			timer.bucket = null;
+			timer.prev = null;
+			timer.next = null;
+		}
+
+		private void expire(long now) {
+			Timer timer = head;
+			while (timer != null) {
+				Timer next = timer.next;
+				if (timer.rounds > 0) {
+					timer.rounds--;
+				} else if (timer.deadlineNanos - now <= 0) {
+					remove(timer);
+					if (timer.state.compareAndSet(Timer.WAITING, Timer.EXPIRED)) run(timer.task);
+				}
+				timer = next;
+			}
+		}
+
+		// The wheel thread is shared by every deadline, so no failure of one expiry may stop it
+		private void run(Runnable task) {
+			try {
+				task.run();
+			} catch (Throwable e) {
+				Thread current = Thread.currentThread();
+				try {
+					current.getUncaughtExceptionHandler().uncaughtException(current, e);
+				} catch (Throwable ignored) {
+					// A failing handler must not stop the wheel either
+				}
+			}
+		}
+	}
+
+}
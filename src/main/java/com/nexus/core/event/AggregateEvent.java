@@ -0,0 +1,10 @@
+package com.nexus.core.event;
+
+/**
+ * Event that names the aggregate it belongs to. Consumers that spread events over threads, such as
+ * a parallel journal replay, keep the events of one key in order and handle different keys
+ * concurrently.
+ */
+public interface AggregateEvent extends DomainEvent {
+	Object aggregateKey();
+}
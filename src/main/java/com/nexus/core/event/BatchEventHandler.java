@@ -0,0 +1,10 @@
+package com.nexus.core.event;
+
+import java.util.List;
+
+/**
+ * Event handler that receives a whole {@link EventBus#publishAll} batch in one call.
+ */
+public interface BatchEventHandler<T extends DomainEvent> extends EventHandler<T> {
+	public void onAll(List<T> events);
+}
@@ -0,0 +1,7 @@
+package com.nexus.core.event;
+
+/**
+ * A delivery that failed, as kept by a {@link DeadLetterQueue}. {@code exhausted} letters used up
+ * their retries and stay in the queue until they are dropped or cleared.
+ */
+public record DeadLetter(DomainEvent event, EventHandler<?> handler, Throwable failure, int attempts, boolean exhausted) {}
@@ -0,0 +1,302 @@
+package com.nexus.core.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded store of failed event deliveries that redelivers them with exponential backoff. The wait
+ * before attempt {@code n} is a random point between half and all of
+ * {@code min(maxBackoff, initialBackoff * 2^(n-1))}, so handlers failing together do not retry in
+ * lockstep. Delays are kept on one scheduler thread shared by every queue and the redelivery itself
+ * runs elsewhere, so a slow handler never holds up the retries of the others.
+ * <p>
+ * When the queue is full, the oldest letter is dropped together with its pending retry. Retried
+ * events can reach the handler after events published later.
+ * <p>
+ * Letters without a redelivery executor are retried on virtual threads, one at a time per handler.
+ * Such a retry can still overlap with a delivery on the publishing thread, so handlers of a
+ * synchronous bus must be safe to call concurrently once one of their deliveries failed.
+ */
+public final class DeadLetterQueue {
+	private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("nexus-redelivery-", 0).factory();
+	private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+	private final int capacity;
+	private final int maxAttempts;
+	private final long initialBackoffNanos;
+	private final long maxBackoffNanos;
+	private final ReentrantLock lock = new ReentrantLock();
+	// Guarded by lock, in insertion order so the first one is the oldest
+	private final LinkedHashSet<Letter> letters = new LinkedHashSet<>();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder recovered = new LongAdder();
+	private final Map<EventHandler<?>, Executor> redeliveries = new ConcurrentHashMap<>();
+
+	private DeadLetterQueue(Builder builder) {
+		this.capacity = builder.capacity;
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoffNanos = builder.initialBackoff.toNanos();
+		this.maxBackoffNanos = builder.maxBackoff.toNanos();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private static ScheduledThreadPoolExecutor newScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("nexus-retry").daemon().factory());
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * Records that {@code handler} failed on {@code event} and schedules its redelivery on a virtual
+	 * thread. Retries of one handler never run at the same time.
+	 */
+	public <E extends DomainEvent> void deliveryFailed(EventHandler<E> handler, E event, Throwable failure) {
+		deliveryFailed(handler, event, failure, redeliveries.computeIfAbsent(handler, h -> newRedelivery()));
+	}
+
+	private static Executor newRedelivery() {
+		ReentrantLock oneAtATime = new ReentrantLock();
+		return command -> VIRTUAL_THREADS.newThread(() -> {
+			oneAtATime.lock();
+			try {
+				command.run();
+			} finally {
+				oneAtATime.unlock();
+			}
+		}).start();
+	}
+
+	/**
+	 * Like {@link #deliveryFailed(EventHandler, DomainEvent, Throwable)}, redelivering on
+	 * {@code redelivery}, e.g. the serial lane the handler normally runs on.
+	 */
+	public <E extends DomainEvent> void deliveryFailed(EventHandler<E> handler, E event, Throwable failure, Executor redelivery) {
+		Letter letter = new Letter(handler, event, redelivery);
+		lock.lock();
+		try {
+			if (letters.size() >= capacity) dropOldest();
+			letter.failure = failure;
+			letter.attempts = 1;
+			letters.add(letter);
+			scheduleRetry(letter);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void dropOldest() {
+		Iterator<Letter> oldest = letters.iterator();
+		Letter letter = oldest.next();
+		oldest.remove();
+		if (letter.retry != null) letter.retry.cancel(false);
+		dropped.increment();
+	}
+
+	// Called with the lock held
+	private void scheduleRetry(Letter letter) {
+		if (letter.attempts >= maxAttempts) {
+			letter.retry = null;
+			return;
+		}
+		try {
+			letter.retry = SCHEDULER.schedule(() -> redeliver(letter), backoffNanos(letter.attempts), TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			letter.retry = null;
+		}
+	}
+
+	private long backoffNanos(int attempt) {
+		long backoff = maxBackoffNanos;
+		if (attempt - 1 < Long.numberOfLeadingZeros(initialBackoffNanos) - 1) {
+			backoff = Math.min(maxBackoffNanos, initialBackoffNanos << (attempt - 1));
+		}
+		long half = backoff / 2;
+		return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+	}
+
+	private void redeliver(Letter letter) {
+		try {
+			letter.redelivery.execute(() -> retry(letter));
+		} catch (RejectedExecutionException e) {
+			failed(letter, e);
+		}
+	}
+
+	private void retry(Letter letter) {
+		lock.lock();
+		try {
+			// Dropped or cleared while waiting
+			if (!letters.contains(letter)) return;
+		} finally {
+			lock.unlock();
+		}
+		try {
+			letter.deliver();
+		} catch (Throwable e) {
+			// Anything else would leave the letter waiting on a retry that already ran
+			failed(letter, e);
+			return;
+		}
+		lock.lock();
+		try {
+			if (letters.remove(letter)) recovered.increment();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void failed(Letter letter, Throwable failure) {
+		lock.lock();
+		try {
+			if (!letters.contains(letter)) return;
+			letter.failure = failure;
+			letter.attempts++;
+			scheduleRetry(letter);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Snapshot of the letters waiting for a retry or exhausted, oldest first.
+	 */
+	public List<DeadLetter> getDeadLetters() {
+		lock.lock();
+		try {
+			List<DeadLetter> snapshot = new ArrayList<>(letters.size());
+			for (Letter letter : letters) {
+				snapshot.add(new DeadLetter(letter.event, letter.handler, letter.failure, letter.attempts, letter.retry == null));
+			}
+			return snapshot;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return letters.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes every letter and cancels their pending retries.
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			for (Letter letter : letters) {
+				if (letter.retry != null) letter.retry.cancel(false);
+			}
+			letters.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Letters pushed out by newer ones while the queue was full.
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Letters whose redelivery eventually succeeded.
+	 */
+	public long getRecoveredCount() {
+		return recovered.sum();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	private static final class Letter {
+		private final EventHandler<?> handler;
+		private final DomainEvent event;
+		private final Executor redelivery;
+		// Guarded by the queue lock
+		private Throwable failure;
+		private int attempts;
+		private ScheduledFuture<?> retry;
+
+		private <E extends DomainEvent> Letter(EventHandler<E> handler, E event, Executor redelivery) {
+			this.handler = handler;
+			this.event = event;
+			this.redelivery = redelivery;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void deliver() {
+			((EventHandler<DomainEvent>) handler).on(event);
+		}
+	}
+
+	public static final class Builder {
+		private int capacity = 1024;
+		private int maxAttempts = 5;
+		private Duration initialBackoff = Duration.ofMillis(100);
+		private Duration maxBackoff = Duration.ofSeconds(30);
+
+		private Builder() {}
+
+		public Builder capacity(int capacity) {
+			if (capacity < 1) throw new IllegalArgumentException(String.format(
+															"Invalid dead letter capacity %d: at least one letter must fit.",
+															capacity
+														));
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Deliveries per letter, the failed one included. One keeps failed deliveries without
+		 * retrying them.
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			if (maxAttempts < 1) throw new IllegalArgumentException(String.format(
+																"Invalid max attempts %d: the failed delivery counts as the first attempt.",
+																maxAttempts
+															));
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		public Builder backoff(Duration initialBackoff, Duration maxBackoff) {
+			if (initialBackoff.isNegative() || initialBackoff.isZero() || maxBackoff.compareTo(initialBackoff) < 0) throw new IllegalArgumentException(String.format(
+																		"Invalid backoff from %s to %s: the initial backoff must be positive and not exceed the maximum.",
+																		initialBackoff,
+																		maxBackoff
+																	));
+			this.initialBackoff = initialBackoff;
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		public DeadLetterQueue build() {
+			return new DeadLetterQueue(this);
+		}
+	}
+
+}
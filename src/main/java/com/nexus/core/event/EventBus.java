@@ -1,5 +1,19 @@
 package com.nexus.core.event;
 
+import java.util.List;
+
 public interface EventBus {
 	public <T extends DomainEvent> void publish(Class<T> eventType, T event);
+
+	/**
+	 * Publishes {@code event} under its own class.
+	 */
+	@SuppressWarnings("unchecked")
+	public default <T extends DomainEvent> void publish(T event) {
+		publish((Class<T>) event.getClass(), event);
+	}
+
+	public default <T extends DomainEvent> void publishAll(Class<T> eventType, List<T> events) {
+		events.forEach(event -> publish(eventType, event));
+	}
 }
@@ -0,0 +1,12 @@
+package com.nexus.core.event;
+
+import com.nexus.boot.EventHandlersRegistry;
+
+/**
+ * Creates the event bus of a NexusContext once its event handlers are registered, for buses that
+ * need the handlers themselves, e.g. {@code RingBufferEventBus.builder()}.
+ */
+@FunctionalInterface
+public interface EventBusFactory {
+	EventBus create(EventHandlersRegistry registry);
+}
@@ -0,0 +1,27 @@
+package com.nexus.core.journal;
+
+import java.nio.ByteBuffer;
+
+import com.nexus.core.codec.Codec;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.JournalException;
+
+final class CodecEventSerializer implements EventSerializer {
+	private final Codec codec;
+
+	CodecEventSerializer(Codec codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public void write(DomainEvent event, ByteBuffer target) {
+		codec.encode(event, target);
+	}
+
+	@Override
+	public DomainEvent read(ByteBuffer source) {
+		if (codec.decode(source) instanceof DomainEvent event) return event;
+		throw new JournalException("A journal record did not decode to a DomainEvent; the journal was written with another serializer.");
+	}
+
+}
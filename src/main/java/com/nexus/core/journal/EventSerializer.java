@@ -0,0 +1,39 @@
+package com.nexus.core.journal;
+
+import java.nio.ByteBuffer;
+
+import com.nexus.core.codec.Codec;
+import com.nexus.core.event.DomainEvent;
+
+/**
+ * Turns events into journal records and back, writing straight into the mapped segment. The
+ * serializer records the event type itself, since the journal stores only the bytes.
+ */
+public interface EventSerializer {
+
+	/**
+	 * Writes {@code event} at the position of {@code target}, advancing it. Throws
+	 * {@link java.nio.BufferOverflowException} when the event does not fit, so the journal can retry
+	 * in a new segment.
+	 */
+	void write(DomainEvent event, ByteBuffer target);
+
+	/**
+	 * Reads the event whose bytes are the remaining ones in {@code source}.
+	 */
+	DomainEvent read(ByteBuffer source);
+
+	/**
+	 * Stores events in the format of {@code codec}.
+	 */
+	static EventSerializer of(Codec codec) {
+		return new CodecEventSerializer(codec);
+	}
+
+	/**
+	 * Java serialization, for events that implement {@link java.io.Serializable}.
+	 */
+	static EventSerializer javaSerialization() {
+		return new JavaEventSerializer();
+	}
+}
@@ -0,0 +1,22 @@
+package com.nexus.core.journal;
+
+/**
+ * When appended events are forced from the page cache to disk.
+ */
+public enum FsyncPolicy {
+	/**
+	 * {@code append()} returns once the event is on disk. Appenders waiting together share one
+	 * fsync (group commit), so the cost per event drops as concurrency rises.
+	 */
+	ON_APPEND,
+	/**
+	 * A background thread forces new events every flush interval, so a crash loses at most that
+	 * window while appends never wait for the disk.
+	 */
+	PERIODIC,
+	/**
+	 * The operating system writes pages back when it chooses; the journal only forces when a
+	 * segment is full and on close. Survives process crashes, not power loss.
+	 */
+	NEVER
+}
@@ -0,0 +1,81 @@
+package com.nexus.core.journal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.JournalException;
+
+/**
+ * Java serialization streamed through the buffer, for events implementing {@link Serializable}.
+ */
+final class JavaEventSerializer implements EventSerializer {
+
+	@Override
+	public void write(DomainEvent event, ByteBuffer target) {
+		if (!(event instanceof Serializable)) throw new JournalException(String.format(
+																"Cannot journal %s: the default serializer needs events that implement Serializable. " +
+																"Implement Serializable or configure another EventSerializer on the Journal builder.",
+																event.getClass().getName()
+															));
+		try (ObjectOutputStream out = new ObjectOutputStream(new BufferOutput(target))) {
+			out.writeObject(event);
+		} catch (IOException e) {
+			throw new JournalException(String.format("Failed to serialize %s.", event.getClass().getName()), e);
+		}
+	}
+
+	@Override
+	public DomainEvent read(ByteBuffer source) {
+		try (ObjectInputStream in = new ObjectInputStream(new BufferInput(source))) {
+			return (DomainEvent) in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new JournalException("Failed to deserialize a journal record.", e);
+		}
+	}
+
+	private static final class BufferOutput extends OutputStream {
+		private final ByteBuffer target;
+
+		private BufferOutput(ByteBuffer target) {
+			this.target = target;
+		}
+
+		@Override
+		public void write(int b) {
+			target.put((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			target.put(b, off, len);
+		}
+	}
+
+	private static final class BufferInput extends InputStream {
+		private final ByteBuffer source;
+
+		private BufferInput(ByteBuffer source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read() {
+			return source.hasRemaining() ? source.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (!source.hasRemaining()) return -1;
+			int n = Math.min(len, source.remaining());
+			source.get(b, off, n);
+			return n;
+		}
+	}
+
+}
@@ -0,0 +1,560 @@
+package com.nexus.core.journal;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.codec.BinaryCodec;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.JournalException;
+
+/**
+ * Append-only event journal on memory-mapped segment files. Appending serializes the event
+ * straight into the mapped segment under a lock, so it costs a memory copy rather than a system
+ * call; when the bytes reach the disk depends on the {@link FsyncPolicy}. Every event gets the next
+ * sequence number, starting at 0, which readers and replays use as their position.
+ * <p>
+ * A segment is a preallocated file named after the sequence of its first event. Each record is its
+ * payload length, a CRC32C of the payload and the payload. A zero length marks the end of the
+ * written part, so a crash leaves at most a torn last record, which the checksum detects and the
+ * next open discards.
+ */
+public final class Journal implements AutoCloseable {
+	static final int HEADER_BYTES = 8;
+	static final String SEGMENT_SUFFIX = ".journal";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final FsyncPolicy fsyncPolicy;
+	private final long flushIntervalNanos;
+	private final EventSerializer serializer;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ReentrantLock forceLock = new ReentrantLock();
+	private final ReentrantLock syncLock = new ReentrantLock();
+	private final Condition dirty = syncLock.newCondition();
+	private final Condition durable = syncLock.newCondition();
+	private final Thread flusher;
+	// Guarded by lock
+	private final List<Long> segmentBases = new ArrayList<>();
+	private final CRC32C checksum = new CRC32C();
+	private Segment active;
+	private long nextSequence;
+	// Every sequence below these was appended, and forced to disk
+	private volatile long appendedSequence;
+	private volatile long durableSequence;
+	private volatile boolean open = true;
+	// Guarded by syncLock, set once close() has forced what it could
+	private boolean closed;
+
+	private Journal(Builder builder) {
+		this.directory = builder.directory;
+		this.segmentSize = builder.segmentSize;
+		this.fsyncPolicy = builder.fsyncPolicy;
+		this.flushIntervalNanos = builder.flushInterval.toNanos();
+		this.serializer = builder.serializer;
+		recover();
+		this.flusher = fsyncPolicy == FsyncPolicy.NEVER ? null : Thread.ofPlatform().name("nexus-journal-flush").daemon().start(this::flushLoop);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Opens the existing segments, or creates the first one. The last segment is scanned to find
+	 * where appending resumes; anything after its last valid record is zeroed.
+	 */
+	private void recover() {
+		try {
+			Files.createDirectories(directory);
+			try (Stream<Path> files = Files.list(directory)) {
+				files.map(path -> path.getFileName().toString())
+					.filter(name -> name.endsWith(SEGMENT_SUFFIX))
+					.map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+					.sorted()
+					.forEach(segmentBases::add);
+			}
+		} catch (IOException | NumberFormatException e) {
+			throw new JournalException(String.format("Cannot open the journal in %s.", directory), e);
+		}
+		if (segmentBases.isEmpty()) {
+			segmentBases.add(0L);
+			active = Segment.open(segmentPath(0), 0, segmentSize);
+		} else {
+			long base = segmentBases.get(segmentBases.size() - 1);
+			active = Segment.open(segmentPath(base), base, segmentSize);
+			long records = 0;
+			int position = 0;
+			int next;
+			while ((next = nextRecord(active.buffer, position, checksum)) > 0) {
+				position = next;
+				records++;
+			}
+			active.position = position;
+			active.synced = position;
+			active.zeroFrom(position);
+			nextSequence = base + records;
+		}
+		appendedSequence = nextSequence;
+		durableSequence = nextSequence;
+	}
+
+	/**
+	 * Position of the record after the valid one at {@code position}, or -1 when there is none. A
+	 * null {@code checksum} only follows the lengths, for skipping records known to be complete.
+	 */
+	static int nextRecord(ByteBuffer buffer, int position, CRC32C checksum) {
+		if (position + HEADER_BYTES > buffer.limit()) return -1;
+		int length = buffer.getInt(position);
+		if (length <= 0 || length > buffer.limit() - position - HEADER_BYTES) return -1;
+		if (checksum == null) return position + HEADER_BYTES + length;
+		checksum.reset();
+		checksum.update(buffer.slice(position + HEADER_BYTES, length));
+		if ((int) checksum.getValue() != buffer.getInt(position + 4)) return -1;
+		return position + HEADER_BYTES + length;
+	}
+
+	/**
+	 * Appends {@code event} and returns its sequence. With {@link FsyncPolicy#ON_APPEND} this waits
+	 * until the event is on disk.
+	 */
+	public long append(DomainEvent event) {
+		long sequence;
+		lock.lock();
+		try {
+			ensureOpen();
+			sequence = write(event);
+			appendedSequence = nextSequence;
+		} finally {
+			lock.unlock();
+		}
+		if (fsyncPolicy == FsyncPolicy.ON_APPEND) awaitDurable(sequence);
+		return sequence;
+	}
+
+	/**
+	 * Appends {@code events} back to back and returns the sequence of the first one, waiting for the
+	 * disk once for the whole batch with {@link FsyncPolicy#ON_APPEND}.
+	 */
+	public long appendAll(List<? extends DomainEvent> events) {
+		long first;
+		long last;
+		lock.lock();
+		try {
+			ensureOpen();
+			first = nextSequence;
+			last = first - 1;
+			for (DomainEvent event : events) {
+				last = write(event);
+			}
+			appendedSequence = nextSequence;
+		} finally {
+			lock.unlock();
+		}
+		if (fsyncPolicy == FsyncPolicy.ON_APPEND && last >= first) awaitDurable(last);
+		return first;
+	}
+
+	// Called with the lock held
+	private long write(DomainEvent event) {
+		if (!tryWrite(event)) {
+			if (active.position == 0) throw tooLarge(event);
+			roll();
+			if (!tryWrite(event)) throw tooLarge(event);
+		}
+		return nextSequence++;
+	}
+
+	private JournalException tooLarge(DomainEvent event) {
+		return new JournalException(String.format(
+										"Cannot journal %s: it does not fit in a segment of %d bytes. " +
+										"Raise the segment size on the Journal builder.",
+										event.getClass().getName(),
+										segmentSize
+									));
+	}
+
+	private boolean tryWrite(DomainEvent event) {
+		int start = active.position;
+		int room = segmentSize - start - HEADER_BYTES;
+		if (room <= 0) return false;
+		ByteBuffer body = active.buffer.slice(start + HEADER_BYTES, room);
+		try {
+			serializer.write(event, body);
+		} catch (BufferOverflowException e) {
+			active.zero(start + HEADER_BYTES, body.position());
+			return false;
+		} catch (RuntimeException e) {
+			// Leave no partial record behind for a later, shorter one to end in
+			active.zero(start + HEADER_BYTES, body.position());
+			throw e;
+		}
+		int length = body.position();
+		if (length == 0) throw new JournalException(String.format(
+													"The EventSerializer wrote no bytes for %s.",
+													event.getClass().getName()
+												));
+		checksum.reset();
+		checksum.update(body.flip());
+		active.buffer.putInt(start + 4, (int) checksum.getValue());
+		// The length goes last: until it is written the record does not exist
+		active.buffer.putInt(start, length);
+		active.position = start + HEADER_BYTES + length;
+		return true;
+	}
+
+	// Called with the lock held
+	private void roll() {
+		Segment full = active;
+		full.force();
+		markDurable(nextSequence);
+		active = Segment.open(segmentPath(nextSequence), nextSequence, segmentSize);
+		segmentBases.add(nextSequence);
+		full.close();
+	}
+
+	private void ensureOpen() {
+		if (!open) throw new IllegalStateException(String.format("Cannot append to the journal in %s: it is closed.", directory));
+	}
+
+	/**
+	 * Forces every event appended so far to disk.
+	 */
+	public void sync() {
+		forceLock.lock();
+		try {
+			Segment segment;
+			int position;
+			long upTo;
+			lock.lock();
+			try {
+				segment = active;
+				position = segment.position;
+				upTo = nextSequence;
+			} finally {
+				lock.unlock();
+			}
+			if (position > segment.synced) {
+				segment.buffer.force(segment.synced, position - segment.synced);
+				segment.synced = position;
+			}
+			markDurable(upTo);
+		} finally {
+			forceLock.unlock();
+		}
+	}
+
+	private void markDurable(long upTo) {
+		syncLock.lock();
+		try {
+			if (upTo > durableSequence) {
+				durableSequence = upTo;
+				durable.signalAll();
+			}
+		} finally {
+			syncLock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until {@code sequence} is on disk. Appenders waiting together are released by the same
+	 * force. Once the journal is closing, the final force in {@link #close()} decides.
+	 */
+	private void awaitDurable(long sequence) {
+		syncLock.lock();
+		try {
+			while (durableSequence <= sequence) {
+				if (closed) throw new JournalException(String.format("The journal in %s was closed before event %d was forced to disk.", directory, sequence));
+				dirty.signal();
+				durable.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JournalException(String.format("Interrupted before event %d was forced to disk; it is appended but may not be durable.", sequence), e);
+		} finally {
+			syncLock.unlock();
+		}
+	}
+
+	private void flushLoop() {
+		while (open) {
+			if (fsyncPolicy == FsyncPolicy.ON_APPEND) {
+				syncLock.lock();
+				try {
+					while (open && appendedSequence <= durableSequence) dirty.await();
+				} catch (InterruptedException e) {
+					return;
+				} finally {
+					syncLock.unlock();
+				}
+			} else {
+				LockSupport.parkNanos(flushIntervalNanos);
+			}
+			if (appendedSequence > durableSequence) {
+				try {
+					sync();
+				} catch (RuntimeException e) {
+					Thread current = Thread.currentThread();
+					current.getUncaughtExceptionHandler().uncaughtException(current, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the events from {@code fromSequence} up to the last one appended before this call.
+	 */
+	public JournalReader reader(long fromSequence) {
+		lock.lock();
+		try {
+			List<Path> segments = new ArrayList<>();
+			long firstBase = 0;
+			for (int i = segmentBases.size() - 1; i >= 0; i--) {
+				long base = segmentBases.get(i);
+				segments.add(0, segmentPath(base));
+				firstBase = base;
+				if (base <= fromSequence) break;
+			}
+			return new JournalReader(segments, firstBase, Math.max(fromSequence, firstBase), nextSequence, serializer);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Feeds the events from {@code fromSequence} on to their handlers in {@code registry}, in journal
+	 * order on the calling thread, and returns the sequence to resume from next time. A handler
+	 * failure stops the replay with a {@link JournalException} naming the sequence that failed.
+	 */
+	@SuppressWarnings("unchecked")
+	public long replay(EventHandlersRegistry registry, long fromSequence) {
+		try (JournalReader reader = reader(fromSequence)) {
+			long next = fromSequence;
+			while (reader.next()) {
+				DomainEvent event = reader.event();
+				try {
+					registry.dispatch((Class<DomainEvent>) event.getClass(), event);
+				} catch (RuntimeException e) {
+					throw new JournalException(String.format(
+												"Replaying event %d (%s) from the journal in %s failed. " +
+												"Events before it were handled; replay from %d once the handler is fixed.",
+												reader.sequence(),
+												event.getClass().getSimpleName(),
+												directory,
+												reader.sequence()
+											), e);
+				}
+				next = reader.sequence() + 1;
+			}
+			return next;
+		}
+	}
+
+	/**
+	 * The sequence the next appended event will get.
+	 */
+	public long getNextSequence() {
+		lock.lock();
+		try {
+			return nextSequence;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Every sequence below this one is on disk.
+	 */
+	public long getDurableSequence() {
+		return durableSequence;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	EventSerializer getSerializer() {
+		return serializer;
+	}
+
+	private Path segmentPath(long base) {
+		return directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+	}
+
+	/**
+	 * Forces what was appended, stops the flusher and releases the files. Appenders still waiting
+	 * for the disk return once that force covers their event, and fail only if it did not.
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			if (!open) return;
+			open = false;
+		} finally {
+			lock.unlock();
+		}
+		if (flusher != null) {
+			syncLock.lock();
+			try {
+				dirty.signalAll();
+			} finally {
+				syncLock.unlock();
+			}
+			LockSupport.unpark(flusher);
+			try {
+				flusher.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		try {
+			lock.lock();
+			try {
+				active.force();
+				markDurable(nextSequence);
+				active.close();
+			} finally {
+				lock.unlock();
+			}
+		} finally {
+			syncLock.lock();
+			try {
+				closed = true;
+				durable.signalAll();
+			} finally {
+				syncLock.unlock();
+			}
+		}
+	}
+
+	private static final class Segment {
+		private static final byte[] ZEROS = new byte[64 * 1024];
+
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+		// Guarded by the journal lock
+		private int position;
+		// Forced ranges may overlap, this only needs to never run ahead of the disk
+		private volatile int synced;
+
+		private Segment(FileChannel channel, MappedByteBuffer buffer) {
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		private static Segment open(Path path, long base, int size) {
+			try {
+				FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size())));
+			} catch (IOException e) {
+				throw new JournalException(String.format("Cannot map journal segment %s starting at event %d.", path, base), e);
+			}
+		}
+
+		private void zero(int from, int length) {
+			for (int offset = from, end = from + length; offset < end; offset += ZEROS.length) {
+				buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, end - offset));
+			}
+		}
+
+		private void zeroFrom(int from) {
+			zero(from, buffer.limit() - from);
+		}
+
+		private void force() {
+			buffer.force();
+			synced = position;
+		}
+
+		private void close() {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new JournalException("Cannot close a journal segment.", e);
+			}
+		}
+	}
+
+	public static final class Builder {
+		private Path directory;
+		private int segmentSize = 64 * 1024 * 1024;
+		private FsyncPolicy fsyncPolicy = FsyncPolicy.PERIODIC;
+		private Duration flushInterval = Duration.ofMillis(10);
+		private EventSerializer serializer = EventSerializer.of(BinaryCodec.builder().build());
+
+		private Builder() {}
+
+		public Builder directory(Path directory) {
+			if (directory == null) throw new IllegalArgumentException(String.format(
+																"Invalid journal directory: null. " +
+																"Pass the directory the segment files should live in."
+															));
+			this.directory = directory;
+			return this;
+		}
+
+		public Builder segmentSize(int segmentSize) {
+			if (segmentSize < 4096) throw new IllegalArgumentException(String.format(
+															"Invalid segment size %d: segments must hold at least 4096 bytes.",
+															segmentSize
+														));
+			this.segmentSize = segmentSize;
+			return this;
+		}
+
+		public Builder fsync(FsyncPolicy fsyncPolicy) {
+			if (fsyncPolicy == null) throw new IllegalArgumentException(String.format(
+																"Invalid fsync policy: null. " +
+																"Use FsyncPolicy.ON_APPEND, FsyncPolicy.PERIODIC or FsyncPolicy.NEVER."
+															));
+			this.fsyncPolicy = fsyncPolicy;
+			return this;
+		}
+
+		/**
+		 * How often {@link FsyncPolicy#PERIODIC} forces new events to disk.
+		 */
+		public Builder flushInterval(Duration flushInterval) {
+			if (flushInterval.isNegative() || flushInterval.isZero()) throw new IllegalArgumentException(String.format(
+																		"Invalid flush interval %s: the interval must be positive.",
+																		flushInterval
+																	));
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		public Builder serializer(EventSerializer serializer) {
+			if (serializer == null) throw new IllegalArgumentException(String.format(
+																"Invalid event serializer: null. " +
+																"Omit serializer() to store events with a BinaryCodec."
+															));
+			this.serializer = serializer;
+			return this;
+		}
+
+		public Journal open() {
+			if (directory == null) throw new IllegalArgumentException(String.format(
+																"Cannot open a journal without a directory. " +
+																"Call directory() on the Journal builder first."
+															));
+			return new Journal(this);
+		}
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.nexus.core.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.JournalException;
+
+/**
+ * Forward cursor over a range of journal events, mapping one segment at a time read-only. Events
+ * are only deserialized when {@link #event()} asks for them, so skipping to the start position and
+ * counting cost a header read per record.
+ */
+public final class JournalReader implements AutoCloseable {
+	private final List<Path> segments;
+	private final long endSequence;
+	private final EventSerializer serializer;
+	private final CRC32C checksum = new CRC32C();
+	private int segmentIndex = -1;
+	private MappedByteBuffer buffer;
+	private int position;
+	private int recordStart = -1;
+	private long sequence;
+
+	JournalReader(List<Path> segments, long firstSequence, long fromSequence, long endSequence, EventSerializer serializer) {
+		this.segments = segments;
+		this.endSequence = endSequence;
+		this.serializer = serializer;
+		this.sequence = firstSequence - 1;
+		// Every record before the end was appended in full, so skipping needs no checksums
+		while (sequence + 1 < fromSequence && advance(null)) {
+			// Skip to the requested position
+		}
+	}
+
+	/**
+	 * Moves to the next event, returning false past the last one.
+	 */
+	public boolean next() {
+		return advance(checksum);
+	}
+
+	private boolean advance(CRC32C checksum) {
+		if (sequence + 1 >= endSequence) return false;
+		while (true) {
+			if (buffer != null) {
+				int next = Journal.nextRecord(buffer, position, checksum);
+				if (next > 0) {
+					recordStart = position;
+					position = next;
+					sequence++;
+					return true;
+				}
+			}
+			if (++segmentIndex >= segments.size()) return false;
+			buffer = map(segments.get(segmentIndex));
+			position = 0;
+		}
+	}
+
+	/**
+	 * The event at the current position, deserialized on each call.
+	 */
+	public DomainEvent event() {
+		if (recordStart < 0) throw new IllegalStateException("Call next() before reading an event from the JournalReader.");
+		int length = buffer.getInt(recordStart);
+		return serializer.read(buffer.slice(recordStart + Journal.HEADER_BYTES, length));
+	}
+
+	/**
+	 * The raw bytes of the current event, without copying them.
+	 */
+	public ByteBuffer payload() {
+		if (recordStart < 0) throw new IllegalStateException("Call next() before reading an event from the JournalReader.");
+		return buffer.slice(recordStart + Journal.HEADER_BYTES, buffer.getInt(recordStart)).asReadOnlyBuffer();
+	}
+
+	public long sequence() {
+		return sequence;
+	}
+
+	/**
+	 * The sequence after the last event this reader returns.
+	 */
+	public long getEndSequence() {
+		return endSequence;
+	}
+
+	private static MappedByteBuffer map(Path segment) {
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new JournalException(String.format("Cannot map journal segment %s for reading.", segment), e);
+		}
+	}
+
+	@Override
+	public void close() {
+		buffer = null;
+		recordStart = -1;
+	}
+
+}
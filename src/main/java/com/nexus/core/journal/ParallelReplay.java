@@ -0,0 +1,254 @@
+package com.nexus.core.journal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.AggregateEvent;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.JournalException;
+
+/**
+ * Replays a journal into the registered handlers on several threads. One reader walks the segments
+ * in order and hands each event to the partition of its aggregate key, so events of one key reach
+ * the handlers in journal order while different keys are handled in parallel. Events are passed in
+ * batches through bounded queues, which also stops the reader from running ahead of slow handlers.
+ * <p>
+ * Handlers must therefore be safe to call concurrently for different keys. The first handler
+ * failure stops the replay and is thrown from {@link Builder#run()}.
+ */
+public final class ParallelReplay {
+	private static final int BATCH_SIZE = 256;
+	private static final int QUEUE_BATCHES = 16;
+	private static final List<DomainEvent> END = List.of();
+
+	private final Journal journal;
+	private final EventHandlersRegistry registry;
+	private final int partitions;
+	private final long fromSequence;
+	private final Function<DomainEvent, Object> keyOf;
+	private final Consumer<ReplayProgress> listener;
+	private final long reportEveryNanos;
+	private final LongAdder replayed = new LongAdder();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	private ParallelReplay(Builder builder) {
+		this.journal = builder.journal;
+		this.registry = builder.registry;
+		this.partitions = builder.partitions;
+		this.fromSequence = builder.fromSequence;
+		this.keyOf = builder.keyOf;
+		this.listener = builder.listener;
+		this.reportEveryNanos = builder.reportEvery.toNanos();
+	}
+
+	public static Builder builder(Journal journal, EventHandlersRegistry registry) {
+		return new Builder(journal, registry);
+	}
+
+	private ReplayProgress execute() {
+		long end = journal.getNextSequence();
+		if (fromSequence > end) throw new IllegalArgumentException(String.format(
+													"Invalid start sequence %d: the journal in %s ends at %d.",
+													fromSequence,
+													journal.getDirectory(),
+													end
+												));
+		long start = System.nanoTime();
+		List<BlockingQueue<List<DomainEvent>>> queues = new ArrayList<>(partitions);
+		List<Thread> workers = new ArrayList<>(partitions);
+		for (int i = 0; i < partitions; i++) {
+			BlockingQueue<List<DomainEvent>> queue = new ArrayBlockingQueue<>(QUEUE_BATCHES);
+			queues.add(queue);
+			workers.add(Thread.ofPlatform().name("nexus-replay-" + i).daemon().start(() -> work(queue)));
+		}
+
+		long total = 0;
+		long next = fromSequence;
+		try (JournalReader reader = journal.reader(fromSequence)) {
+			total = reader.getEndSequence() - fromSequence;
+			List<List<DomainEvent>> batches = new ArrayList<>(partitions);
+			for (int i = 0; i < partitions; i++) batches.add(new ArrayList<>(BATCH_SIZE));
+			long lastReport = start;
+			while (failure.get() == null && reader.next()) {
+				DomainEvent event = reader.event();
+				next = reader.sequence() + 1;
+				int partition = partitionOf(keyOf.apply(event));
+				List<DomainEvent> batch = batches.get(partition);
+				batch.add(event);
+				if (batch.size() < BATCH_SIZE) continue;
+				put(queues.get(partition), batch);
+				batches.set(partition, new ArrayList<>(BATCH_SIZE));
+				long now = System.nanoTime();
+				if (listener != null && now - lastReport >= reportEveryNanos) {
+					lastReport = now;
+					listener.accept(new ReplayProgress(replayed.sum(), total, next, Duration.ofNanos(now - start)));
+				}
+			}
+			for (int i = 0; i < partitions; i++) {
+				if (!batches.get(i).isEmpty()) put(queues.get(i), batches.get(i));
+			}
+		} catch (RuntimeException | Error e) {
+			failure.compareAndSet(null, e);
+		} finally {
+			for (BlockingQueue<List<DomainEvent>> queue : queues) {
+				putEnd(queue);
+			}
+			joinAll(workers);
+		}
+
+		Throwable failed = failure.get();
+		if (failed instanceof RuntimeException e) throw e;
+		if (failed instanceof Error e) throw e;
+		if (failed != null) throw new JournalException("The parallel replay failed.", failed);
+		ReplayProgress done = new ReplayProgress(replayed.sum(), total, next, Duration.ofNanos(System.nanoTime() - start));
+		if (listener != null) listener.accept(done);
+		return done;
+	}
+
+	private int partitionOf(Object key) {
+		int hash = Objects.hashCode(key);
+		return Math.floorMod(hash ^ (hash >>> 16), partitions);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void work(BlockingQueue<List<DomainEvent>> queue) {
+		try {
+			List<DomainEvent> batch;
+			while ((batch = queue.take()) != END) {
+				if (failure.get() != null) continue;
+				try {
+					for (DomainEvent event : batch) {
+						registry.dispatch((Class<DomainEvent>) event.getClass(), event);
+					}
+					replayed.add(batch.size());
+				} catch (RuntimeException | Error e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		} catch (InterruptedException e) {
+			failure.compareAndSet(null, e);
+		}
+	}
+
+	private void put(BlockingQueue<List<DomainEvent>> queue, List<DomainEvent> batch) {
+		try {
+			queue.put(batch);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JournalException("Interrupted while replaying the journal.", e);
+		}
+	}
+
+	// The end marker must get through even if the reader was interrupted, or the workers never stop
+	private static void putEnd(BlockingQueue<List<DomainEvent>> queue) {
+		boolean interrupted = Thread.interrupted();
+		while (true) {
+			try {
+				queue.put(END);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	private static void joinAll(List<Thread> workers) {
+		boolean interrupted = Thread.interrupted();
+		for (Thread worker : workers) {
+			while (true) {
+				try {
+					worker.join();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	public static final class Builder {
+		private final Journal journal;
+		private final EventHandlersRegistry registry;
+		private int partitions = Runtime.getRuntime().availableProcessors();
+		private long fromSequence;
+		private Function<DomainEvent, Object> keyOf = event -> event instanceof AggregateEvent aggregate ? aggregate.aggregateKey() : null;
+		private Consumer<ReplayProgress> listener;
+		private Duration reportEvery = Duration.ofSeconds(1);
+
+		private Builder(Journal journal, EventHandlersRegistry registry) {
+			if (journal == null || registry == null) throw new IllegalArgumentException(String.format(
+																		"Invalid parallel replay: both the journal and the EventHandlersRegistry are required."
+																	));
+			this.journal = journal;
+			this.registry = registry;
+		}
+
+		/**
+		 * Number of worker threads, the number of cores by default.
+		 */
+		public Builder partitions(int partitions) {
+			if (partitions < 1) throw new IllegalArgumentException(String.format(
+																"Invalid partition count %d: at least one worker is required.",
+																partitions
+															));
+			this.partitions = partitions;
+			return this;
+		}
+
+		public Builder fromSequence(long fromSequence) {
+			if (fromSequence < 0) throw new IllegalArgumentException(String.format(
+																"Invalid start sequence %d: journal sequences start at 0.",
+																fromSequence
+															));
+			this.fromSequence = fromSequence;
+			return this;
+		}
+
+		/**
+		 * The aggregate key whose events must stay in order, by default the key of
+		 * {@link AggregateEvent}s. Events without a key share one partition, so a journal of plain
+		 * events needs a key function to replay in parallel at all.
+		 */
+		public Builder keyedBy(Function<DomainEvent, Object> keyOf) {
+			if (keyOf == null) throw new IllegalArgumentException(String.format(
+															"Invalid key function: null. " +
+															"Omit keyedBy() to partition AggregateEvents by their aggregate key."
+														));
+			this.keyOf = keyOf;
+			return this;
+		}
+
+		/**
+		 * Calls {@code listener} on the reading thread about every {@code every}, and once at the end.
+		 */
+		public Builder onProgress(Consumer<ReplayProgress> listener, Duration every) {
+			if (listener == null || every == null || every.isNegative()) throw new IllegalArgumentException(String.format(
+																			"Invalid progress reporting every %s: both the listener and a non-negative interval are required.",
+																			every
+																		));
+			this.listener = listener;
+			this.reportEvery = every;
+			return this;
+		}
+
+		/**
+		 * Replays the journal and returns the final progress, whose {@code nextSequence} is where to
+		 * resume from.
+		 */
+		public ReplayProgress run() {
+			return new ParallelReplay(this).execute();
+		}
+	}
+
+}
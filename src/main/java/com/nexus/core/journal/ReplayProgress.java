@@ -0,0 +1,19 @@
+package com.nexus.core.journal;
+
+import java.time.Duration;
+
+/**
+ * How far a replay got: {@code replayed} of {@code total} events handled, and the sequence to
+ * resume from once it is done.
+ */
+public record ReplayProgress(long replayed, long total, long nextSequence, Duration elapsed) {
+
+	public double eventsPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0.0 : replayed * 1_000_000_000.0 / nanos;
+	}
+
+	public double fraction() {
+		return total == 0 ? 1.0 : (double) replayed / total;
+	}
+}
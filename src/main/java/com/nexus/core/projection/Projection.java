@@ -0,0 +1,30 @@
+package com.nexus.core.projection;
+
+import com.nexus.boot.EventHandlersRegistry;
+
+/**
+ * A read model built from the journal by a {@link ProjectionRunner}. The projection subscribes the
+ * handlers that update its state, and hands that state out and back for snapshots. Handlers are
+ * only ever called from the runner's thread, one event at a time.
+ *
+ * @param <S> the state written to the snapshot file, encoded with the runner's codec
+ */
+public interface Projection<S> {
+
+	/**
+	 * Names the snapshot file, so it must be stable across restarts and unique per runner.
+	 */
+	public String getName();
+
+	public void subscribe(EventHandlersRegistry registry);
+
+	/**
+	 * The current state, called between events. It is encoded before the next event is handled.
+	 */
+	public S snapshot();
+
+	/**
+	 * Replaces the state with one loaded from a snapshot, before any event is handled.
+	 */
+	public void restore(S state);
+}
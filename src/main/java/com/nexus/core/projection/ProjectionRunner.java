@@ -0,0 +1,458 @@
+package com.nexus.core.projection;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.codec.BinaryCodec;
+import com.nexus.core.codec.Codec;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.journal.JournalReader;
+import com.nexus.exceptions.ProjectionException;
+
+/**
+ * Keeps {@link Projection}s up to date with a {@link Journal}. Every projection tracks the sequence
+ * after the last event it handled and, every {@code snapshotEvery} events, writes its state and
+ * that position to a snapshot file. Opening the runner restores the snapshots and handles only the
+ * events after them, so a restart costs the gap since the last snapshot rather than the history.
+ * <p>
+ * A snapshot is written to a temporary file, forced and renamed over the previous one, so a crash
+ * leaves one of them intact; the journal is synced first, so a snapshot never covers events the
+ * journal could lose. A snapshot that is corrupted, no longer decodes into the projection's state
+ * or is ahead of the journal is ignored and its projection rebuilt from the first event.
+ * <p>
+ * Projections fail on their own: one whose handler throws stays before the failed event, with the
+ * failure available from {@link #getFailure(String)}, while the others keep advancing. A snapshot
+ * that cannot be written is recorded the same way and tried again {@code snapshotEvery} events
+ * later; the projection keeps handling events.
+ */
+public final class ProjectionRunner implements AutoCloseable {
+	private static final int MAGIC = 0x4E585350;
+	// Magic, position, payload length, CRC32C of the payload
+	private static final int HEADER_BYTES = 20;
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+	private static final int MAX_SNAPSHOT_BYTES = 1 << 30;
+
+	private final Journal journal;
+	private final Path directory;
+	private final Codec codec;
+	private final long snapshotEvery;
+	private final Map<String, Slot<?>> slots = new LinkedHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	// Guarded by lock
+	private final CRC32C checksum = new CRC32C();
+	private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+	private Thread follower;
+	private volatile boolean open = true;
+
+	private ProjectionRunner(Builder builder) {
+		this.journal = builder.journal;
+		this.directory = builder.directory != null ? builder.directory : journal.getDirectory().resolve("projections");
+		this.codec = builder.codec;
+		this.snapshotEvery = builder.snapshotEvery;
+		for (Projection<?> projection : builder.projections) {
+			slots.put(projection.getName(), new Slot<>(projection));
+		}
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new ProjectionException(String.format("Cannot create the snapshot directory %s.", directory), e);
+		}
+		for (Slot<?> slot : slots.values()) {
+			restore(slot);
+		}
+		catchUp();
+	}
+
+	public static Builder builder(Journal journal) {
+		return new Builder(journal);
+	}
+
+	/**
+	 * Hands every event appended since the last call to the projections that have not handled it
+	 * yet, on the calling thread, and returns how many events were read. A projection whose handler
+	 * throws sits out the rest of the call, before the failed event, and gets it again on the next
+	 * call; the others are not held back.
+	 */
+	@SuppressWarnings("unchecked")
+	public long catchUp() {
+		lock.lock();
+		try {
+			if (!open) throw new IllegalStateException(String.format("Cannot catch up the projections in %s: the runner is closed.", directory));
+			long from = Long.MAX_VALUE;
+			for (Slot<?> slot : slots.values()) {
+				from = Math.min(from, slot.position);
+				slot.stalled = false;
+			}
+			int stalled = 0;
+			long read = 0;
+			try (JournalReader reader = journal.reader(from)) {
+				while (stalled < slots.size() && reader.next()) {
+					long sequence = reader.sequence();
+					DomainEvent event = reader.event();
+					for (Slot<?> slot : slots.values()) {
+						if (slot.position > sequence || slot.stalled) continue;
+						try {
+							slot.registry.dispatch((Class<DomainEvent>) event.getClass(), event);
+						} catch (Throwable e) {
+							slot.failure = new ProjectionException(String.format(
+																	"Projection '%s' failed on event %d (%s) and stays before it until a catch-up handles it.",
+																	slot.projection.getName(),
+																	sequence,
+																	event.getClass().getSimpleName()
+																), e);
+							slot.stalled = true;
+							stalled++;
+							continue;
+						}
+						slot.failure = null;
+						slot.position = sequence + 1;
+						if (++slot.unsaved >= snapshotEvery) trySnapshot(slot);
+					}
+					read++;
+				}
+			}
+			return read;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Catches up every {@code interval} on a background thread until the runner is closed. A failed
+	 * catch-up, or a projection newly stuck on an event, is reported to the thread's uncaught
+	 * exception handler and retried at the next tick.
+	 */
+	public void follow(Duration interval) {
+		if (interval.isNegative() || interval.isZero()) throw new IllegalArgumentException(String.format(
+																	"Invalid follow interval %s: the interval must be positive.",
+																	interval
+																));
+		long intervalNanos = interval.toNanos();
+		lock.lock();
+		try {
+			if (follower != null) throw new IllegalStateException("The projections are already followed by a background thread.");
+			follower = Thread.ofPlatform().name("nexus-projections").daemon().start(() -> {
+				// The position a projection was stuck at or the snapshot failure last reported, so a retry
+				// failing again stays quiet
+				Map<Slot<?>, Object> reported = new HashMap<>();
+				while (open) {
+					LockSupport.parkNanos(intervalNanos);
+					if (!open) break;
+					try {
+						catchUp();
+					} catch (RuntimeException e) {
+						if (!open) break;
+						report(e);
+					}
+					for (Slot<?> slot : slots.values()) {
+						ProjectionException failure = slot.failure;
+						Object key = failure != null ? (Object) slot.position : slot.snapshotFailure;
+						if (key == null) reported.remove(slot);
+						else if (!key.equals(reported.put(slot, key))) report(failure != null ? failure : slot.snapshotFailure);
+					}
+				}
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void report(Throwable failure) {
+		Thread current = Thread.currentThread();
+		current.getUncaughtExceptionHandler().uncaughtException(current, failure);
+	}
+
+	/**
+	 * Writes a snapshot of every projection that handled events since its last one.
+	 */
+	public void snapshot() {
+		lock.lock();
+		try {
+			for (Slot<?> slot : slots.values()) {
+				if (slot.unsaved > 0) writeSnapshot(slot);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The sequence after the last event the projection named {@code name} handled.
+	 */
+	public long getPosition(String name) {
+		return slot(name).position;
+	}
+
+	/**
+	 * The position of the last snapshot written or restored for {@code name}, 0 when there is none.
+	 */
+	public long getSnapshotPosition(String name) {
+		return slot(name).snapshotPosition;
+	}
+
+	/**
+	 * Why the projection named {@code name} is stuck at its position or, if it is not, why its last
+	 * snapshot failed. Null when its last catch-up and snapshot went through.
+	 */
+	public ProjectionException getFailure(String name) {
+		Slot<?> slot = slot(name);
+		ProjectionException failure = slot.failure;
+		return failure != null ? failure : slot.snapshotFailure;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	private Slot<?> slot(String name) {
+		Slot<?> slot = slots.get(name);
+		if (slot == null) throw new IllegalArgumentException(String.format(
+															"Unknown projection '%s'. The runner holds %s.",
+															name,
+															slots.keySet()
+														));
+		return slot;
+	}
+
+	private Path snapshotPath(Slot<?> slot) {
+		return directory.resolve(slot.projection.getName() + SNAPSHOT_SUFFIX);
+	}
+
+	// A failed snapshot must not stop the catch-up: the events are in the journal, only the restart gets longer
+	private void trySnapshot(Slot<?> slot) {
+		try {
+			writeSnapshot(slot);
+		} catch (ProjectionException e) {
+			slot.unsaved = 0;
+		}
+	}
+
+	private <S> void writeSnapshot(Slot<S> slot) {
+		Path target = snapshotPath(slot);
+		Path temporary = directory.resolve(target.getFileName() + ".tmp");
+		try {
+			if (slot.position > journal.getDurableSequence()) journal.sync();
+			ByteBuffer payload = encode(slot.projection.snapshot());
+			checksum.reset();
+			checksum.update(payload.duplicate());
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+				.putInt(MAGIC)
+				.putLong(slot.position)
+				.putInt(payload.remaining())
+				.putInt((int) checksum.getValue())
+				.flip();
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ByteBuffer[] parts = { header, payload };
+				while (header.hasRemaining() || payload.hasRemaining()) {
+					channel.write(parts);
+				}
+				channel.force(true);
+			}
+			Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			ProjectionException failure = new ProjectionException(String.format(
+															"Cannot write the snapshot of projection '%s' at position %d to %s. " +
+															"The projection keeps running and tries again at its next snapshot.",
+															slot.projection.getName(),
+															slot.position,
+															target
+														), e);
+			slot.snapshotFailure = failure;
+			throw failure;
+		}
+		slot.unsaved = 0;
+		slot.snapshotPosition = slot.position;
+		slot.snapshotFailure = null;
+	}
+
+	private ByteBuffer encode(Object state) {
+		while (true) {
+			buffer.clear();
+			try {
+				codec.encode(state, buffer);
+				return buffer.flip();
+			} catch (BufferOverflowException e) {
+				if (buffer.capacity() >= MAX_SNAPSHOT_BYTES) throw new ProjectionException(String.format(
+																			"A projection state does not fit into a %d byte snapshot.",
+																			MAX_SNAPSHOT_BYTES
+																		), e);
+				buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> void restore(Slot<S> slot) {
+		Path path = snapshotPath(slot);
+		if (!Files.exists(path)) return;
+		ByteBuffer bytes;
+		try {
+			bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+		} catch (IOException e) {
+			throw new ProjectionException(String.format("Cannot read the snapshot %s.", path), e);
+		}
+		if (bytes.remaining() < HEADER_BYTES || bytes.getInt() != MAGIC) return;
+		long position = bytes.getLong();
+		int length = bytes.getInt();
+		int crc = bytes.getInt();
+		if (length != bytes.remaining() || position > journal.getNextSequence()) return;
+		checksum.reset();
+		checksum.update(bytes.duplicate());
+		if ((int) checksum.getValue() != crc) return;
+		S state;
+		try {
+			state = (S) codec.decode(bytes);
+		} catch (RuntimeException e) {
+			// Written by another version of the state classes, rebuilding is the only way back
+			return;
+		}
+		try {
+			slot.projection.restore(state);
+		} catch (ClassCastException e) {
+			// Decodes, but to another state type than the projection now keeps
+			return;
+		}
+		slot.position = position;
+		slot.snapshotPosition = position;
+	}
+
+	/**
+	 * Stops following, writes a last snapshot of every projection that handled events since its
+	 * previous one and stops the runner. Close it before the journal.
+	 */
+	@Override
+	public void close() {
+		Thread following;
+		lock.lock();
+		try {
+			if (!open) return;
+			open = false;
+			following = follower;
+		} finally {
+			lock.unlock();
+		}
+		if (following != null) {
+			LockSupport.unpark(following);
+			try {
+				following.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		snapshot();
+	}
+
+	private static final class Slot<S> {
+		private final Projection<S> projection;
+		private final EventHandlersRegistry registry = new EventHandlersRegistry();
+		// Written under the runner's lock
+		private volatile long position;
+		private volatile long snapshotPosition;
+		private volatile ProjectionException failure;
+		private volatile ProjectionException snapshotFailure;
+		private long unsaved;
+		private boolean stalled;
+
+		private Slot(Projection<S> projection) {
+			this.projection = projection;
+			projection.subscribe(registry);
+		}
+	}
+
+	public static final class Builder {
+		private final Journal journal;
+		private final List<Projection<?>> projections = new ArrayList<>();
+		private Path directory;
+		private Codec codec = BinaryCodec.builder().build();
+		private long snapshotEvery = 10_000;
+
+		private Builder(Journal journal) {
+			if (journal == null) throw new IllegalArgumentException(String.format(
+																"Invalid projection runner: null journal. " +
+																"Projections are built from the events of an open Journal."
+															));
+			this.journal = journal;
+		}
+
+		public Builder add(Projection<?> projection) {
+			if (projection == null || projection.getName() == null || projection.getName().isBlank()) throw new IllegalArgumentException(String.format(
+																			"Invalid projection %s: a projection needs a name for its snapshot file.",
+																			projection
+																		));
+			for (Projection<?> added : projections) {
+				if (added.getName().equals(projection.getName())) throw new IllegalArgumentException(String.format(
+																		"Duplicate projection name '%s': each projection needs its own snapshot file.",
+																		projection.getName()
+																	));
+			}
+			projections.add(projection);
+			return this;
+		}
+
+		/**
+		 * Where the snapshot files live, a {@code projections} directory inside the journal's by default.
+		 */
+		public Builder snapshotDirectory(Path directory) {
+			if (directory == null) throw new IllegalArgumentException(String.format(
+																"Invalid snapshot directory: null. " +
+																"Omit snapshotDirectory() to keep snapshots next to the journal."
+															));
+			this.directory = directory;
+			return this;
+		}
+
+		/**
+		 * How many events a projection handles between two snapshots.
+		 */
+		public Builder snapshotEvery(long events) {
+			if (events < 1) throw new IllegalArgumentException(String.format(
+															"Invalid snapshot interval %d: at least one event must separate two snapshots.",
+															events
+														));
+			this.snapshotEvery = events;
+			return this;
+		}
+
+		/**
+		 * Codec of the projection states, a {@link BinaryCodec} by default.
+		 */
+		public Builder codec(Codec codec) {
+			if (codec == null) throw new IllegalArgumentException(String.format(
+															"Invalid snapshot codec: null. " +
+															"Omit codec() to write snapshots with a BinaryCodec."
+														));
+			this.codec = codec;
+			return this;
+		}
+
+		/**
+		 * Restores the snapshots and catches every projection up with the journal.
+		 */
+		public ProjectionRunner open() {
+			if (projections.isEmpty()) throw new IllegalArgumentException(String.format(
+																	"Cannot open a projection runner without projections. " +
+																	"Call add() on the ProjectionRunner builder first."
+																));
+			return new ProjectionRunner(this);
+		}
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.nexus.exceptions;
+
+public class BulkheadFullException extends NexusException {
+	public BulkheadFullException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,7 @@
+package com.nexus.exceptions;
+
+public class CircularDependencyException extends NexusException {
+	public CircularDependencyException(String message) {
+		super(message);
+	}
+}
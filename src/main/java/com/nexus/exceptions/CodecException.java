@@ -0,0 +1,10 @@
+package com.nexus.exceptions;
+
+public class CodecException extends NexusException {
+	public CodecException(String message) {
+		super(message);
+	}
+	public CodecException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
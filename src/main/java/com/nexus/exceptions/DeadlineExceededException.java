@@ -0,0 +1,10 @@
+package com.nexus.exceptions;
+
+public class DeadlineExceededException extends NexusException {
+	public DeadlineExceededException(String message) {
+		super(message);
+	}
+	public DeadlineExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
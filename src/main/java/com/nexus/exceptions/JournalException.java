@@ -0,0 +1,10 @@
+package com.nexus.exceptions;
+
+public class JournalException extends NexusException {
+	public JournalException(String message) {
+		super(message);
+	}
+	public JournalException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,10 @@
+package com.nexus.exceptions;
+
+public class ProjectionException extends NexusException {
+	public ProjectionException(String message) {
+		super(message);
+	}
+	public ProjectionException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
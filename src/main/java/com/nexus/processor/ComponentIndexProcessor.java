@@ -0,0 +1,325 @@
+package com.nexus.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.nexus.boot.ComponentFactory;
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.ComponentKind;
+import com.nexus.boot.ComponentWiring;
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+import com.nexus.core.annotations.WiringConfig;
+import com.nexus.core.cqrs.Command;
+import com.nexus.core.cqrs.PipelineBehavior;
+import com.nexus.core.cqrs.Query;
+import com.nexus.core.event.EventHandler;
+
+/**
+ * Writes {@value ComponentIndex#INDEX_RESOURCE} at compile time so NexusContext can skip the
+ * classpath scan. Selection mirrors the ClassGraph scan: public classes annotated with
+ * {@code @Injectable}/{@code @WiringConfig} or implementing Command, Query, EventHandler or
+ * PipelineBehavior.
+ * <p>
+ * It also generates a {@link ComponentWiring} class that calls each component's {@code @Inject}
+ * constructor directly, and records the parameter types of that constructor in the index so the
+ * dependency graph is built without reflection. Components it cannot wire (checked exceptions,
+ * non-public parameter types, several {@code @Inject} constructors) keep using reflective
+ * instantiation.
+ * <p>
+ * Only rounds containing Nexus annotations are processed, since every component that can be
+ * instantiated has an {@code @Inject} constructor; the other sources of those rounds are still
+ * indexed. The wiring class is named after the components it wires, so modules sharing a base
+ * package get distinct classes.
+ */
+@SupportedAnnotationTypes("com.nexus.core.annotations.*")
+@SupportedOptions(ComponentIndexProcessor.WIRING_PACKAGE_OPTION)
+public final class ComponentIndexProcessor extends AbstractProcessor {
+	public static final String WIRING_PACKAGE_OPTION = "nexus.wiring.package";
+	private static final String DEFAULT_WIRING_PACKAGE = "nexus.generated";
+	private static final String WIRING_CLASS_NAME = "NexusWiring";
+
+	private final Map<ComponentKind, Set<String>> components = new EnumMap<>(ComponentKind.class);
+	private final Set<String> packages = new TreeSet<>();
+	private final Map<String, TypeElement> pendingFactories = new TreeMap<>();
+	private final Set<String> wirings = new TreeSet<>();
+	private final Map<String, List<String>> dependencies = new TreeMap<>();
+	private final Set<String> collected = new HashSet<>();
+	private boolean previousIndexCollected;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndex();
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			if (element instanceof TypeElement type) collect(type);
+		}
+		if (!previousIndexCollected) {
+			previousIndexCollected = true;
+			collectPreviousIndex();
+		}
+		if (!pendingFactories.isEmpty()) {
+			writeWiring();
+			pendingFactories.clear();
+		}
+		return false;
+	}
+
+	private void collect(TypeElement type) {
+		String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+		if (!collected.add(name)) return;
+		packages.add(processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString());
+		if (isCandidate(type)) {
+			if (type.getAnnotation(Injectable.class) != null) add(ComponentKind.INJECTABLE, name);
+			if (type.getAnnotation(WiringConfig.class) != null) add(ComponentKind.WIRING_CONFIG, name);
+			if (implementsType(type, Command.class)) add(ComponentKind.COMMAND, name);
+			if (implementsType(type, Query.class)) add(ComponentKind.QUERY, name);
+			if (implementsType(type, EventHandler.class)) add(ComponentKind.EVENT_HANDLER, name);
+			if (implementsType(type, PipelineBehavior.class) && !type.getModifiers().contains(Modifier.ABSTRACT)) add(ComponentKind.PIPELINE_BEHAVIOR, name);
+			ExecutableElement constructor = isInstantiated(name) ? getInjectConstructor(type) : null;
+			if (constructor != null) {
+				pendingFactories.put(name, type);
+				dependencies.put(name, getDependencyNames(constructor));
+			}
+		}
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed instanceof TypeElement nested) collect(nested);
+		}
+	}
+
+	/**
+	 * An incremental compile only hands over the changed sources, and writing just their components
+	 * would drop every other one from the index. Components of the previous index that were not
+	 * compiled again are collected from their class files, as long as they still exist.
+	 */
+	private void collectPreviousIndex() {
+		for (String name : readPreviousIndex()) {
+			if (collected.contains(name)) continue;
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(name.replace('$', '.'));
+			if (type != null) collect(type);
+		}
+	}
+
+	private Set<String> readPreviousIndex() {
+		Set<String> names = new TreeSet<>();
+		try {
+			FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_RESOURCE);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					int separator = line.indexOf('=');
+					if (separator > 0 && ComponentKind.fromKey(line.substring(0, separator)) != null) names.add(line.substring(separator + 1).trim());
+				}
+			}
+		} catch (IOException e) {
+			// First compile into this output, there is nothing to keep
+		}
+		return names;
+	}
+
+	private boolean isCandidate(TypeElement type) {
+		ElementKind kind = type.getKind();
+		return (kind == ElementKind.CLASS || kind == ElementKind.RECORD) && type.getModifiers().contains(Modifier.PUBLIC);
+	}
+
+	private boolean implementsType(TypeElement type, Class<?> contract) {
+		TypeElement contractElement = processingEnv.getElementUtils().getTypeElement(contract.getCanonicalName());
+		if (contractElement == null) return false;
+		TypeMirror erasedContract = processingEnv.getTypeUtils().erasure(contractElement.asType());
+		TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type.asType());
+		return processingEnv.getTypeUtils().isAssignable(erasedType, erasedContract);
+	}
+
+	private void add(ComponentKind kind, String name) {
+		components.computeIfAbsent(kind, k -> new TreeSet<>()).add(name);
+	}
+
+	private boolean isInstantiated(String name) {
+		return Stream.of(ComponentKind.INJECTABLE, ComponentKind.COMMAND, ComponentKind.QUERY, ComponentKind.EVENT_HANDLER, ComponentKind.PIPELINE_BEHAVIOR)
+			.anyMatch(kind -> components.getOrDefault(kind, Set.of()).contains(name));
+	}
+
+	private ExecutableElement getInjectConstructor(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT) || !isAccessible(type)) return null;
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+			.filter(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getAnnotation(Inject.class) != null)
+			.toList();
+		if (constructors.size() != 1) return null;
+		ExecutableElement constructor = constructors.get(0);
+		if (!constructor.getThrownTypes().isEmpty()) return null;
+		boolean accessibleParameters = constructor.getParameters().stream().allMatch(p -> isAccessible(p.asType()));
+		return accessibleParameters ? constructor : null;
+	}
+
+	// Binary names of the declared parameter types, the only ones that can be other components
+	private List<String> getDependencyNames(ExecutableElement constructor) {
+		List<String> names = new ArrayList<>();
+		for (VariableElement parameter : constructor.getParameters()) {
+			TypeMirror erased = processingEnv.getTypeUtils().erasure(parameter.asType());
+			if (!(erased instanceof DeclaredType declared)) continue;
+			String name = processingEnv.getElementUtils().getBinaryName((TypeElement) declared.asElement()).toString();
+			if (!names.contains(name)) names.add(name);
+		}
+		return names;
+	}
+
+	private boolean isAccessible(TypeMirror type) {
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		if (erased.getKind().isPrimitive()) return true;
+		if (erased instanceof ArrayType array) return isAccessible(array.getComponentType());
+		return erased instanceof DeclaredType declared && isAccessible((TypeElement) declared.asElement());
+	}
+
+	private boolean isAccessible(TypeElement type) {
+		Element current = type;
+		while (current instanceof TypeElement) {
+			if (!current.getModifiers().contains(Modifier.PUBLIC)) return false;
+			Element enclosing = current.getEnclosingElement();
+			if (enclosing instanceof TypeElement && !current.getModifiers().contains(Modifier.STATIC)) return false;
+			current = enclosing;
+		}
+		return true;
+	}
+
+	private void writeWiring() {
+		String pkg = getWiringPackage();
+		String simpleName = String.format("%s_%08x", WIRING_CLASS_NAME, String.join(",", pendingFactories.keySet()).hashCode());
+		String qualifiedName = pkg.isEmpty() ? simpleName : pkg + "." + simpleName;
+		Element[] origins = pendingFactories.values().toArray(new Element[0]);
+		try {
+			JavaFileObject source = processingEnv.getFiler().createSourceFile(qualifiedName, origins);
+			try (Writer writer = source.openWriter()) {
+				if (!pkg.isEmpty()) writer.write("package " + pkg + ";\n\n");
+				writer.write("import java.util.Map;\n\n");
+				writer.write("import " + ComponentFactory.class.getName() + ";\n");
+				writer.write("import " + ComponentWiring.class.getName() + ";\n\n");
+				writer.write("@javax.annotation.processing.Generated(\"" + ComponentIndexProcessor.class.getName() + "\")\n");
+				writer.write("public final class " + simpleName + " implements ComponentWiring {\n\n");
+				writer.write("\t@Override\n");
+				writer.write("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+				writer.write("\tpublic void register(Map<Class<?>, ComponentFactory> factories) {\n");
+				for (TypeElement type : pendingFactories.values()) {
+					writer.write("\t\tfactories.put(" + type.getQualifiedName() + ".class, " + getFactoryExpression(type) + ");\n");
+				}
+				writer.write("\t}\n\n}\n");
+			}
+			wirings.add(qualifiedName);
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+																				"Cannot write Nexus wiring class %s: %s",
+																				qualifiedName,
+																				e.getMessage()
+																			));
+		}
+	}
+
+	private String getFactoryExpression(TypeElement type) {
+		String diamond = type.getTypeParameters().isEmpty() ? "" : "<>";
+		String arguments = getInjectConstructor(type).getParameters().stream()
+			.map(p -> "di.get(" + getLiteralName(p.asType()) + ".class)")
+			.collect(Collectors.joining(", "));
+		return "di -> new " + type.getQualifiedName() + diamond + "(" + arguments + ")";
+	}
+
+	private String getLiteralName(TypeMirror type) {
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		if (erased.getKind().isPrimitive()) return erased.getKind().name().toLowerCase(Locale.ROOT);
+		if (erased instanceof ArrayType array) return getLiteralName(array.getComponentType()) + "[]";
+		return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+	}
+
+	private String getWiringPackage() {
+		String configured = processingEnv.getOptions().get(WIRING_PACKAGE_OPTION);
+		if (configured != null && !configured.isBlank()) return configured;
+		String common = null;
+		for (TypeElement type : pendingFactories.values()) {
+			String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+			common = common == null ? pkg : getCommonPackage(common, pkg);
+		}
+		return common == null || common.isEmpty() ? DEFAULT_WIRING_PACKAGE : common;
+	}
+
+	private String getCommonPackage(String a, String b) {
+		String[] left = a.split("\\.");
+		String[] right = b.split("\\.");
+		StringBuilder common = new StringBuilder();
+		for (int i = 0; i < Math.min(left.length, right.length) && left[i].equals(right[i]); i++) {
+			if (common.length() > 0) common.append('.');
+			common.append(left[i]);
+		}
+		return common.toString();
+	}
+
+	private void writeIndex() {
+		if (packages.isEmpty()) return;
+		try {
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_RESOURCE);
+			try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+				writer.write("# Generated by " + ComponentIndexProcessor.class.getName() + ", do not edit\n");
+				for (String pkg : packages) {
+					writer.write(ComponentIndex.PACKAGE_KEY + "=" + pkg + "\n");
+				}
+				for (String wiring : wirings) {
+					writer.write(ComponentIndex.WIRING_KEY + "=" + wiring + "\n");
+				}
+				for (Map.Entry<ComponentKind, Set<String>> entry : components.entrySet()) {
+					for (String name : entry.getValue()) {
+						writer.write(entry.getKey().getKey() + "=" + name + "\n");
+					}
+				}
+				for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+					writer.write(ComponentIndex.DEPENDS_KEY + "=" + entry.getKey() + ":" + String.join(",", entry.getValue()) + "\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+																				"Cannot write Nexus component index %s: %s",
+																				ComponentIndex.INDEX_RESOURCE,
+																				e.getMessage()
+																			));
+		}
+	}
+
+}
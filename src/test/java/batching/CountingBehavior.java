@@ -0,0 +1,25 @@
+package batching;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.Handler;
+import com.nexus.core.cqrs.PipelineBehavior;
+
+public class CountingBehavior implements PipelineBehavior {
+    private final List<Object> inputs = new CopyOnWriteArrayList<>();
+
+    @Inject
+    public CountingBehavior() {}
+
+    @Override
+    public <C, R> R handle(Class<?> handlerClass, C input, Handler<C, R> next) {
+        inputs.add(input);
+        return next.handle(input);
+    }
+
+    public List<Object> getInputs() {
+        return inputs;
+    }
+}
@@ -0,0 +1,31 @@
+package batching;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.nexus.core.annotations.Bulkhead;
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.BatchCommand;
+
+@Bulkhead(maxConcurrent = 2)
+public class InsertRowsCommand implements BatchCommand<String, Integer> {
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Inject
+    public InsertRowsCommand() {}
+
+    @Override
+    public Integer handle(String input) {
+        return input.length();
+    }
+
+    @Override
+    public List<Integer> handleAll(List<String> inputs) {
+        batchSizes.add(inputs.size());
+        return inputs.stream().map(String::length).toList();
+    }
+
+    public List<Integer> getBatchSizes() {
+        return batchSizes;
+    }
+}
@@ -0,0 +1,122 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.nexus.core.codec.BinaryCodec;
+import com.nexus.core.event.DomainEvent;
+
+/**
+ * Round trip of one event through the BinaryCodec, into and out of a reused direct buffer, against
+ * Java serialization through byte array streams, measured with JMH. The test runs both benchmarks
+ * in a forked JVM and compares time and encoded size per event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecPerformance {
+    private OrderPlaced event;
+    private BinaryCodec codec;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        event = newEvent();
+        codec = BinaryCodec.builder().build();
+        buffer = ByteBuffer.allocateDirect(1024);
+    }
+
+    @Benchmark
+    public void binaryCodec(Blackhole blackhole) {
+        buffer.clear();
+        codec.encode(event, buffer);
+        blackhole.consume(codec.decode(buffer.flip()));
+    }
+
+    @Benchmark
+    public void javaSerialization(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        byte[] bytes = serialize(event);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            blackhole.consume(in.readObject());
+        }
+    }
+
+    @Test
+    void benchmarkBinaryCodecAgainstJavaSerialization() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(CodecPerformance.class.getName() + "\\.")
+                .build()).run();
+        double binaryNs = score(results, "binaryCodec");
+        double javaNs = score(results, "javaSerialization");
+
+        OrderPlaced event = newEvent();
+        BinaryCodec codec = BinaryCodec.builder().build();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.encode(event, buffer);
+        int binaryBytes = buffer.position();
+        int javaBytes = serialize(event).length;
+        assertEquals(event, codec.decode(buffer.flip()));
+        System.out.printf("Event round trip: binary codec %.0fns / %d bytes, Java serialization %.0fns / %d bytes%n",
+                binaryNs, binaryBytes, javaNs, javaBytes);
+
+        assertTrue(binaryNs < javaNs, "The binary codec should beat Java serialization");
+        assertTrue(binaryBytes < javaBytes, "The binary encoding should be smaller");
+    }
+
+    private static double score(Collection<RunResult> results, String benchmark) {
+        return results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith("." + benchmark))
+                .findFirst()
+                .orElseThrow()
+                .getPrimaryResult()
+                .getScore();
+    }
+
+    private static OrderPlaced newEvent() {
+        return new OrderPlaced(UUID.randomUUID(), "customer-1234", 3, new BigDecimal("99.95"), Instant.now(), true);
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    public record OrderPlaced(UUID id, String customer, int items, BigDecimal total, Instant at, boolean paid)
+            implements DomainEvent, Serializable {}
+
+}
@@ -0,0 +1,58 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.cqrs.Deadline;
+
+/**
+ * Cost of guarding a call with a deadline on the shared timing wheel, against scheduling and
+ * cancelling one future per call on a ScheduledThreadPoolExecutor.
+ */
+class DeadlinePerformance {
+    private static final int CALLS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void benchmarkDeadlineGuards() {
+        Duration timeout = Duration.ofSeconds(1);
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            double wheelNs = measure(() -> Deadline.after(timeout).call(() -> 1));
+            double scheduledNs = measure(() -> {
+                ScheduledFuture<?> timer = scheduler.schedule(() -> {}, 1, TimeUnit.SECONDS);
+                timer.cancel(false);
+                return 1;
+            });
+            System.out.printf("Deadline guard per call: timing wheel %.1fns, scheduled future %.1fns%n", wheelNs, scheduledNs);
+
+            assertTrue(wheelNs < 2_000, "Timing wheel deadline too slow: " + wheelNs + "ns");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static double measure(IntSupplier call) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            int completed = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                completed += call.getAsInt();
+            }
+            best = Math.min(best, (double) (System.nanoTime() - start) / CALLS);
+            assertEquals(CALLS, completed, "Every guarded call must complete");
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,74 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.RingBufferEventBus;
+import com.nexus.core.bus.WaitStrategy;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.event.EventHandler;
+
+/**
+ * Publishing throughput of the executor-backed AsyncEventBus against the RingBufferEventBus, with
+ * several publisher threads and a counting handler.
+ */
+class EventBusPerformance {
+    private static final int PUBLISHERS = 4;
+    private static final int EVENTS_PER_PUBLISHER = 250_000;
+
+    @Test
+    void benchmarkAsyncBusAgainstRingBuffer() throws Exception {
+        double asyncRate = measure(registry -> BusesProvider.getAsyncEventBus(registry, null));
+        double ringRate = measure(registry -> RingBufferEventBus.builder()
+                .bufferSize(8192)
+                .waitStrategy(WaitStrategy.yielding())
+                .create(registry));
+        System.out.printf("Events/s with %d publishers: async %.0f, ring buffer %.0f%n", PUBLISHERS, asyncRate, ringRate);
+
+        assertTrue(ringRate > 100_000, "Ring buffer publishing too slow: " + ringRate + " events/s");
+    }
+
+    private static double measure(Function<EventHandlersRegistry, EventBus> factory) throws Exception {
+        int total = PUBLISHERS * EVENTS_PER_PUBLISHER;
+        LongAdder handled = new LongAdder();
+        CountDownLatch done = new CountDownLatch(1);
+        EventHandler<TickEvent> handler = event -> {
+            handled.increment();
+            if (handled.sum() == total) done.countDown();
+        };
+        EventHandlersRegistry registry = mock(EventHandlersRegistry.class, withSettings().stubOnly());
+        when(registry.getHandlers(TickEvent.class)).thenReturn(List.of(handler));
+        EventBus bus = factory.apply(registry);
+        TickEvent tick = new TickEvent();
+
+        long start = System.nanoTime();
+        Thread[] publishers = new Thread[PUBLISHERS];
+        for (int p = 0; p < PUBLISHERS; p++) {
+            publishers[p] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < EVENTS_PER_PUBLISHER; i++) bus.publish(TickEvent.class, tick);
+            });
+        }
+        for (Thread publisher : publishers) publisher.join();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "Every event should be handled");
+        long elapsed = System.nanoTime() - start;
+
+        if (bus instanceof AutoCloseable closeable) closeable.close();
+        return total / (elapsed / 1_000_000_000.0);
+    }
+
+    public static class TickEvent implements DomainEvent {}
+
+}
@@ -0,0 +1,65 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.journal.FsyncPolicy;
+import com.nexus.core.journal.Journal;
+
+/**
+ * Cost of one journal append under each fsync policy. ON_APPEND runs with several appenders so
+ * group commit has waits to merge.
+ */
+class JournalPerformance {
+    private static final int APPENDS = 200_000;
+    private static final int SYNC_APPENDERS = 16;
+    private static final int SYNC_APPENDS_PER_THREAD = 500;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void benchmarkAppendLatency() throws Exception {
+        double periodicNs = measure(dir.resolve("periodic"), FsyncPolicy.PERIODIC);
+        double neverNs = measure(dir.resolve("never"), FsyncPolicy.NEVER);
+        double groupCommitNs = measureGroupCommit(dir.resolve("on-append"));
+        System.out.printf("Journal append: periodic %.0fns, never %.0fns, on-append with %d appenders %.0fns per event%n",
+                periodicNs, neverNs, SYNC_APPENDERS, groupCommitNs);
+
+        assertTrue(periodicNs < 20_000, "Periodic appends should take microseconds, took " + periodicNs + "ns");
+    }
+
+    private static double measure(Path directory, FsyncPolicy policy) {
+        try (Journal journal = Journal.builder().directory(directory).fsync(policy).open()) {
+            Tick tick = new Tick("order-42", 7);
+            for (int i = 0; i < APPENDS / 4; i++) journal.append(tick);
+            long start = System.nanoTime();
+            for (int i = 0; i < APPENDS; i++) journal.append(tick);
+            return (double) (System.nanoTime() - start) / APPENDS;
+        }
+    }
+
+    private static double measureGroupCommit(Path directory) throws Exception {
+        try (Journal journal = Journal.builder().directory(directory).fsync(FsyncPolicy.ON_APPEND).open()) {
+            Tick tick = new Tick("order-42", 7);
+            Thread[] appenders = new Thread[SYNC_APPENDERS];
+            long start = System.nanoTime();
+            for (int t = 0; t < SYNC_APPENDERS; t++) {
+                appenders[t] = Thread.ofVirtual().start(() -> {
+                    for (int i = 0; i < SYNC_APPENDS_PER_THREAD; i++) journal.append(tick);
+                });
+            }
+            for (Thread appender : appenders) appender.join();
+            return (double) (System.nanoTime() - start) / (SYNC_APPENDERS * SYNC_APPENDS_PER_THREAD);
+        }
+    }
+
+    public record Tick(String key, long value) implements DomainEvent, Serializable {}
+
+}
@@ -0,0 +1,122 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.api.NexusContext.NexusContextBuilder;
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.RegistryProvider;
+
+import dummy.CommandDummy;
+import dummy.QueryDummy;
+
+/**
+ * Compares the ClassValue lookups of DependencyRegistry and CqrsHandlersRegistry with the previous
+ * immutable map lookup plus Class.cast, with every core hammering the same registry.
+ */
+class LookupPerformance {
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int LOOKUPS_PER_THREAD = 5_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void benchmarkDependencyLookupUnderContention() throws Exception {
+        Map<Class<?>, Object> instances = new HashMap<>();
+        instances.put(String.class, "nexus");
+        instances.put(Integer.class, 1);
+        instances.put(Long.class, 2L);
+        instances.put(Double.class, 3.0);
+        instances.put(StringBuilder.class, new StringBuilder());
+        instances.put(ArrayList.class, new ArrayList<>());
+        instances.put(LinkedList.class, new LinkedList<>());
+        instances.put(HashMap.class, new HashMap<>());
+        instances.put(BigDecimal.class, BigDecimal.ONE);
+        instances.put(BigInteger.class, BigInteger.TWO);
+        instances.put(AtomicInteger.class, new AtomicInteger());
+        instances.put(Object.class, new Object());
+        Class<?>[] keys = instances.keySet().toArray(new Class<?>[0]);
+
+        DependencyRegistry di = RegistryProvider.getRegistry(DependencyRegistry.class).registry(instances);
+        Map<Class<?>, Object> legacy = Map.copyOf(instances);
+
+        double mapNs = measure(keys, clazz -> clazz.cast(legacy.get(clazz)));
+        double classValueNs = measure(keys, di::get);
+        System.out.printf("Dependency lookup on %d threads: map %.2fns, ClassValue %.2fns%n", THREADS, mapNs, classValueNs);
+
+        assertTrue(classValueNs < 50, "ClassValue dependency lookup too slow: " + classValueNs + "ns");
+    }
+
+    @Test
+    void benchmarkCqrsHandlerLookupUnderContention() throws Exception {
+        new NexusContextBuilder()
+                .packagesToScan("dummy")
+                .build();
+        CqrsHandlersRegistry handlers = RegistryProvider.getRegistry(CqrsHandlersRegistry.class);
+        CommandDummy command = handlers.getCQRSHandler(CommandDummy.class);
+        QueryDummy query = handlers.getCQRSHandler(QueryDummy.class);
+        Map<Class<?>, Object> legacy = Map.of(CommandDummy.class, command, QueryDummy.class, query);
+        Class<?>[] keys = { CommandDummy.class, QueryDummy.class };
+
+        double mapNs = measure(keys, clazz -> clazz.cast(legacy.get(clazz)));
+        double classValueNs = measure(keys, clazz -> clazz == CommandDummy.class
+                ? handlers.getCQRSHandler(CommandDummy.class)
+                : handlers.getCQRSHandler(QueryDummy.class));
+        System.out.printf("CQRS handler lookup on %d threads: map %.2fns, ClassValue %.2fns%n", THREADS, mapNs, classValueNs);
+
+        assertSame(command, handlers.getCQRSHandler(CommandDummy.class));
+        assertTrue(classValueNs < 50, "ClassValue handler lookup too slow: " + classValueNs + "ns");
+    }
+
+    /**
+     * Runs the lookup on every core and returns the best average time per lookup across rounds, the
+     * first rounds doubling as warm-up.
+     */
+    private static double measure(Class<?>[] keys, Function<Class<?>, Object> lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            double best = Double.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Future<Integer>> results = new ArrayList<>();
+                long start = System.nanoTime();
+                for (int t = 0; t < THREADS; t++) {
+                    int offset = t;
+                    results.add(executor.submit(() -> {
+                        int found = 0;
+                        for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+                            if (lookup.apply(keys[(i + offset) % keys.length]) != null) found++;
+                        }
+                        return found;
+                    }));
+                }
+                long found = 0;
+                for (Future<Integer> result : results) {
+                    found += result.get();
+                }
+                long elapsed = System.nanoTime() - start;
+                best = Math.min(best, (double) elapsed / LOOKUPS_PER_THREAD);
+                assertEquals((long) THREADS * LOOKUPS_PER_THREAD, found, "Every lookup must find its instance");
+            }
+            return best;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
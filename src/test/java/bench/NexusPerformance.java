@@ -16,6 +16,7 @@ import com.nexus.boot.RegistryProvider;
 import com.nexus.core.annotations.Inject;
 import com.nexus.core.annotations.Injectable;
 import com.nexus.core.cqrs.CqrsBus;
+import com.nexus.core.cqrs.Dispatcher;
 import com.nexus.core.event.EventBus;
 
 import dummy.CommandDummy;
@@ -81,6 +82,40 @@ class NexusPerformance {
 
     }
 
+    @Test
+    void benchmarkBoundDispatch() {
+        NexusContext ctx = new NexusContextBuilder()
+                .packagesToScan("dummy")
+                .build();
+        CqrsBus cqrsBus = ctx.getCqrsBus();
+        Dispatcher<String, String> dispatcher = cqrsBus.bind(CommandDummy.class);
+        int iterations = 10_000_000;
+        int sink = 0;
+
+        //Warm-up both paths
+        for (int i = 0; i < iterations; i++) {
+            sink += cqrsBus.send(CommandDummy.class, "test").length();
+            sink += dispatcher.send("test").length();
+        }
+
+        long startSend = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += cqrsBus.send(CommandDummy.class, "test").length();
+        }
+        long endSend = System.nanoTime();
+
+        long startBound = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += dispatcher.send("test").length();
+        }
+        long endBound = System.nanoTime();
+
+        double sendNs = (endSend - startSend) / (double) iterations;
+        double boundNs = (endBound - startBound) / (double) iterations;
+        System.out.println("send(): " + sendNs + "ns, bound dispatcher: " + boundNs + "ns (" + sink + ")");
+        assertTrue(boundNs < 100, "Bound dispatch too slow: " + boundNs);
+    }
+
     @Test
     void benchmarkEventSending() {
         NexusContext ctx = new NexusContextBuilder()
@@ -0,0 +1,86 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.projection.Projection;
+import com.nexus.core.projection.ProjectionRunner;
+
+/**
+ * Restart time of a projection over a long history: rebuilding it from the first event against
+ * restoring its snapshot and handling the events appended since.
+ */
+class ProjectionRestartPerformance {
+    private static final int HISTORY = 1_000_000;
+    private static final int GAP = 10_000;
+    private static final int ACCOUNTS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void benchmarkRebuildAgainstSnapshotRestart() {
+        try (Journal journal = Journal.builder().directory(dir).open()) {
+            List<Deposited> events = new ArrayList<>(HISTORY);
+            for (int i = 0; i < HISTORY; i++) events.add(new Deposited("account-" + (i % ACCOUNTS), 1));
+            journal.appendAll(events);
+
+            long start = System.nanoTime();
+            try (ProjectionRunner runner = ProjectionRunner.builder(journal).snapshotEvery(Long.MAX_VALUE).add(new Balances()).open()) {
+                assertEquals(HISTORY, runner.getPosition("balances"));
+            }
+            long rebuildNanos = System.nanoTime() - start;
+
+            journal.appendAll(events.subList(0, GAP));
+            start = System.nanoTime();
+            Balances restarted = new Balances();
+            try (ProjectionRunner runner = ProjectionRunner.builder(journal).snapshotEvery(Long.MAX_VALUE).add(restarted).open()) {
+                assertEquals(HISTORY + GAP, runner.getPosition("balances"));
+            }
+            long restartNanos = System.nanoTime() - start;
+
+            System.out.printf("Projection over %d events: rebuild %d ms, snapshot restart with a %d event gap %d ms%n",
+                    HISTORY, rebuildNanos / 1_000_000, GAP, restartNanos / 1_000_000);
+            assertEquals(HISTORY / ACCOUNTS + 1L, restarted.totals.get("account-0"));
+        }
+    }
+
+    public record Deposited(String account, long amount) implements DomainEvent {}
+
+    static final class Balances implements Projection<Map<String, Long>> {
+        private final Map<String, Long> totals = new HashMap<>();
+
+        @Override
+        public String getName() {
+            return "balances";
+        }
+
+        @Override
+        public void subscribe(EventHandlersRegistry registry) {
+            registry.subscribe(Deposited.class, event -> totals.merge(event.account(), event.amount(), Long::sum));
+        }
+
+        @Override
+        public Map<String, Long> snapshot() {
+            return totals;
+        }
+
+        @Override
+        public void restore(Map<String, Long> state) {
+            totals.clear();
+            totals.putAll(state);
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package bench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.AggregateEvent;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.journal.ParallelReplay;
+import com.nexus.core.journal.ReplayProgress;
+
+/**
+ * Rebuilding a projection from the journal: the sequential replay() loop against the parallel
+ * replay on every core, with a handler doing a little CPU work per event.
+ */
+class ReplayPerformance {
+    private static final int EVENTS = 500_000;
+    private static final int KEYS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void benchmarkSequentialAgainstParallelReplay() {
+        LongAdder handled = new LongAdder();
+        EventHandlersRegistry registry = new EventHandlersRegistry();
+        registry.subscribe(Deposited.class, event -> {
+            long h = event.amount();
+            for (int i = 0; i < 200; i++) h = h * 31 + i;
+            if (h != 42) handled.increment();
+        });
+
+        try (Journal journal = Journal.builder().directory(dir).open()) {
+            List<Deposited> events = new ArrayList<>(EVENTS);
+            for (int i = 0; i < EVENTS; i++) events.add(new Deposited("account-" + (i % KEYS), i));
+            journal.appendAll(events);
+
+            long start = System.nanoTime();
+            journal.replay(registry, 0);
+            double sequentialRate = EVENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+            ReplayProgress parallel = ParallelReplay.builder(journal, registry).run();
+
+            System.out.printf("Replay of %d events: sequential %.0f events/s, parallel on %d cores %.0f events/s%n",
+                    EVENTS, sequentialRate, Runtime.getRuntime().availableProcessors(), parallel.eventsPerSecond());
+            assertEquals(2L * EVENTS, handled.sum());
+        }
+    }
+
+    public record Deposited(String account, long amount) implements AggregateEvent {
+        @Override
+        public Object aggregateKey() {
+            return account;
+        }
+    }
+
+}
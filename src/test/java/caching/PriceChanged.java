@@ -0,0 +1,5 @@
+package caching;
+
+import com.nexus.core.event.DomainEvent;
+
+public class PriceChanged implements DomainEvent {}
@@ -0,0 +1,27 @@
+package caching;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.nexus.core.annotations.Cached;
+import com.nexus.core.annotations.Coalesce;
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.Query;
+
+@Coalesce
+@Cached(maxSize = 16, invalidateOn = PriceChanged.class)
+public class PriceQuery implements Query<String, Integer> {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Inject
+    public PriceQuery() {}
+
+    @Override
+    public Integer handle(String sku) {
+        calls.incrementAndGet();
+        return sku.length() * 100;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,21 @@
+package dispatch;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventHandler;
+
+public class EventCounter implements EventHandler<DomainEvent> {
+    private long count;
+
+    @Inject
+    public EventCounter() {}
+
+    @Override
+    public void on(DomainEvent event) {
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,33 @@
+package dispatch;
+
+import java.util.List;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.BatchEventHandler;
+
+public class TickBatchCounter implements BatchEventHandler<TickEvent> {
+    private long count;
+    private int batches;
+
+    @Inject
+    public TickBatchCounter() {}
+
+    @Override
+    public void on(TickEvent event) {
+        count++;
+    }
+
+    @Override
+    public void onAll(List<TickEvent> events) {
+        batches++;
+        count += events.size();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+}
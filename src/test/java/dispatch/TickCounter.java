@@ -0,0 +1,20 @@
+package dispatch;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.EventHandler;
+
+public class TickCounter implements EventHandler<TickEvent> {
+    private long count;
+
+    @Inject
+    public TickCounter() {}
+
+    @Override
+    public void on(TickEvent event) {
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
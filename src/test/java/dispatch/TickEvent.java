@@ -0,0 +1,5 @@
+package dispatch;
+
+import com.nexus.core.event.DomainEvent;
+
+public class TickEvent implements DomainEvent {}
@@ -0,0 +1,18 @@
+package dummy;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class InjectableWrongLevelDummy {
+    private InjectableFirstLevelDummy firstLevel;
+
+    @Inject
+    public InjectableWrongLevelDummy(InjectableFirstLevelDummy firstLevel) {
+        this.firstLevel = firstLevel;
+    }
+
+    public InjectableFirstLevelDummy getFirstLevel() {
+        return firstLevel;
+    }
+}
@@ -0,0 +1,14 @@
+package failing;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class FailingDummy {
+
+    @Inject
+    public FailingDummy() {
+        LayerProbe.awaitLingering();
+        throw new IllegalStateException("FailingDummy cannot be built");
+    }
+}
@@ -0,0 +1,38 @@
+package failing;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class LayerProbe {
+    private static CountDownLatch lingering = new CountDownLatch(1);
+    private static final AtomicInteger running = new AtomicInteger();
+
+    private LayerProbe() {}
+
+    public static void reset() {
+        lingering = new CountDownLatch(1);
+        running.set(0);
+    }
+
+    public static int getRunning() {
+        return running.get();
+    }
+
+    static void enter() {
+        running.incrementAndGet();
+        lingering.countDown();
+    }
+
+    static void exit() {
+        running.decrementAndGet();
+    }
+
+    static void awaitLingering() {
+        try {
+            lingering.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package failing;
+
+import java.util.concurrent.TimeUnit;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class LingeringDummy {
+
+    // Ignores interrupts, like a constructor blocked in I/O would
+    @Inject
+    public LingeringDummy() {
+        LayerProbe.enter();
+        try {
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < end) Thread.onSpinWait();
+        } finally {
+            LayerProbe.exit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.PackagesRegistry;
+import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.NexusCqrsBus;
+import com.nexus.core.cqrs.Batch;
+
+import batching.CountingBehavior;
+import batching.InsertRowsCommand;
+
+class BatchPipelineTest {
+
+	private CqrsHandlersRegistry registry;
+	private NexusCqrsBus bus;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Constructor<CqrsHandlersRegistry> constructor = CqrsHandlersRegistry.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		registry = constructor.newInstance();
+		ComponentIndex components = RegistryProvider.getRegistry(PackagesRegistry.class).registry("batching");
+		registry.registry(RegistryProvider.getRegistry(DependencyRegistry.class), components);
+
+		Field cqrsField = BusesProvider.class.getDeclaredField("cqrsBus");
+		cqrsField.setAccessible(true);
+		cqrsField.set(null, null);
+		bus = BusesProvider.getNexusCqrsBus(registry);
+	}
+
+	@Test
+	void sendAllShouldPassTheBatchThroughBehaviorsAndDecorators() {
+		CountingBehavior behavior = (CountingBehavior) registry.getPipelineBehaviors().get(0);
+		InsertRowsCommand command = registry.getCQRSHandler(InsertRowsCommand.class);
+
+		assertEquals(List.of(1, 2, 3), bus.sendAll(InsertRowsCommand.class, List.of("a", "bb", "ccc")));
+
+		assertEquals(List.of(3), command.getBatchSizes(), "A wrapped BatchCommand must still receive the whole list");
+		assertEquals(List.of(new Batch<>(List.of("a", "bb", "ccc"))), behavior.getInputs(), "Behaviors must see the batch once");
+		assertEquals(0, registry.getBulkhead(InsertRowsCommand.class).getInFlight());
+	}
+
+	@Test
+	void singleSendsShouldStillReachHandle() {
+		CountingBehavior behavior = (CountingBehavior) registry.getPipelineBehaviors().get(0);
+
+		assertEquals(4, bus.send(InsertRowsCommand.class, "dddd"));
+
+		assertEquals(List.of("dddd"), behavior.getInputs());
+		assertTrue(registry.getCQRSHandler(InsertRowsCommand.class).getBatchSizes().isEmpty());
+	}
+}
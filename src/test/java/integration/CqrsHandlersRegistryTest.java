@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.CqrsHandlersRegistry;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.InjectableRegistry;
@@ -16,7 +17,6 @@ import com.nexus.exceptions.RegistryResolutionException;
 import dummy.CommandDummy;
 import dummy.QueryDummy;
 import dummy.SingletonDummy;
-import io.github.classgraph.ScanResult;
 import com.nexus.core.cqrs.Handler;
 
 class CqrsHandlersRegistryTest {
@@ -34,10 +34,10 @@ class CqrsHandlersRegistryTest {
 		injectableRegistry = RegistryProvider.getRegistry(InjectableRegistry.class);
 		cqrsHandlersRegistry = RegistryProvider.getRegistry(CqrsHandlersRegistry.class);
 
-		ScanResult sr = packagesRegistry.registry("dummy");
-		registry = managedRegistry.registry(registry, sr);
-		registry = injectableRegistry.registry(registry, sr);
-		cqrsHandlersRegistry.registry(registry, sr);
+		ComponentIndex components = packagesRegistry.registry("dummy");
+		registry = managedRegistry.registry(registry, components);
+		registry = injectableRegistry.registry(registry, components);
+		cqrsHandlersRegistry.registry(registry, components);
 	}
 
 	@Test
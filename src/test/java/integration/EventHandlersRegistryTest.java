@@ -4,16 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.EventHandlersRegistry;
 import com.nexus.boot.InjectableRegistry;
 import com.nexus.boot.ManagedRegistry;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.BusesProvider;
 import com.nexus.core.event.EventHandler;
 import com.nexus.core.event.DomainEvent;
 
@@ -23,7 +27,12 @@ import dummy.EventHandlerDummy;
 import dummy.InjectableBaseLevelDummy;
 import dummy.InjectableFirstLevelDummy;
 import dummy.SingletonDummy;
-import io.github.classgraph.ScanResult;
+import polymorphic.AccountClosed;
+import polymorphic.AccountEvent;
+import polymorphic.AccountEventHandler;
+import polymorphic.AccountOpened;
+import polymorphic.AccountOpenedHandler;
+import polymorphic.AuditHandler;
 
 class EventHandlersRegistryTest {
 	private PackagesRegistry packagesRegistry;
@@ -41,10 +50,10 @@ class EventHandlersRegistryTest {
 		injectableRegistry = RegistryProvider.getRegistry(InjectableRegistry.class);
 		eventHandlersRegistry = RegistryProvider.getRegistry(EventHandlersRegistry.class);
 
-		ScanResult sr = packagesRegistry.registry("dummy");
-		registry = managedRegistry.registry(registry, sr);
-		registry = injectableRegistry.registry(registry, sr);
-		eventHandlersRegistry.registry(registry, sr);
+		ComponentIndex components = packagesRegistry.registry("dummy");
+		registry = managedRegistry.registry(registry, components);
+		registry = injectableRegistry.registry(registry, components);
+		eventHandlersRegistry.registry(registry, components);
 	}
 
 	@Test
@@ -108,10 +117,46 @@ class EventHandlersRegistryTest {
 		assertTrue(handlers.isEmpty(), "Handlers list must be empty for events that have no registered handlers");
 	}
 
+	@Test
+	void handlersSubscribedToSupertypesShouldBeResolvedForConcreteEvents() {
+		EventHandlersRegistry polymorphic = getPolymorphicRegistry();
+
+		assertEquals(Set.of(AccountOpenedHandler.class, AccountEventHandler.class, AuditHandler.class), handlerClasses(polymorphic.getHandlers(AccountOpened.class)),
+				"A concrete event must reach handlers of its class, its interfaces and DomainEvent");
+		assertEquals(Set.of(AccountEventHandler.class, AuditHandler.class), handlerClasses(polymorphic.getHandlers(AccountClosed.class)),
+				"Handlers of sibling event classes must not be included");
+		assertEquals(Set.of(AccountEventHandler.class, AuditHandler.class), handlerClasses(polymorphic.getHandlers(AccountEvent.class)));
+		assertSame(polymorphic.getHandlers(AccountOpened.class), polymorphic.getHandlers(AccountOpened.class),
+				"The resolved handlers must be cached per event class");
+	}
+
+	@Test
+	void publishingWithASupertypeShouldStillReachHandlersOfTheConcreteClass() {
+		EventHandlersRegistry polymorphic = getPolymorphicRegistry();
+		AccountOpened opened = new AccountOpened();
+
+		BusesProvider.getAsyncEventBus(polymorphic, Runnable::run).publish(AccountEvent.class, opened);
+
+		AccountOpenedHandler handler = (AccountOpenedHandler) polymorphic.getHandlers(AccountOpened.class).stream()
+			.filter(AccountOpenedHandler.class::isInstance)
+			.findFirst()
+			.orElseThrow();
+		assertEquals(List.of(opened), handler.getReceived(), "Dispatch must use the concrete event class");
+	}
+
 	/* ----------------------
 	   Helpers
 	   ---------------------- */
 
+	private EventHandlersRegistry getPolymorphicRegistry() {
+		ComponentIndex components = packagesRegistry.registry("polymorphic");
+		return new EventHandlersRegistry().registry(injectableRegistry.registry(registry, components), components);
+	}
+
+	private Set<Class<?>> handlerClasses(List<? extends EventHandler<?>> handlers) {
+		return handlers.stream().map(Object::getClass).collect(Collectors.toSet());
+	}
+
 	private <E extends DomainEvent> List<EventHandler<E>> getHandlersFor(Class<E> eventType) {
 		return eventHandlersRegistry.getHandlers(eventType);
 	}
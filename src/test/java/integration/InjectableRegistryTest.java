@@ -2,19 +2,28 @@ package integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.InjectableRegistry;
 import com.nexus.boot.ManagedRegistry;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
+import com.nexus.exceptions.DependencyInstantiationException;
 
 import dummy.InjectableBaseLevelDummy;
 import dummy.InjectableFirstLevelDummy;
+import dummy.InjectableWrongLevelDummy;
 import dummy.SingletonDummy;
-import io.github.classgraph.ScanResult;
+import failing.LayerProbe;
+import parallel.ConcurrencyProbe;
+import parallel.JoinDummy;
+import parallel.SlowAlphaDummy;
 
 class InjectableRegistryTest {
 
@@ -22,7 +31,7 @@ class InjectableRegistryTest {
 	private DependencyRegistry registry;
 	private ManagedRegistry managedRegistry;
 	private InjectableRegistry injectableRegistry;
-	private ScanResult scanResult;
+	private ComponentIndex components;
 
 	@BeforeEach
 	void setUp() {
@@ -32,9 +41,9 @@ class InjectableRegistryTest {
 		managedRegistry = RegistryProvider.getRegistry(ManagedRegistry.class);
 		injectableRegistry = RegistryProvider.getRegistry(InjectableRegistry.class);
 
-		scanResult = packagesRegistry.registry("dummy");
-		registry = managedRegistry.registry(registry, scanResult);
-		registry = injectableRegistry.registry(registry, scanResult);
+		components = packagesRegistry.registry("dummy");
+		registry = managedRegistry.registry(registry, components);
+		registry = injectableRegistry.registry(registry, components);
 	}
 
 	@Test
@@ -67,4 +76,59 @@ class InjectableRegistryTest {
 		assertSame(SingletonDummy.getInstance(), baseFromRegistry.getSingletonFromBaseLevelInjectable(),
 				"Injected singleton should be the same as SingletonDummy.getInstance()");
 	}
+
+	@Test
+	void shouldOrderInjectablesByConstructorDependenciesInsteadOfLevel() {
+		// InjectableWrongLevelDummy keeps the default level 0 but depends on a level 1 injectable
+		InjectableWrongLevelDummy wrongLevel = registry.get(InjectableWrongLevelDummy.class);
+
+		assertSame(registry.get(InjectableFirstLevelDummy.class), wrongLevel.getFirstLevel(),
+				"Dependencies must be created first regardless of the declared level");
+	}
+
+	@Test
+	void parallelModeShouldRegisterTheSameBeans() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			DependencyRegistry managed = managedRegistry.registry(RegistryProvider.getRegistry(DependencyRegistry.class), components);
+			DependencyRegistry parallel = injectableRegistry.registry(managed, components, executor);
+
+			InjectableFirstLevelDummy firstLevel = parallel.get(InjectableFirstLevelDummy.class);
+			assertSame(parallel.get(InjectableBaseLevelDummy.class), firstLevel.getBaseLevelInstanceFromFirstLevelInjectable(),
+					"Parallel mode must inject the registered base-level instance into the first-level injectable");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void parallelModeShouldInstantiateIndependentInjectablesConcurrently() {
+		ConcurrencyProbe.reset();
+		ComponentIndex parallelComponents = packagesRegistry.registry("parallel");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			DependencyRegistry di = injectableRegistry.registry(RegistryProvider.getRegistry(DependencyRegistry.class), parallelComponents, executor);
+
+			JoinDummy join = di.get(JoinDummy.class);
+			assertTrue(join.getAlpha().isOverlapped() && join.getBeta().isOverlapped(),
+					"Injectables without dependencies between them should be constructed at the same time");
+			assertSame(di.get(SlowAlphaDummy.class), join.getAlpha(), "Dependents must receive the registered instances");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void parallelModeShouldStopTheLayerBeforeReportingAFailure() {
+		LayerProbe.reset();
+		ComponentIndex failingComponents = packagesRegistry.registry("failing");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertThrows(DependencyInstantiationException.class,
+					() -> injectableRegistry.registry(RegistryProvider.getRegistry(DependencyRegistry.class), failingComponents, executor));
+			assertEquals(0, LayerProbe.getRunning(), "No constructor of the failed layer may still run once the failure is thrown");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 }
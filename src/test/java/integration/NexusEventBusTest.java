@@ -0,0 +1,138 @@
+package integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.boot.PackagesRegistry;
+import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.event.DeadLetterQueue;
+import com.nexus.core.event.EventBus;
+import com.sun.management.ThreadMXBean;
+
+import dispatch.EventCounter;
+import dispatch.TickBatchCounter;
+import dispatch.TickCounter;
+import dispatch.TickEvent;
+
+class NexusEventBusTest {
+
+	private EventHandlersRegistry registry;
+	private EventBus eventBus;
+
+	@BeforeEach
+	void setUp() {
+		ComponentIndex components = RegistryProvider.getRegistry(PackagesRegistry.class).registry("dispatch");
+		registry = new EventHandlersRegistry().registry(RegistryProvider.getRegistry(DependencyRegistry.class), components);
+		eventBus = BusesProvider.getNexusEventBus(registry);
+	}
+
+
+	@Test
+	void publishWithoutTypeShouldUseTheEventClass() {
+		eventBus.publish(new TickEvent());
+
+		assertEquals(1, getHandler(TickCounter.class).getCount(), "The handler of the concrete class must be called");
+		assertEquals(1, getHandler(EventCounter.class).getCount(), "Supertype subscribers must be called too");
+	}
+
+	@Test
+	void publishAllShouldHandBatchHandlersTheWholeList() {
+		eventBus.publishAll(TickEvent.class, List.of(new TickEvent(), new TickEvent(), new TickEvent()));
+
+		TickBatchCounter batchCounter = getHandler(TickBatchCounter.class);
+		assertEquals(1, batchCounter.getBatches(), "A BatchEventHandler must receive the batch in one call");
+		assertEquals(3, batchCounter.getCount());
+		assertEquals(3, getHandler(TickCounter.class).getCount(), "Other handlers must get one call per event");
+		assertEquals(3, getHandler(EventCounter.class).getCount());
+	}
+
+	@Test
+	void publishAllShouldDispatchMixedBatchesPerEvent() {
+		TickEvent subclassTick = new TickEvent() {};
+
+		eventBus.publishAll(TickEvent.class, List.of(new TickEvent(), subclassTick));
+
+		TickBatchCounter batchCounter = getHandler(TickBatchCounter.class);
+		assertEquals(0, batchCounter.getBatches(), "A batch mixing event classes falls back to per-event dispatch");
+		assertEquals(2, batchCounter.getCount());
+		assertEquals(2, getHandler(TickCounter.class).getCount());
+	}
+
+	@Test
+	void publishShouldIsolateFailingHandlersAndRetryThem() throws Exception {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.backoff(Duration.ofMillis(5), Duration.ofMillis(20))
+				.build();
+		EventBus bus = BusesProvider.getNexusEventBus(registry, deadLetters);
+		AtomicInteger failures = new AtomicInteger(2);
+		AtomicInteger after = new AtomicInteger();
+		registry.subscribe(TickEvent.class, event -> {
+			if (failures.getAndDecrement() > 0) throw new IllegalStateException("projection down");
+		});
+		registry.subscribe(TickEvent.class, event -> after.incrementAndGet());
+
+		assertDoesNotThrow(() -> bus.publish(new TickEvent()), "A failing handler must not reach the publisher");
+
+		assertEquals(1, after.get(), "Handlers after the failing one must still be called");
+		assertEquals(1, getHandler(TickCounter.class).getCount());
+		// The handler returns before the queue counts the recovery, so wait for the count itself
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (deadLetters.getRecoveredCount() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(1, deadLetters.getRecoveredCount(), "The failed delivery must be retried until it succeeds");
+		assertEquals(0, deadLetters.size());
+		assertEquals(1, after.get(), "Retries must only redeliver to the handler that failed");
+	}
+
+	@Test
+	void steadyStatePublishShouldNotAllocate() {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeAllocationCounting(threads);
+		TickEvent tick = new TickEvent();
+		int publishes = 100_000;
+
+		// Warm up so the dispatch plan is cached and the publish path is compiled
+		for (int i = 0; i < publishes; i++) {
+			eventBus.publish(tick);
+			eventBus.publish(TickEvent.class, tick);
+		}
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < publishes; i++) {
+			eventBus.publish(tick);
+			eventBus.publish(TickEvent.class, tick);
+		}
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+		assertEquals(4L * publishes, getHandler(TickCounter.class).getCount());
+		// Any per-event allocation would add at least 16 bytes per publish, megabytes in total
+		assertTrue(allocated < 1024, "Publishing should not allocate, but " + allocated + " bytes were allocated");
+	}
+
+	private void assumeAllocationCounting(ThreadMXBean threads) {
+		assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+				"The JVM does not report per-thread allocations");
+	}
+
+	private <H> H getHandler(Class<H> handlerClass) {
+		return registry.getHandlers(TickEvent.class).stream()
+			.filter(handlerClass::isInstance)
+			.map(handlerClass::cast)
+			.findFirst()
+			.orElseThrow();
+	}
+}
@@ -3,19 +3,31 @@ package integration;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.nexus.api.NexusContext;
 import com.nexus.boot.CqrsHandlersRegistry;
 import com.nexus.boot.EventHandlersRegistry;
 import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.RingBufferEventBus;
+import com.nexus.core.cqrs.Command;
 import com.nexus.core.cqrs.CqrsBus;
+import com.nexus.core.cqrs.Dispatcher;
+import com.nexus.core.event.DeadLetterQueue;
 import com.nexus.core.event.EventBus;
 import com.nexus.core.event.EventHandler;
+import com.nexus.core.journal.Journal;
+import com.nexus.exceptions.RegistryResolutionException;
 
 import dummy.CommandDummy;
 import dummy.EventDummy;
@@ -75,4 +87,74 @@ class NexusIntegrationTest {
 		String cmdResult2 = cqrsBus.send(CommandDummy.class, "another");
 		assertEquals("Hello from CommandDummy! input:another", cmdResult2, "Cqrs bus should continue working after event publish");
 	}
+
+	@Test
+	void boundDispatchersSendToTheSameHandlersAsTheBus() {
+		CqrsBus cqrsBus = new NexusContext.NexusContextBuilder()
+				.packagesToScan("dummy")
+				.build()
+				.getCqrsBus();
+
+		Dispatcher<String, String> command = cqrsBus.bind(CommandDummy.class);
+		Dispatcher<String, String> query = cqrsBus.bind(QueryDummy.class);
+
+		assertEquals(cqrsBus.send(CommandDummy.class, "payload"), command.send("payload"), "A bound command must behave like send()");
+		assertEquals(cqrsBus.send(QueryDummy.class, "q"), query.send("q"), "A bound query must behave like send()");
+	}
+
+	@Test
+	void bindingAnUnregisteredHandlerShouldFailImmediately() {
+		CqrsBus cqrsBus = new NexusContext.NexusContextBuilder()
+				.packagesToScan("dummy")
+				.build()
+				.getCqrsBus();
+
+		assertThrows(RegistryResolutionException.class, () -> cqrsBus.bind(UnregisteredCommand.class),
+				"bind() resolves the handler once, so a missing handler must be reported at bind time");
+	}
+
+	@Test
+	void eventBusFactoryShouldReceiveTheRegisteredHandlers() {
+		EventBus eventBus = new NexusContext.NexusContextBuilder()
+				.packagesToScan("dummy")
+				.withEventBus(RingBufferEventBus.builder().bufferSize(64))
+				.build()
+				.getEventBus();
+
+		RingBufferEventBus ringBus = assertInstanceOf(RingBufferEventBus.class, eventBus, "The factory must create the context's event bus");
+		try (ringBus) {
+			assertDoesNotThrow(() -> ringBus.publish(EventDummy.class, new EventDummy()));
+		}
+	}
+
+	@Test
+	void deadLetterQueueShouldBeReachableBehindAJournal(@TempDir Path directory) {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder().capacity(16).build();
+		try (Journal journal = Journal.builder().directory(directory).open()) {
+			NexusContext ctx = new NexusContext.NexusContextBuilder()
+					.packagesToScan("dummy")
+					.deadLetterQueue(deadLetters)
+					.journal(journal)
+					.build();
+
+			assertSame(deadLetters, ctx.getDeadLetterQueue(), "The journal wraps the bus, the context must still expose its queue");
+		}
+		NexusContext defaults = new NexusContext.NexusContextBuilder()
+				.packagesToScan("dummy")
+				.build();
+		assertNotNull(defaults.getDeadLetterQueue(), "The built-in bus has a default queue");
+		NexusContext async = new NexusContext.NexusContextBuilder()
+				.packagesToScan("dummy")
+				.asyncEventBus()
+				.build();
+		assertNotNull(async.getDeadLetterQueue(), "The async bus has a default queue too");
+		assertNotSame(defaults.getDeadLetterQueue(), async.getDeadLetterQueue(), "Contexts must not share their default queues");
+	}
+
+	public static class UnregisteredCommand implements Command<String, String> {
+		@Override
+		public String handle(String input) {
+			return input;
+		}
+	}
 }
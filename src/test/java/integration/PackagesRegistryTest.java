@@ -2,13 +2,22 @@ package integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.ComponentKind;
+import com.nexus.boot.DependencyGraph;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
 
-import io.github.classgraph.ScanResult;
+import dummy.CommandDummy;
+import dummy.InjectableBaseLevelDummy;
+import dummy.InjectableFirstLevelDummy;
 
 class PackagesRegistryTest {
 	private PackagesRegistry registryPkgs;
@@ -32,24 +41,67 @@ class PackagesRegistryTest {
 
 	@Test
 	void shouldScanDummyPackageSuccessfully() {
-		ScanResult sr = registryPkgs.registry("dummy");
-		assertNotNull(sr, "ScanResult should not be null for a valid package");
-		assertTrue(sr.getAllClasses().size() > 0, "The dummy package should contain at least one scanned class");
+		ComponentIndex components = registryPkgs.registry("dummy");
+		assertNotNull(components, "ComponentIndex should not be null for a valid package");
+		assertTrue(components.getAllComponents().size() > 0, "The dummy package should contain at least one scanned class");
 	}
 
 	@Test
 	void shouldAcceptPackageArrayVarargs() {
 		String[] pkgs = new String[] { "dummy" };
 		// cast to Object[] so varargs expands the String[] elements as separate arguments
-		ScanResult sr = registryPkgs.registry((Object[]) pkgs);
-		assertNotNull(sr, "ScanResult should not be null when passing packages as an array");
-		assertTrue(sr.getAllClasses().size() > 0, "Scanning via array varargs should find classes in the dummy package");
+		ComponentIndex components = registryPkgs.registry((Object[]) pkgs);
+		assertNotNull(components, "ComponentIndex should not be null when passing packages as an array");
+		assertTrue(components.getAllComponents().size() > 0, "Scanning via array varargs should find classes in the dummy package");
+	}
+
+	@Test
+	void scanningUnknownPackageShouldReturnEmptyComponentIndex() {
+		ComponentIndex components = registryPkgs.registry("no.such.package.exists");
+		assertNotNull(components, "ComponentIndex should never be null even for unknown packages");
+		assertEquals(0, components.getAllComponents().size(), "Unknown package should yield an empty scan result");
+	}
+
+	@Test
+	void shouldLoadComponentsFromCompileTimeIndex() {
+		ComponentIndex components = registryPkgs.registry("dummy");
+		assertTrue(components.isIndexed(), "Test classes are compiled with the index processor, so the scan should be skipped");
+		assertTrue(components.getCommands().contains(CommandDummy.class), "Indexed commands should include CommandDummy");
+		assertTrue(components.getInjectables().contains(InjectableFirstLevelDummy.class), "Indexed injectables should include InjectableFirstLevelDummy");
+	}
+
+	@Test
+	void indexShouldProvideGeneratedWiringFactories() {
+		ComponentIndex indexed = registryPkgs.registry("dummy");
+		ComponentIndex scanned = registryPkgs.scan("dummy");
+
+		assertNotNull(indexed.getFactory(CommandDummy.class), "The generated wiring should provide a factory for CommandDummy");
+		assertNotNull(indexed.getFactory(InjectableFirstLevelDummy.class), "The generated wiring should provide a factory for injectables");
+		assertNull(scanned.getFactory(CommandDummy.class), "Scanned components are always instantiated reflectively");
+	}
+
+	@Test
+	void indexShouldProvideConstructorDependencies() {
+		ComponentIndex indexed = registryPkgs.registry("dummy");
+		ComponentIndex scanned = registryPkgs.scan("dummy");
+
+		assertEquals(List.of(InjectableBaseLevelDummy.class.getName()), indexed.getDependencyNames(InjectableFirstLevelDummy.class),
+				"The index should record the @Inject constructor parameters");
+		assertNull(scanned.getDependencyNames(InjectableFirstLevelDummy.class), "Scanned components are reflected on");
+		assertEquals(DependencyGraph.of(scanned.getInjectables()).getLayers(Comparator.comparing(Class::getName)),
+				DependencyGraph.of(indexed.getInjectables(), indexed).getLayers(Comparator.comparing(Class::getName)),
+				"The indexed dependencies must give the same graph as reflection");
 	}
 
 	@Test
-	void scanningUnknownPackageShouldReturnEmptyScanResult() {
-		ScanResult sr = registryPkgs.registry("no.such.package.exists");
-		assertNotNull(sr, "ScanResult should never be null even for unknown packages");
-		assertEquals(0, sr.getAllClasses().size(), "Unknown package should yield an empty scan result");
+	void indexShouldMatchClassGraphScan() {
+		ComponentIndex indexed = registryPkgs.registry("dummy");
+		ComponentIndex scanned = registryPkgs.scan("dummy");
+
+		assertFalse(scanned.isIndexed(), "scan() must always use ClassGraph");
+		for (ComponentKind kind : ComponentKind.values()) {
+			assertEquals(Set.copyOf(scanned.get(kind)), Set.copyOf(indexed.get(kind)),
+					"Index and ClassGraph scan must discover the same " + kind + " components");
+		}
 	}
 }
@@ -0,0 +1,80 @@
+package integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.PackagesRegistry;
+import com.nexus.boot.RegistryProvider;
+import com.nexus.core.cqrs.Handler;
+import com.nexus.exceptions.DeadlineExceededException;
+import com.nexus.exceptions.RegistryResolutionException;
+
+import pipeline.AngleBehavior;
+import pipeline.BracketBehavior;
+import pipeline.GreetCommand;
+import pipeline.LookupQuery;
+import pipeline.SlowQuery;
+
+class PipelineBehaviorTest {
+
+	private CqrsHandlersRegistry registry;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// A fresh registry, the shared one keeps the handlers of the first package it was filled with
+		Constructor<CqrsHandlersRegistry> constructor = CqrsHandlersRegistry.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		registry = constructor.newInstance();
+		ComponentIndex components = RegistryProvider.getRegistry(PackagesRegistry.class).registry("pipeline");
+		registry.registry(RegistryProvider.getRegistry(DependencyRegistry.class), components);
+	}
+
+	@Test
+	void behaviorsShouldBeDiscoveredAndSortedByOrder() {
+		assertEquals(2, registry.getPipelineBehaviors().size());
+		assertInstanceOf(BracketBehavior.class, registry.getPipelineBehaviors().get(0));
+		assertInstanceOf(AngleBehavior.class, registry.getPipelineBehaviors().get(1));
+	}
+
+	@Test
+	void pipelineShouldWrapTheHandlerWithLowerOrdersOutside() {
+		Handler<String, String> pipeline = registry.getPipeline(GreetCommand.class);
+
+		assertEquals("[<hello nexus>]", pipeline.handle("nexus"));
+		assertSame(pipeline, registry.getPipeline(GreetCommand.class), "The chain must be linked once, not per lookup");
+		assertEquals("hello nexus", registry.getCQRSHandler(GreetCommand.class).handle("nexus"),
+				"getCQRSHandler keeps returning the bare handler");
+	}
+
+	@Test
+	void bulkheadShouldSitBetweenTheBehaviorsAndTheHandler() {
+		assertEquals("[<hello nexus>]", registry.getPipeline(GreetCommand.class).handle("nexus"));
+
+		assertEquals(4, registry.getBulkhead(GreetCommand.class).getLimit());
+		assertEquals(0, registry.getBulkhead(GreetCommand.class).getInFlight());
+		assertThrows(RegistryResolutionException.class, () -> registry.getBulkhead(LookupQuery.class),
+				"Handlers without @Bulkhead have no limiter");
+	}
+
+	@Test
+	void timeoutAnnotationShouldBoundEverySend() {
+		Handler<Long, Long> pipeline = registry.getPipeline(SlowQuery.class);
+
+		assertEquals(0L, pipeline.handle(0L));
+		assertThrows(DeadlineExceededException.class, () -> pipeline.handle(10_000L),
+				"@Timeout must interrupt sends running past it");
+	}
+
+	@Test
+	void handlersWithoutBehaviorsShouldBeTheirOwnPipeline() {
+		assertSame(registry.getCQRSHandler(LookupQuery.class), registry.getPipeline(LookupQuery.class),
+				"Handlers no behavior applies to must be called directly");
+	}
+}
@@ -0,0 +1,96 @@
+package integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.boot.PackagesRegistry;
+import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.cqrs.CacheStats;
+import com.nexus.core.cqrs.Handler;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+
+import caching.PriceChanged;
+import caching.PriceQuery;
+
+class QueryCacheIntegrationTest {
+
+	private CqrsHandlersRegistry registry;
+	private EventHandlersRegistry events;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// A fresh registry, the shared one keeps the handlers of the first package it was filled with
+		Constructor<CqrsHandlersRegistry> constructor = CqrsHandlersRegistry.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		registry = constructor.newInstance();
+		DependencyRegistry di = RegistryProvider.getRegistry(DependencyRegistry.class);
+		ComponentIndex components = RegistryProvider.getRegistry(PackagesRegistry.class).registry("caching");
+		registry.registry(di, components);
+		events = new EventHandlersRegistry().registry(di, components);
+		registry.bindCacheInvalidation(events);
+	}
+
+	@Test
+	void cachedQueryShouldRunOncePerInput() {
+		Handler<String, Integer> pipeline = registry.getPipeline(PriceQuery.class);
+
+		assertEquals(300, pipeline.handle("abc"));
+		assertEquals(300, pipeline.handle("abc"));
+		assertEquals(200, pipeline.handle("ab"));
+
+		assertEquals(2, registry.getCQRSHandler(PriceQuery.class).getCalls(), "Repeated inputs must be served from the cache");
+		CacheStats stats = registry.getQueryCache(PriceQuery.class).getStats();
+		assertEquals(1, stats.hits());
+		assertEquals(2, stats.misses());
+		assertEquals(2, stats.size());
+	}
+
+	@Test
+	void publishingAnInvalidatingEventShouldClearTheCache() {
+		Handler<String, Integer> pipeline = registry.getPipeline(PriceQuery.class);
+		pipeline.handle("abc");
+
+		events.dispatch(PriceChanged.class, new PriceChanged());
+		pipeline.handle("abc");
+
+		assertEquals(2, registry.getCQRSHandler(PriceQuery.class).getCalls(), "The event must invalidate the cached result");
+		assertEquals(0, registry.getQueryCache(PriceQuery.class).getStats().hits());
+	}
+
+	@Test
+	void bindingTheSameEventRegistryAgainShouldNotSubscribeTwice() {
+		int subscribed = events.getHandlers(PriceChanged.class).size();
+
+		registry.bindCacheInvalidation(events);
+
+		assertEquals(subscribed, events.getHandlers(PriceChanged.class).size(), "Rebuilding a context must not stack invalidation handlers");
+	}
+
+	@Test
+	void busesOutsideTheRegistryShouldStillInvalidate() {
+		Handler<String, Integer> pipeline = registry.getPipeline(PriceQuery.class);
+		EventBus external = new EventBus() {
+			@Override
+			public <T extends DomainEvent> void publish(Class<T> eventType, T event) {
+				// Forwards elsewhere, never through the event handlers registry
+			}
+		};
+		pipeline.handle("abc");
+
+		assertTrue(registry.hasCacheInvalidation());
+		BusesProvider.invalidatingCaches(external, registry).publish(new PriceChanged());
+		pipeline.handle("abc");
+
+		assertEquals(2, registry.getCQRSHandler(PriceQuery.class).getCalls(), "The wrapped bus must invalidate the cached result");
+	}
+}
@@ -5,19 +5,19 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.ManagedRegistry;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
 
 import dummy.SingletonDummy;
-import io.github.classgraph.ScanResult;
 
 class ManagedRegistryTest {
 	private PackagesRegistry packagesRegistry;
 	private DependencyRegistry registry;
 	private ManagedRegistry managedRegistry;
-	private ScanResult scanResult;
+	private ComponentIndex components;
 
 	@BeforeEach
 	void setUp() {
@@ -25,8 +25,8 @@ class ManagedRegistryTest {
 		registry = RegistryProvider.getRegistry(DependencyRegistry.class);
 		managedRegistry = RegistryProvider.getRegistry(ManagedRegistry.class);
 
-		scanResult = packagesRegistry.registry("dummy");
-		registry = managedRegistry.registry(registry, scanResult);
+		components = packagesRegistry.registry("dummy");
+		registry = managedRegistry.registry(registry, components);
 	}
 
 	@Test
@@ -44,7 +44,7 @@ class ManagedRegistryTest {
 		//Initial registry already prepared in setUp()
 
 		//Run managed registry again to simulate repeated registration
-		DependencyRegistry after = managedRegistry.registry(registry, scanResult);
+		DependencyRegistry after = managedRegistry.registry(registry, components);
 		Object beanAfter = after.get(SingletonDummy.class);
 
 		//Bean remains present and it's the same Singleton instance
@@ -0,0 +1,26 @@
+package parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class ConcurrencyProbe {
+    private static CountDownLatch started = new CountDownLatch(2);
+
+    private ConcurrencyProbe() {}
+
+    public static void reset() {
+        started = new CountDownLatch(2);
+    }
+
+    // Returns true only if the peer constructor was running at the same time
+    public static boolean awaitPeer() {
+        CountDownLatch latch = started;
+        latch.countDown();
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
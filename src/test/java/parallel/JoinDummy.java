@@ -0,0 +1,24 @@
+package parallel;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class JoinDummy {
+    private final SlowAlphaDummy alpha;
+    private final SlowBetaDummy beta;
+
+    @Inject
+    public JoinDummy(SlowAlphaDummy alpha, SlowBetaDummy beta) {
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    public SlowAlphaDummy getAlpha() {
+        return alpha;
+    }
+
+    public SlowBetaDummy getBeta() {
+        return beta;
+    }
+}
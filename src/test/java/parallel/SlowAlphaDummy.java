@@ -0,0 +1,18 @@
+package parallel;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class SlowAlphaDummy {
+    private final boolean overlapped;
+
+    @Inject
+    public SlowAlphaDummy() {
+        this.overlapped = ConcurrencyProbe.awaitPeer();
+    }
+
+    public boolean isOverlapped() {
+        return overlapped;
+    }
+}
@@ -0,0 +1,18 @@
+package parallel;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Injectable;
+
+@Injectable
+public class SlowBetaDummy {
+    private final boolean overlapped;
+
+    @Inject
+    public SlowBetaDummy() {
+        this.overlapped = ConcurrencyProbe.awaitPeer();
+    }
+
+    public boolean isOverlapped() {
+        return overlapped;
+    }
+}
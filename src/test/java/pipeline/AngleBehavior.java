@@ -0,0 +1,28 @@
+package pipeline;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.Command;
+import com.nexus.core.cqrs.Handler;
+import com.nexus.core.cqrs.PipelineBehavior;
+
+public class AngleBehavior implements PipelineBehavior {
+
+    @Inject
+    public AngleBehavior() {}
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C, R> R handle(Class<?> handlerClass, C input, Handler<C, R> next) {
+        return (R) ("<" + next.handle(input) + ">");
+    }
+
+    @Override
+    public boolean appliesTo(Class<?> handlerClass) {
+        return Command.class.isAssignableFrom(handlerClass);
+    }
+
+    @Override
+    public int order() {
+        return 10;
+    }
+}
@@ -0,0 +1,17 @@
+package pipeline;
+
+import com.nexus.core.annotations.Bulkhead;
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.Command;
+
+@Bulkhead(maxConcurrent = 4)
+public class GreetCommand implements Command<String, String> {
+
+    @Inject
+    public GreetCommand() {}
+
+    @Override
+    public String handle(String input) {
+        return "hello " + input;
+    }
+}
@@ -0,0 +1,15 @@
+package pipeline;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.cqrs.Query;
+
+public class LookupQuery implements Query<String, String> {
+
+    @Inject
+    public LookupQuery() {}
+
+    @Override
+    public String handle(String input) {
+        return input;
+    }
+}
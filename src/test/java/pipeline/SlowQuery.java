@@ -0,0 +1,23 @@
+package pipeline;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.annotations.Timeout;
+import com.nexus.core.cqrs.Query;
+
+@Timeout(50)
+public class SlowQuery implements Query<Long, Long> {
+
+    @Inject
+    public SlowQuery() {}
+
+    @Override
+    public Long handle(Long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,3 @@
+package polymorphic;
+
+public class AccountClosed implements AccountEvent {}
@@ -0,0 +1,5 @@
+package polymorphic;
+
+import com.nexus.core.event.DomainEvent;
+
+public interface AccountEvent extends DomainEvent {}
@@ -0,0 +1,23 @@
+package polymorphic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.EventHandler;
+
+public class AccountEventHandler implements EventHandler<AccountEvent> {
+    private final List<AccountEvent> received = new ArrayList<>();
+
+    @Inject
+    public AccountEventHandler() {}
+
+    @Override
+    public void on(AccountEvent event) {
+        received.add(event);
+    }
+
+    public List<AccountEvent> getReceived() {
+        return received;
+    }
+}
@@ -0,0 +1,3 @@
+package polymorphic;
+
+public class AccountOpened implements AccountEvent {}
@@ -0,0 +1,23 @@
+package polymorphic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.EventHandler;
+
+public class AccountOpenedHandler implements EventHandler<AccountOpened> {
+    private final List<AccountOpened> received = new ArrayList<>();
+
+    @Inject
+    public AccountOpenedHandler() {}
+
+    @Override
+    public void on(AccountOpened event) {
+        received.add(event);
+    }
+
+    public List<AccountOpened> getReceived() {
+        return received;
+    }
+}
@@ -0,0 +1,24 @@
+package polymorphic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.nexus.core.annotations.Inject;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventHandler;
+
+public class AuditHandler implements EventHandler<DomainEvent> {
+    private final List<DomainEvent> received = new ArrayList<>();
+
+    @Inject
+    public AuditHandler() {}
+
+    @Override
+    public void on(DomainEvent event) {
+        received.add(event);
+    }
+
+    public List<DomainEvent> getReceived() {
+        return received;
+    }
+}
@@ -0,0 +1,174 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.bus.AsyncEventBus;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.event.DeadLetterQueue;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventHandler;
+
+class AsyncEventBusTest {
+
+	private EventHandlersRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = mock(EventHandlersRegistry.class);
+	}
+
+	@Test
+	void publishShouldReturnBeforeHandlersFinish() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch handled = new CountDownLatch(1);
+		EventHandler<NumberEvent> slow = event -> {
+			await(release);
+			handled.countDown();
+		};
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(slow));
+		AsyncEventBus bus = BusesProvider.getAsyncEventBus(registry, null);
+
+		bus.publish(NumberEvent.class, new NumberEvent(1));
+
+		assertEquals(1, handled.getCount(), "The publisher must not wait for the handler");
+		release.countDown();
+		assertTrue(handled.await(5, TimeUnit.SECONDS), "The event must still be delivered");
+	}
+
+	@Test
+	void eachHandlerShouldReceiveEventsInPublishOrder() throws InterruptedException {
+		int events = 2_000;
+		List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+		List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(events * 2);
+		EventHandler<NumberEvent> firstHandler = event -> {
+			first.add(event.value());
+			done.countDown();
+		};
+		EventHandler<NumberEvent> secondHandler = event -> {
+			second.add(event.value());
+			done.countDown();
+		};
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(firstHandler, secondHandler));
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			AsyncEventBus bus = BusesProvider.getAsyncEventBus(registry, pool);
+			IntStream.range(0, events).forEach(i -> bus.publish(NumberEvent.class, new NumberEvent(i)));
+
+			assertTrue(done.await(10, TimeUnit.SECONDS), "All events must be delivered");
+			List<Integer> expected = IntStream.range(0, events).boxed().toList();
+			assertEquals(expected, first, "A handler must see events in publish order");
+			assertEquals(expected, second, "A handler must see events in publish order");
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void callerRunsExecutorShouldDeliverOnThePublisherThread() {
+		List<Thread> threads = new ArrayList<>();
+		EventHandler<NumberEvent> handler = event -> threads.add(Thread.currentThread());
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(handler));
+
+		BusesProvider.getAsyncEventBus(registry, Runnable::run).publish(NumberEvent.class, new NumberEvent(1));
+
+		assertEquals(List.of(Thread.currentThread()), threads, "Runnable::run should behave like a synchronous bus");
+	}
+
+	@Test
+	void failingEventShouldNotBlockLaterEvents() {
+		List<Integer> delivered = new ArrayList<>();
+		EventHandler<NumberEvent> handler = event -> {
+			if (event.value() == 0) throw new IllegalStateException("first event fails");
+			delivered.add(event.value());
+		};
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(handler));
+		AsyncEventBus bus = BusesProvider.getAsyncEventBus(registry, Runnable::run);
+
+		bus.publish(NumberEvent.class, new NumberEvent(0));
+		bus.publish(NumberEvent.class, new NumberEvent(1));
+
+		assertEquals(List.of(1), delivered, "The handler lane must keep running after a failure");
+		assertEquals(new NumberEvent(0), bus.getDeadLetterQueue().getDeadLetters().get(0).event(),
+				"Without a queue of its own the failure must go to the bus's default queue");
+	}
+
+	@Test
+	void errorInHandlerShouldNotStopItsLane() {
+		List<Integer> delivered = new ArrayList<>();
+		EventHandler<NumberEvent> handler = event -> {
+			if (event.value() == 0) throw new AssertionError("first event fails with an Error");
+			delivered.add(event.value());
+		};
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(handler));
+		AsyncEventBus bus = BusesProvider.getAsyncEventBus(registry, Runnable::run);
+		Thread.UncaughtExceptionHandler previous = Thread.currentThread().getUncaughtExceptionHandler();
+		List<Throwable> reported = new ArrayList<>();
+		Thread.currentThread().setUncaughtExceptionHandler((t, e) -> reported.add(e));
+		try {
+			bus.publish(NumberEvent.class, new NumberEvent(0));
+			bus.publish(NumberEvent.class, new NumberEvent(1));
+		} finally {
+			Thread.currentThread().setUncaughtExceptionHandler(previous);
+		}
+
+		assertEquals(List.of(1), delivered, "The handler lane must keep running after an Error");
+		assertEquals(1, reported.size());
+		assertInstanceOf(AssertionError.class, reported.get(0));
+	}
+
+	@Test
+	void failedDeliveriesShouldBeRetriedOnTheHandlerLane() throws InterruptedException {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.backoff(Duration.ofMillis(5), Duration.ofMillis(20))
+				.build();
+		AtomicBoolean failing = new AtomicBoolean(true);
+		List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(2);
+		EventHandler<NumberEvent> handler = event -> {
+			if (event.value() == 0 && failing.getAndSet(false)) throw new IllegalStateException("first delivery fails");
+			delivered.add(event.value());
+			done.countDown();
+		};
+		when(registry.getHandlers(NumberEvent.class)).thenReturn(List.of(handler));
+		AsyncEventBus bus = BusesProvider.getAsyncEventBus(registry, null, deadLetters);
+
+		bus.publish(NumberEvent.class, new NumberEvent(0));
+		bus.publish(NumberEvent.class, new NumberEvent(1));
+
+		assertTrue(done.await(5, TimeUnit.SECONDS), "The failed event must be redelivered");
+		assertEquals(List.of(1, 0), delivered, "Later events must not wait for the retry");
+		assertEquals(1, deadLetters.getRecoveredCount());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public record NumberEvent(int value) implements DomainEvent {}
+}
@@ -0,0 +1,173 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.codec.BinaryCodec;
+import com.nexus.core.codec.TypeCodec;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.exceptions.CodecException;
+
+class BinaryCodecTest {
+
+	private final BinaryCodec codec = BinaryCodec.builder().build();
+
+	@Test
+	void recordsShouldRoundTrip() {
+		OrderPlaced order = new OrderPlaced(UUID.randomUUID(), "Ünïcødé 🚀 order", 3, -42L, 19.99, true,
+				Status.SHIPPED, new BigDecimal("123.45"), Instant.ofEpochSecond(1_700_000_000L, 123),
+				List.of(new Line("sku-1", 2), new Line("sku-2", 1)), Map.of("channel", "web"), null);
+
+		assertEquals(order, roundTrip(order));
+	}
+
+	@Test
+	void pojosShouldRoundTripThroughTheirFields() {
+		Customer customer = new Customer();
+		customer.name = "Ada";
+		customer.age = 36;
+		customer.tags = Set.of("vip");
+		customer.cache = "not stored";
+
+		Customer decoded = (Customer) roundTrip(customer);
+
+		assertEquals("Ada", decoded.name);
+		assertEquals(36, decoded.age);
+		assertEquals(Set.of("vip"), decoded.tags);
+		assertNull(decoded.cache, "Transient fields must be skipped");
+	}
+
+	@Test
+	void recursiveTypesShouldBeSupported() {
+		Node list = new Node(1, new Node(2, new Node(3, null)));
+
+		assertEquals(list, roundTrip(list));
+	}
+
+	@Test
+	void encodingShouldBeCompact() {
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		codec.encode(new Line("sku-1", 2), buffer);
+
+		// Tag, class name, schema fingerprint, then just the two field values
+		int nameBytes = 1 + Line.class.getName().length();
+		assertEquals(1 + nameBytes + 4 + 1 + 6 + 1, buffer.position());
+	}
+
+	@Test
+	void valuesWrittenWithAnotherSchemaShouldFailToDecode() {
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		codec.encode(new PointB(1, 2, 3), buffer);
+		// Same name length, so this reads as a PointA written by a version of it with a third field
+		byte[] bytes = new byte[buffer.flip().remaining()];
+		buffer.get(bytes);
+		String encoded = new String(bytes, StandardCharsets.ISO_8859_1).replace(PointB.class.getName(), PointA.class.getName());
+
+		CodecException ex = assertThrows(CodecException.class,
+				() -> codec.decode(ByteBuffer.wrap(encoded.getBytes(StandardCharsets.ISO_8859_1))));
+		assertTrue(ex.getMessage().contains("different schema"), ex.getMessage());
+	}
+
+	@Test
+	void codecShouldNotOutliveItsLastUse() throws InterruptedException {
+		WeakReference<BinaryCodec> unused = encodeWithOwnCodec();
+
+		for (int i = 0; i < 50 && unused.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(unused.get(), "Cached schemas must not keep the codec reachable through the classes they describe");
+	}
+
+	@Test
+	void registeredCodecsShouldReplaceGeneratedSchemas() {
+		BinaryCodec custom = BinaryCodec.builder()
+				.register(Line.class, TypeCodec.of((line, out) -> out.putInt(line.quantity()), in -> new Line("fixed", in.getInt())))
+				.build();
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+
+		custom.encode(new Line("sku-1", 7), buffer);
+
+		assertEquals(new Line("fixed", 7), custom.decode(buffer.flip()));
+	}
+
+	@Test
+	void encodingPastTheBufferShouldOverflow() {
+		ByteBuffer small = ByteBuffer.allocate(8);
+
+		assertThrows(BufferOverflowException.class, () -> codec.encode(new Line("a-long-sku-name", 1), small));
+	}
+
+	@Test
+	void unsupportedTypesShouldFailWithGuidance() {
+		CodecException ex = assertThrows(CodecException.class, () -> codec.encode(new NoDefaultConstructor(1), ByteBuffer.allocate(64)));
+
+		assertTrue(ex.getMessage().contains("TypeCodec"), "The message should point to registering a TypeCodec");
+	}
+
+	private Object roundTrip(Object value) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+		codec.encode(value, buffer);
+		buffer.flip();
+		Object decoded = codec.decode(buffer);
+		assertFalse(buffer.hasRemaining(), "Decoding must consume exactly what was encoded");
+		return decoded;
+	}
+
+	private static WeakReference<BinaryCodec> encodeWithOwnCodec() {
+		BinaryCodec own = BinaryCodec.builder().build();
+		own.encode(new Line("sku-1", 2), ByteBuffer.allocate(256));
+		return new WeakReference<>(own);
+	}
+
+	public enum Status { PLACED, SHIPPED }
+
+	public record Line(String sku, int quantity) {}
+
+	public record OrderPlaced(UUID id, String note, int items, long delta, double total, boolean paid, Status status,
+			BigDecimal amount, Instant at, List<Line> lines, Map<String, String> meta, String missing) implements DomainEvent {}
+
+	public record Node(int value, Node next) {}
+
+	public record PointA(int x, int y) {}
+
+	public record PointB(int x, int y, int z) {}
+
+	public static class Customer {
+		private String name;
+		private int age;
+		private Set<String> tags;
+		private transient String cache;
+	}
+
+	public static class NoDefaultConstructor {
+		private final int value;
+
+		public NoDefaultConstructor(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof NoDefaultConstructor n && n.value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(value);
+		}
+	}
+}
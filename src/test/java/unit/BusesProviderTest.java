@@ -1,12 +1,16 @@
 package unit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,19 +20,17 @@ import com.nexus.boot.EventHandlersRegistry;
 import com.nexus.core.bus.BusesProvider;
 import com.nexus.core.bus.NexusCqrsBus;
 import com.nexus.core.bus.NexusEventBus;
+import com.nexus.core.cqrs.Command;
+import com.nexus.core.event.DeadLetterQueue;
 
 class BusesProviderTest {
 
 	@BeforeEach
 	void resetStatics() throws Exception {
-		// Reset private static fields cqrsBus and eventBus to null between tests
+		// Reset the private static cqrsBus field to null between tests
 		Field cqrsField = BusesProvider.class.getDeclaredField("cqrsBus");
 		cqrsField.setAccessible(true);
 		cqrsField.set(null, null);
-
-		Field eventField = BusesProvider.class.getDeclaredField("eventBus");
-		eventField.setAccessible(true);
-		eventField.set(null, null);
 	}
 
 	@Test
@@ -45,7 +47,7 @@ class BusesProviderTest {
 	}
 
 	@Test
-	void getNexusEventBusReturnsSingletonInstance() {
+	void getNexusEventBusShouldGiveEachCallItsOwnDeadLetterQueue() {
 		EventHandlersRegistry reg1 = mock(EventHandlersRegistry.class);
 		EventHandlersRegistry reg2 = mock(EventHandlersRegistry.class);
 
@@ -54,7 +56,8 @@ class BusesProviderTest {
 		assertTrue(first instanceof NexusEventBus, "Returned instance must be NexusEventBus");
 
 		NexusEventBus second = BusesProvider.getNexusEventBus(reg2);
-		assertSame(first, second, "Subsequent calls must return the same singleton instance even if registry differs");
+		assertNotSame(first, second, "Each registry must get its own bus");
+		assertNotSame(first.getDeadLetterQueue(), second.getDeadLetterQueue(), "Failed deliveries must not be shared between contexts");
 	}
 
 	@Test
@@ -71,4 +74,53 @@ class BusesProviderTest {
 		assertTrue(cqrs instanceof NexusCqrsBus);
 		assertTrue(event instanceof NexusEventBus);
 	}
+
+	@Test
+	void getNexusCqrsBusWithExecutorShouldNotTouchOtherBuses() throws Exception {
+		CqrsHandlersRegistry reg = mock(CqrsHandlersRegistry.class);
+		AtomicInteger executions = new AtomicInteger();
+		Executor counting = command -> {
+			executions.incrementAndGet();
+			command.run();
+		};
+
+		NexusCqrsBus shared = BusesProvider.getNexusCqrsBus(reg);
+		NexusCqrsBus own = BusesProvider.getNexusCqrsBus(reg, counting);
+		NexusCqrsBus other = BusesProvider.getNexusCqrsBus(reg, Runnable::run);
+		when(reg.getPipeline(EchoCommand.class)).thenReturn(new EchoCommand());
+
+		assertNotSame(shared, own, "A bus with its own executor must not be the shared one");
+		assertNotSame(own, other, "Each executor must get its own bus");
+		assertEquals("echo", own.sendAsync(EchoCommand.class, "echo").get());
+		assertEquals(1, executions.get(), "sendAsync must run on the executor given to the provider");
+		assertEquals("echo", other.sendAsync(EchoCommand.class, "echo").get());
+		assertEquals("echo", shared.sendAsync(EchoCommand.class, "echo").get());
+		assertEquals(1, executions.get(), "Another context's executor must not be replaced or borrowed");
+	}
+
+	@Test
+	void getNexusEventBusWithDeadLettersShouldNotTouchOtherBuses() {
+		EventHandlersRegistry reg = mock(EventHandlersRegistry.class);
+		EventHandlersRegistry otherReg = mock(EventHandlersRegistry.class);
+		DeadLetterQueue own = DeadLetterQueue.builder().build();
+		DeadLetterQueue other = DeadLetterQueue.builder().build();
+
+		NexusEventBus shared = BusesProvider.getNexusEventBus(reg);
+		DeadLetterQueue sharedDeadLetters = shared.getDeadLetterQueue();
+		NexusEventBus first = BusesProvider.getNexusEventBus(reg, own);
+		NexusEventBus second = BusesProvider.getNexusEventBus(otherReg, other);
+
+		assertNotSame(shared, first, "A bus with its own queue must not be the shared one");
+		assertNotSame(first, second, "Each queue must get its own bus");
+		assertSame(own, first.getDeadLetterQueue());
+		assertSame(other, second.getDeadLetterQueue());
+		assertSame(sharedDeadLetters, shared.getDeadLetterQueue(), "Another context's queue must not be replaced");
+	}
+
+	public static class EchoCommand implements Command<String, String> {
+		@Override
+		public String handle(String input) {
+			return input;
+		}
+	}
 }
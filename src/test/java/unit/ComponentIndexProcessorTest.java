@@ -0,0 +1,224 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.ComponentFactory;
+import com.nexus.boot.ComponentIndex;
+import com.nexus.boot.ComponentWiring;
+import com.nexus.boot.DependencyRegistry;
+import com.nexus.boot.PackagesRegistry;
+import com.nexus.boot.RegistryProvider;
+import com.nexus.core.cqrs.Command;
+import com.nexus.processor.ComponentIndexProcessor;
+
+class ComponentIndexProcessorTest {
+
+	@TempDir
+	Path tmp;
+
+	@Test
+	void shouldIndexComponentsByKind() throws IOException {
+		List<String> index = compile(
+				"app/Service.java", "package app; @com.nexus.core.annotations.Injectable public class Service {}",
+				"app/Config.java", "package app; @com.nexus.core.annotations.WiringConfig public class Config {}",
+				"app/DoIt.java", "package app; public class DoIt implements com.nexus.core.cqrs.Command<String, String> { public String handle(String s) { return s; } }",
+				"app/read/Find.java", "package app.read; public class Find implements com.nexus.core.cqrs.Query<String, String> { public String handle(String s) { return s; } }",
+				"app/Evt.java", "package app; public class Evt implements com.nexus.core.event.DomainEvent {}",
+				"app/OnEvt.java", "package app; public class OnEvt implements com.nexus.core.event.EventHandler<Evt> { public void on(Evt e) {} }",
+				"app/Log.java", "package app; public class Log implements com.nexus.core.cqrs.PipelineBehavior {"
+						+ " public <C, R> R handle(Class<?> h, C in, com.nexus.core.cqrs.Handler<C, R> next) { return next.handle(in); } }");
+
+		assertTrue(index.contains("injectable=app.Service"), "@Injectable classes must be indexed");
+		assertTrue(index.contains("wiring-config=app.Config"), "@WiringConfig classes must be indexed");
+		assertTrue(index.contains("command=app.DoIt"), "Command implementations must be indexed");
+		assertTrue(index.contains("query=app.read.Find"), "Query implementations must be indexed");
+		assertTrue(index.contains("event-handler=app.OnEvt"), "EventHandler implementations must be indexed");
+		assertTrue(index.contains("pipeline-behavior=app.Log"), "PipelineBehavior implementations must be indexed");
+		assertTrue(index.contains("package=app") && index.contains("package=app.read"), "Compiled packages must be recorded");
+		assertFalse(index.stream().anyMatch(line -> line.endsWith("app.Evt")), "Plain domain events are not components");
+	}
+
+	@Test
+	void shouldIndexPublicNestedClassesWithBinaryNamesAndSkipNonPublic() throws IOException {
+		List<String> index = compile(
+				"app/Outer.java", "package app; public class Outer {"
+						+ " @com.nexus.core.annotations.Injectable public static class Inner {}"
+						+ " @com.nexus.core.annotations.Injectable static class Hidden {} }");
+
+		assertTrue(index.contains("injectable=app.Outer$Inner"), "Nested classes must be indexed with their binary name");
+		assertFalse(index.contains("injectable=app.Outer$Hidden"), "Non-public classes are skipped like the ClassGraph scan does");
+	}
+
+	@Test
+	void shouldGenerateWiringThatCallsInjectConstructorsDirectly() throws Exception {
+		List<String> index = compile(
+				"app/Service.java", "package app; @com.nexus.core.annotations.Injectable public class Service {"
+						+ " @com.nexus.core.annotations.Inject public Service() {} }",
+				"app/DoIt.java", "package app; public class DoIt implements com.nexus.core.cqrs.Command<String, String> {"
+						+ " public final Service service;"
+						+ " @com.nexus.core.annotations.Inject public DoIt(Service service) { this.service = service; }"
+						+ " public String handle(String s) { return s; } }",
+				"app/Checked.java", "package app; @com.nexus.core.annotations.Injectable public class Checked {"
+						+ " @com.nexus.core.annotations.Inject public Checked() throws Exception {} }");
+
+		String wiringClass = getWiringClass(index);
+		assertTrue(wiringClass.startsWith("app.NexusWiring_"), "The generated wiring class must be recorded in the index");
+		String source = Files.readString(tmp.resolve("out/" + wiringClass.replace('.', '/') + ".java"));
+		assertTrue(source.contains("new app.DoIt(di.get(app.Service.class))"), "Wiring must call the @Inject constructor directly");
+		assertFalse(source.contains("app.Checked"), "Constructors throwing checked exceptions stay on the reflective path");
+		assertTrue(index.contains("depends=app.DoIt:app.Service"), "Constructor dependencies must be recorded for the dependency graph");
+		assertTrue(index.contains("depends=app.Service:"), "No-arg constructors must be recorded without dependencies");
+		assertFalse(index.stream().anyMatch(line -> line.startsWith("depends=app.Checked")), "Unwired components keep their dependencies reflective");
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { tmp.resolve("out").toUri().toURL() }, getClass().getClassLoader())) {
+			ComponentWiring wiring = (ComponentWiring) loader.loadClass(wiringClass).getDeclaredConstructor().newInstance();
+			Map<Class<?>, ComponentFactory> factories = new HashMap<>();
+			wiring.register(factories);
+
+			Class<?> serviceClass = loader.loadClass("app.Service");
+			Class<?> commandClass = loader.loadClass("app.DoIt");
+			DependencyRegistry di = RegistryProvider.getRegistry(DependencyRegistry.class);
+			Object service = factories.get(serviceClass).create(di);
+			Object command = factories.get(commandClass).create(di.registry(Map.of(serviceClass, service)));
+
+			assertSame(service, commandClass.getField("service").get(command), "Generated factory must pass registered dependencies to the constructor");
+		}
+	}
+
+	@Test
+	void incrementalCompileShouldKeepComponentsThatWereNotRecompiled() throws IOException {
+		compile(
+				"app/Service.java", "package app; @com.nexus.core.annotations.Injectable public class Service {"
+						+ " @com.nexus.core.annotations.Inject public Service() {} }",
+				"app/Old.java", "package app; @com.nexus.core.annotations.Injectable public class Old {}");
+		Files.delete(tmp.resolve("out/app/Old.class"));
+		List<String> index = compile(
+				"app/DoIt.java", "package app; public class DoIt implements com.nexus.core.cqrs.Command<String, String> {"
+						+ " @com.nexus.core.annotations.Inject public DoIt(Service service) {}"
+						+ " public String handle(String s) { return s; } }");
+
+		assertTrue(index.contains("command=app.DoIt"), "Recompiled components must be indexed");
+		assertTrue(index.contains("injectable=app.Service"), "Components that were not recompiled must stay in the index");
+		assertTrue(index.contains("depends=app.Service:"), "Their dependencies must stay in the index too");
+		assertFalse(index.contains("injectable=app.Old"), "Components whose class is gone must leave the index");
+		String source = Files.readString(tmp.resolve("out/" + getWiringClass(index).replace('.', '/') + ".java"));
+		assertTrue(source.contains("new app.Service()"), "The regenerated wiring must still cover the untouched components");
+	}
+
+	@Test
+	void packageSplitAcrossAnUnindexedRootShouldBeScanned() throws Exception {
+		compile(
+				"app/Indexed.java", "package app; public class Indexed implements com.nexus.core.cqrs.Command<String, String> {"
+						+ " @com.nexus.core.annotations.Inject public Indexed() {}"
+						+ " public String handle(String s) { return s; } }");
+		Path plain = tmp.resolve("plain");
+		javac(plain, false,
+				"app/Plain.java", "package app; public class Plain implements com.nexus.core.cqrs.Command<String, String> {"
+						+ " public String handle(String s) { return s; } }");
+
+		PackagesRegistry packages = RegistryProvider.getRegistry(PackagesRegistry.class);
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		URL[] roots = { tmp.resolve("out").toUri().toURL(), plain.toUri().toURL() };
+		try (URLClassLoader indexedOnly = new URLClassLoader(new URL[] { roots[0] }, getClass().getClassLoader());
+				URLClassLoader split = new URLClassLoader(roots, getClass().getClassLoader())) {
+			thread.setContextClassLoader(indexedOnly);
+			assertTrue(packages.registry("app").isIndexed(), "A package only in indexed roots should be read from the index");
+
+			thread.setContextClassLoader(split);
+			ComponentIndex components = packages.registry("app");
+			assertFalse(components.isIndexed(), "A root without an index must not be skipped");
+			assertEquals(Set.of("app.Indexed", "app.Plain"), components.getCommands().stream().map(Class::getName).collect(Collectors.toSet()),
+					"Commands of both roots must be found");
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	@Test
+	void modulesSharingAPackageShouldGetDistinctWiringClasses() throws IOException {
+		Path first = tmp.resolve("first");
+		Path second = tmp.resolve("second");
+		javac(first, true,
+				"app/orders/Orders.java", "package app.orders; @com.nexus.core.annotations.Injectable public class Orders {"
+						+ " @com.nexus.core.annotations.Inject public Orders() {} }",
+				"app/stock/Stock.java", "package app.stock; @com.nexus.core.annotations.Injectable public class Stock {"
+						+ " @com.nexus.core.annotations.Inject public Stock() {} }");
+		javac(second, true,
+				"app/billing/Billing.java", "package app.billing; @com.nexus.core.annotations.Injectable public class Billing {"
+						+ " @com.nexus.core.annotations.Inject public Billing() {} }",
+				"app/mail/Mail.java", "package app.mail; @com.nexus.core.annotations.Injectable public class Mail {"
+						+ " @com.nexus.core.annotations.Inject public Mail() {} }");
+
+		String firstWiring = getWiringClass(Files.readAllLines(first.resolve(ComponentIndex.INDEX_RESOURCE)));
+		String secondWiring = getWiringClass(Files.readAllLines(second.resolve(ComponentIndex.INDEX_RESOURCE)));
+		assertTrue(firstWiring.startsWith("app.") && secondWiring.startsWith("app."), "Both wirings live in the common package");
+		assertNotEquals(firstWiring, secondWiring, "Two modules on one classpath must not generate the same class");
+	}
+
+	@Test
+	void sourcesWithoutNexusAnnotationsShouldNotBeProcessed() throws IOException {
+		Path out = tmp.resolve("out");
+		javac(out, true, "app/Plain.java", "package app; public class Plain {}");
+
+		assertFalse(Files.exists(out.resolve(ComponentIndex.INDEX_RESOURCE)), "Builds without Nexus annotations must not run the processor");
+	}
+
+	private static String getWiringClass(List<String> index) {
+		return index.stream()
+			.filter(line -> line.startsWith(ComponentIndex.WIRING_KEY + "="))
+			.map(line -> line.substring(ComponentIndex.WIRING_KEY.length() + 1))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private List<String> compile(String... pathsAndSources) throws IOException {
+		Path out = tmp.resolve("out");
+		javac(out, true, pathsAndSources);
+		return Files.readAllLines(out.resolve(ComponentIndex.INDEX_RESOURCE));
+	}
+
+	private void javac(Path out, boolean index, String... pathsAndSources) throws IOException {
+		Path src = Files.createDirectories(tmp.resolve("src"));
+		Files.createDirectories(out);
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < pathsAndSources.length; i += 2) {
+			Path file = src.resolve(pathsAndSources[i]);
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, pathsAndSources[i + 1]);
+			files.add(file.toFile());
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fm = compiler.getStandardFileManager(null, null, null)) {
+			Iterable<? extends JavaFileObject> units = fm.getJavaFileObjectsFromFiles(files);
+			String nexus = Path.of(Command.class.getProtectionDomain().getCodeSource().getLocation().getPath()).toString();
+			String classpath = nexus + File.pathSeparator + out;
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fm, null,
+					List.of("-d", out.toString(), "-s", out.toString(), "-classpath", classpath, index ? "-proc:full" : "-proc:none"), null, units);
+			if (index) task.setProcessors(List.of(new ComponentIndexProcessor()));
+			assertTrue(task.call(), "Test sources should compile");
+		}
+	}
+}
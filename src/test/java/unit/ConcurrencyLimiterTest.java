@@ -0,0 +1,96 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.cqrs.ConcurrencyLimiter;
+import com.nexus.core.cqrs.Handler;
+import com.nexus.exceptions.BulkheadFullException;
+
+class ConcurrencyLimiterTest {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	@Test
+	void shouldRejectRightAwayWhenFullWithoutWait() throws Exception {
+		ConcurrencyLimiter<String, String> limiter = new ConcurrencyLimiter<>(blocking(), "Slow", 1, Duration.ZERO);
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> limiter.handle("a"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		assertThrows(BulkheadFullException.class, () -> limiter.handle("b"), "A second call must not queue up");
+		assertEquals(1, limiter.getRejectedCount());
+		assertEquals(1, limiter.getInFlight());
+
+		release.countDown();
+		assertEquals("a", first.get(5, TimeUnit.SECONDS));
+		assertEquals(0, limiter.getInFlight(), "The slot must be released when the call completes");
+	}
+
+	@Test
+	void shouldLetWaitingCallersInWhenASlotFrees() throws Exception {
+		ConcurrencyLimiter<String, String> limiter = new ConcurrencyLimiter<>(blocking(), "Slow", 1, Duration.ofSeconds(5));
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> limiter.handle("a"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> limiter.handle("b"));
+		release.countDown();
+
+		assertEquals("a", first.get(5, TimeUnit.SECONDS));
+		assertEquals("b", second.get(5, TimeUnit.SECONDS), "A caller within maxWait must get the freed slot");
+		assertEquals(0, limiter.getRejectedCount());
+	}
+
+	@Test
+	void adaptiveLimitShouldShrinkOnSlowCallsAndGrowBack() {
+		long[] sleepMillis = { 30 };
+		Handler<String, String> handler = input -> {
+			sleep(sleepMillis[0]);
+			return input;
+		};
+		ConcurrencyLimiter<String, String> limiter = new ConcurrencyLimiter<>(handler, "Adaptive", 1, 2, Duration.ZERO, Duration.ofMillis(10));
+
+		limiter.handle("slow");
+		assertEquals(1, limiter.getLimit(), "A call above the latency threshold must lower the limit");
+		limiter.handle("slow");
+		assertEquals(1, limiter.getLimit(), "The limit never goes below minConcurrent");
+
+		sleepMillis[0] = 0;
+		limiter.handle("fast");
+		assertEquals(2, limiter.getLimit(), "A fast call using the whole limit must raise it");
+		limiter.handle("fast");
+		assertEquals(2, limiter.getLimit(), "The limit never goes above maxConcurrent");
+	}
+
+	@Test
+	void shouldRejectInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter<>(blocking(), "Bad", 0, Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter<>(blocking(), "Bad", 3, 2, Duration.ZERO, Duration.ofMillis(1)));
+	}
+
+	private Handler<String, String> blocking() {
+		return input -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return input;
+		};
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
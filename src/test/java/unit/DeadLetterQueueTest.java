@@ -0,0 +1,142 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.event.DeadLetter;
+import com.nexus.core.event.DeadLetterQueue;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventHandler;
+
+class DeadLetterQueueTest {
+
+	@Test
+	void letterShouldBeExhaustedAfterMaxAttempts() throws InterruptedException {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.maxAttempts(3)
+				.backoff(Duration.ofMillis(5), Duration.ofMillis(20))
+				.build();
+		CountDownLatch retries = new CountDownLatch(2);
+		EventHandler<Ping> handler = event -> {
+			retries.countDown();
+			throw new IllegalStateException("still down");
+		};
+		Ping ping = new Ping(1);
+
+		deadLetters.deliveryFailed(handler, ping, new IllegalStateException("down"));
+
+		assertTrue(retries.await(5, TimeUnit.SECONDS), "The failed delivery must be retried twice");
+		DeadLetter letter = awaitExhausted(deadLetters);
+		assertSame(ping, letter.event());
+		assertSame(handler, letter.handler());
+		assertEquals(3, letter.attempts());
+		assertEquals("still down", letter.failure().getMessage(), "The letter must keep the latest failure");
+		assertEquals(0, deadLetters.getRecoveredCount());
+	}
+
+	@Test
+	void errorOnRetryShouldCountAsAFailedAttempt() throws InterruptedException {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.maxAttempts(3)
+				.backoff(Duration.ofMillis(5), Duration.ofMillis(20))
+				.build();
+		EventHandler<Ping> handler = event -> {
+			throw new AssertionError("still down");
+		};
+
+		deadLetters.deliveryFailed(handler, new Ping(1), new IllegalStateException("down"));
+
+		DeadLetter letter = awaitExhausted(deadLetters);
+		assertEquals(3, letter.attempts(), "An Error must not leave the letter waiting on a retry that already ran");
+		assertInstanceOf(AssertionError.class, letter.failure());
+	}
+
+	@Test
+	void fullQueueShouldDropTheOldestLetter() {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.capacity(2)
+				.maxAttempts(1)
+				.build();
+		EventHandler<Ping> handler = event -> {};
+
+		for (int i = 0; i < 3; i++) {
+			deadLetters.deliveryFailed(handler, new Ping(i), new IllegalStateException());
+		}
+
+		List<DeadLetter> letters = deadLetters.getDeadLetters();
+		assertEquals(2, letters.size());
+		assertEquals(new Ping(1), letters.get(0).event(), "The oldest letter must be dropped first");
+		assertEquals(new Ping(2), letters.get(1).event());
+		assertTrue(letters.get(0).exhausted(), "A single attempt leaves nothing to retry");
+		assertEquals(1, deadLetters.getDroppedCount());
+	}
+
+	@Test
+	void clearShouldCancelPendingRetries() throws InterruptedException {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.backoff(Duration.ofMillis(50), Duration.ofMillis(50))
+				.build();
+		AtomicInteger deliveries = new AtomicInteger();
+
+		deadLetters.deliveryFailed(event -> deliveries.incrementAndGet(), new Ping(1), new IllegalStateException());
+		deadLetters.clear();
+		Thread.sleep(150);
+
+		assertEquals(0, deliveries.get(), "A cleared letter must not be redelivered");
+		assertEquals(0, deadLetters.size());
+	}
+
+	@Test
+	void retriesOfOneHandlerShouldNotOverlap() throws InterruptedException {
+		DeadLetterQueue deadLetters = DeadLetterQueue.builder()
+				.backoff(Duration.ofMillis(5), Duration.ofMillis(5))
+				.build();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger overlaps = new AtomicInteger();
+		CountDownLatch retried = new CountDownLatch(20);
+		EventHandler<Ping> handler = event -> {
+			if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+			try {
+				Thread.sleep(2);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			retried.countDown();
+		};
+
+		for (int i = 0; i < 20; i++) {
+			deadLetters.deliveryFailed(handler, new Ping(i), new IllegalStateException());
+		}
+
+		assertTrue(retried.await(5, TimeUnit.SECONDS), "Every letter must be redelivered");
+		assertEquals(0, overlaps.get(), "A handler must not be retried concurrently with itself");
+	}
+
+	@Test
+	void builderShouldRejectInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> DeadLetterQueue.builder().capacity(0));
+		assertThrows(IllegalArgumentException.class, () -> DeadLetterQueue.builder().maxAttempts(0));
+		assertThrows(IllegalArgumentException.class, () -> DeadLetterQueue.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class, () -> DeadLetterQueue.builder().backoff(Duration.ZERO, Duration.ofSeconds(1)));
+	}
+
+	private static DeadLetter awaitExhausted(DeadLetterQueue deadLetters) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			List<DeadLetter> letters = deadLetters.getDeadLetters();
+			if (letters.size() == 1 && letters.get(0).exhausted()) return letters.get(0);
+			Thread.sleep(5);
+		}
+		return fail("The letter was not exhausted in time: " + deadLetters.getDeadLetters());
+	}
+
+	public record Ping(int value) implements DomainEvent {}
+}
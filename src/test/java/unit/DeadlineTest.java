@@ -0,0 +1,154 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.NexusCqrsBus;
+import com.nexus.core.cqrs.Deadline;
+import com.nexus.core.cqrs.Query;
+import com.nexus.exceptions.DeadlineExceededException;
+
+class DeadlineTest {
+
+	private CqrsHandlersRegistry registry;
+	private NexusCqrsBus bus;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Field cqrsField = BusesProvider.class.getDeclaredField("cqrsBus");
+		cqrsField.setAccessible(true);
+		cqrsField.set(null, null);
+
+		registry = mock(CqrsHandlersRegistry.class);
+		bus = BusesProvider.getNexusCqrsBus(registry);
+	}
+
+	@Test
+	void sendShouldInterruptAHungHandlerAtTheDeadline() {
+		when(registry.getPipeline(SleepingQuery.class)).thenReturn(new SleepingQuery());
+
+		long start = System.nanoTime();
+		assertThrows(DeadlineExceededException.class, () -> bus.send(SleepingQuery.class, 10_000L, Duration.ofMillis(50)));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsedMillis < 2_000, "The caller must be released close to the deadline, took " + elapsedMillis + "ms");
+		assertFalse(Thread.interrupted(), "The interrupt used to stop the handler must not leak to the caller");
+		assertNull(Deadline.current(), "The deadline must not outlive the send");
+	}
+
+	@Test
+	void sendWithinTheDeadlineShouldNotBeInterruptedLater() throws InterruptedException {
+		when(registry.getPipeline(SleepingQuery.class)).thenReturn(new SleepingQuery());
+
+		assertEquals(0L, bus.send(SleepingQuery.class, 0L, Duration.ofMillis(20)));
+		Thread.sleep(60);
+
+		assertFalse(Thread.interrupted(), "A completed send must cancel its timer");
+	}
+
+	@Test
+	void nestedSendsShouldInheritTheEarlierDeadline() {
+		when(registry.getPipeline(RemainingQuery.class)).thenReturn(new RemainingQuery());
+		when(registry.getPipeline(NestingQuery.class)).thenReturn(new NestingQuery(bus));
+
+		long remaining = bus.send(NestingQuery.class, "x", Duration.ofMillis(500));
+
+		assertTrue(remaining > 0 && remaining <= 500, "The nested send must see the outer deadline, not its own 10s one: " + remaining);
+	}
+
+	@Test
+	void sendAsyncShouldFailTheFutureEvenIfTheHandlerIgnoresInterrupts() {
+		when(registry.getPipeline(SpinningQuery.class)).thenReturn(new SpinningQuery());
+
+		CompletableFuture<Long> result = bus.sendAsync(SpinningQuery.class, 1_000L, Duration.ofMillis(50));
+
+		ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(900, TimeUnit.MILLISECONDS));
+		assertInstanceOf(DeadlineExceededException.class, ex.getCause());
+	}
+
+	@Test
+	void anErrorInOneTimerShouldNotStopTheWheel() throws Exception {
+		Class<?> wheelType = Class.forName("com.nexus.core.cqrs.TimingWheel");
+		Constructor<?> constructor = wheelType.getDeclaredConstructor(long.class, int.class);
+		constructor.setAccessible(true);
+		Object wheel = constructor.newInstance(TimeUnit.MILLISECONDS.toNanos(1), 8);
+		Method schedule = wheelType.getDeclaredMethod("schedule", Runnable.class, long.class);
+		schedule.setAccessible(true);
+
+		CompletableFuture<Throwable> reported = new CompletableFuture<>();
+		CountDownLatch fired = new CountDownLatch(1);
+		Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.complete(e));
+		try {
+			long now = System.nanoTime();
+			schedule.invoke(wheel, (Runnable) () -> { throw new StackOverflowError("boom"); }, now);
+			schedule.invoke(wheel, (Runnable) fired::countDown, now + TimeUnit.MILLISECONDS.toNanos(20));
+
+			assertTrue(fired.await(5, TimeUnit.SECONDS), "Timers after a failing one must still fire");
+			assertInstanceOf(StackOverflowError.class, reported.get(5, TimeUnit.SECONDS));
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(previous);
+		}
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public static class SleepingQuery implements Query<Long, Long> {
+		@Override
+		public Long handle(Long millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("interrupted", e);
+			}
+			return millis;
+		}
+	}
+
+	public static class SpinningQuery implements Query<Long, Long> {
+		@Override
+		public Long handle(Long millis) {
+			long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+			while (System.nanoTime() < end) Thread.onSpinWait();
+			return millis;
+		}
+	}
+
+	public static class RemainingQuery implements Query<String, Long> {
+		@Override
+		public Long handle(String input) {
+			return Deadline.current().remaining(TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public static class NestingQuery implements Query<String, Long> {
+		private final NexusCqrsBus bus;
+
+		public NestingQuery(NexusCqrsBus bus) {
+			this.bus = bus;
+		}
+
+		@Override
+		public Long handle(String input) {
+			return bus.send(RemainingQuery.class, input, Duration.ofSeconds(10));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.DependencyGraph;
+import com.nexus.core.annotations.Inject;
+import com.nexus.exceptions.CircularDependencyException;
+
+class DependencyGraphTest {
+
+	private static final Comparator<Class<?>> BY_NAME = Comparator.comparing(Class::getName);
+
+	@Test
+	void independentNodesShouldShareTheFirstLayer() {
+		DependencyGraph graph = DependencyGraph.of(List.of(Top.class, Left.class, Right.class, Root.class));
+
+		List<List<Class<?>>> layers = graph.getLayers(BY_NAME);
+
+		assertEquals(List.of(List.of(Root.class), List.of(Left.class, Right.class), List.of(Top.class)), layers,
+				"Diamond dependencies should produce root, both sides together, then the top node");
+	}
+
+	@Test
+	void dependenciesOutsideTheGraphShouldNotCreateEdges() {
+		DependencyGraph graph = DependencyGraph.of(List.of(Left.class));
+
+		assertTrue(graph.getDependencies(Left.class).isEmpty(), "Root is not part of the graph, so it is an external dependency");
+		assertEquals(List.of(List.of(Left.class)), graph.getLayers(BY_NAME));
+	}
+
+	@Test
+	void cyclesShouldBeReported() {
+		DependencyGraph graph = DependencyGraph.of(List.of(CycleA.class, CycleB.class));
+
+		CircularDependencyException ex = assertThrows(CircularDependencyException.class, () -> graph.getLayers(BY_NAME),
+				"A cycle cannot be layered and must be reported");
+		assertTrue(ex.getMessage().contains("CycleA -> CycleB -> CycleA"),
+				"The message should show the path of the cycle");
+	}
+
+	@Test
+	void cycleReportShouldSkipNodesThatOnlyDependOnTheCycle() {
+		DependencyGraph graph = DependencyGraph.of(List.of(Root.class, AfterCycle.class, CycleA.class, CycleB.class));
+
+		CircularDependencyException ex = assertThrows(CircularDependencyException.class, () -> graph.getLayers(BY_NAME));
+		assertFalse(ex.getMessage().contains("AfterCycle") || ex.getMessage().contains("Root"),
+				"Only the classes forming the cycle belong in the report");
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public static class Root {
+		@Inject
+		public Root() {}
+	}
+
+	public static class Left {
+		@Inject
+		public Left(Root root) {}
+	}
+
+	public static class Right {
+		@Inject
+		public Right(Root root) {}
+	}
+
+	public static class Top {
+		@Inject
+		public Top(Left left, Right right) {}
+	}
+
+	public static class CycleA {
+		@Inject
+		public CycleA(CycleB b) {}
+	}
+
+	public static class CycleB {
+		@Inject
+		public CycleB(CycleA a) {}
+	}
+
+	public static class AfterCycle {
+		@Inject
+		public AfterCycle(CycleA a, Root root) {}
+	}
+}
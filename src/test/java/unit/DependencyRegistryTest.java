@@ -70,6 +70,60 @@ class DependencyRegistryTest {
 				   "Exception message should indicate that keys must be Class<?> instances");
 	}
 
+	@Test
+	void bootRegistryShouldCollectEntriesInPlace() {
+		DependencyRegistry base = RegistryProvider.getRegistry(DependencyRegistry.class);
+		DependencyRegistry boot = base.boot();
+		SimpleBean a = new SimpleBean("a");
+
+		DependencyRegistry returned = boot.registry(Map.of(SimpleBean.class, a));
+
+		assertSame(boot, returned, "A booting registry must register in place instead of copying");
+		assertSame(a, boot.get(SimpleBean.class));
+		assertThrows(DependencyNotFoundException.class, () -> base.get(SimpleBean.class),
+				"The registry boot() was called on must not be modified");
+	}
+
+	@Test
+	void freezeShouldSnapshotTheBootRegistry() {
+		DependencyRegistry boot = RegistryProvider.getRegistry(DependencyRegistry.class).boot();
+		SimpleBean a = new SimpleBean("a");
+		boot.registry(Map.of(SimpleBean.class, a));
+
+		DependencyRegistry frozen = boot.freeze();
+		boot.registry(Map.of(AnotherBean.class, new AnotherBean(1)));
+
+		assertTrue(boot.isBooting());
+		assertFalse(frozen.isBooting(), "A frozen registry must be immutable");
+		assertSame(a, frozen.get(SimpleBean.class));
+		assertThrows(DependencyNotFoundException.class, () -> frozen.get(AnotherBean.class),
+				"Entries registered after freeze() must not leak into the frozen registry");
+		assertNotSame(frozen, frozen.registry(Map.of(AnotherBean.class, new AnotherBean(2))),
+				"A frozen registry keeps returning combined copies");
+		assertSame(frozen, frozen.freeze(), "Freezing an immutable registry is a no-op");
+	}
+
+	@Test
+	void getShouldRejectInstancesRegisteredUnderAnotherType() {
+		DependencyRegistry reg = RegistryProvider.getRegistry(DependencyRegistry.class)
+				.registry(Map.of(SimpleBean.class, new AnotherBean(1)));
+
+		assertThrows(ClassCastException.class, () -> reg.get(SimpleBean.class),
+				"The cached lookup must still check the instance against the requested type");
+	}
+
+	@Test
+	void getShouldReturnSameInstanceOnRepeatedLookups() {
+		SimpleBean sb = new SimpleBean("x");
+		DependencyRegistry reg = RegistryProvider.getRegistry(DependencyRegistry.class).registry(Map.of(SimpleBean.class, sb));
+
+		assertSame(sb, reg.get(SimpleBean.class));
+		assertSame(sb, reg.get(SimpleBean.class), "Cached lookups must return the registered instance");
+		assertThrows(DependencyNotFoundException.class, () -> reg.get(AnotherBean.class));
+		assertThrows(DependencyNotFoundException.class, () -> reg.get(AnotherBean.class),
+				"A cached miss must keep throwing");
+	}
+
 	// --- Helper dummy beans used by the tests ---
 	public static class SimpleBean {
 		private final String name;
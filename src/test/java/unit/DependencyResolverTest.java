@@ -89,6 +89,44 @@ class DependencyResolverTest {
 		assertEquals("boom", ex.getCause().getMessage(), "The inner exception message should be preserved");
 	}
 
+	@Test
+	void resolveShouldUseGeneratedFactoryWhenPresent() {
+		DependencyRegistry base = RegistryProvider.getRegistry(DependencyRegistry.class);
+		DepA a = new DepA("factory");
+		DependencyRegistry withA = base.registry(Map.of(DepA.class, a));
+
+		DepB b = (DepB) DependencyResolver.resolve(withA, DepB.class, di -> new DepB(di.get(DepA.class)));
+
+		assertSame(a, b.getA(), "The generated factory must receive dependencies from the registry");
+	}
+
+	@Test
+	void resolveShouldFallBackToReflectionWithoutFactory() {
+		DependencyRegistry di = RegistryProvider.getRegistry(DependencyRegistry.class);
+
+		assertTrue(DependencyResolver.resolve(di, NoDeps.class, null) instanceof NoDeps,
+				"A null factory must fall back to reflective constructor invocation");
+	}
+
+	@Test
+	void resolveShouldWrapFactoryExceptionInDependencyInstantiationException() {
+		DependencyRegistry di = RegistryProvider.getRegistry(DependencyRegistry.class);
+
+		DependencyInstantiationException ex = assertThrows(DependencyInstantiationException.class,
+				() -> DependencyResolver.resolve(di, ThrowingCtor.class, registry -> new ThrowingCtor()),
+				"Exceptions thrown by a generated factory must be wrapped like reflective constructor failures");
+		assertEquals("boom", ex.getCause().getMessage(), "The inner exception message should be preserved");
+	}
+
+	@Test
+	void resolveShouldNotWrapMissingDependencyFromFactory() {
+		DependencyRegistry base = RegistryProvider.getRegistry(DependencyRegistry.class);
+
+		assertThrows(DependencyNotFoundException.class,
+				() -> DependencyResolver.resolve(base, DepB.class, di -> new DepB(di.get(DepA.class))),
+				"A missing dependency must surface as DependencyNotFoundException on the generated path too");
+	}
+
 	// -------------------------
 	// Test helper classes
 	// -------------------------
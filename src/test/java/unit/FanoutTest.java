@@ -0,0 +1,189 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.NexusCqrsBus;
+import com.nexus.core.cqrs.Fanout;
+import com.nexus.core.cqrs.Fanout.Part;
+import com.nexus.core.cqrs.Fanout.State;
+import com.nexus.core.cqrs.Query;
+import com.nexus.exceptions.RegistryResolutionException;
+
+class FanoutTest {
+
+	private CqrsHandlersRegistry registry;
+	private NexusCqrsBus bus;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Field cqrsField = BusesProvider.class.getDeclaredField("cqrsBus");
+		cqrsField.setAccessible(true);
+		cqrsField.set(null, null);
+
+		registry = mock(CqrsHandlersRegistry.class);
+		bus = BusesProvider.getNexusCqrsBus(registry);
+		when(registry.getPipeline(DelayQuery.class)).thenReturn(new DelayQuery());
+		when(registry.getPipeline(BrokenQuery.class)).thenReturn(new BrokenQuery());
+		when(registry.getPipeline(SneakyQuery.class)).thenReturn(new SneakyQuery());
+	}
+
+	@Test
+	void joinAllShouldTakeAsLongAsTheSlowestSend() {
+		List<Part<Long>> parts = new ArrayList<>();
+		long start = System.nanoTime();
+		try (Fanout fanout = bus.fanout()) {
+			for (int i = 0; i < 10; i++) {
+				parts.add(fanout.fork(DelayQuery.class, 100L));
+			}
+			fanout.joinAll();
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		for (Part<Long> part : parts) {
+			assertEquals(State.SUCCEEDED, part.getState());
+			assertEquals(100L, part.get());
+		}
+		assertTrue(elapsedMillis < 600, "Ten 100ms queries should overlap instead of adding up, took " + elapsedMillis + "ms");
+	}
+
+	@Test
+	void joinAllShouldThrowTheFirstFailureAndCancelTheRest() {
+		Part<Long> slow;
+		try (Fanout fanout = bus.fanout()) {
+			slow = fanout.fork(DelayQuery.class, 10_000L);
+			fanout.fork(BrokenQuery.class, "boom");
+
+			IllegalStateException ex = assertThrows(IllegalStateException.class, fanout::joinAll);
+			assertEquals("boom", ex.getMessage());
+		}
+
+		assertEquals(State.CANCELLED, slow.getState(), "A failure must cancel the sends still running");
+		assertThrows(IllegalStateException.class, slow::get);
+	}
+
+	@Test
+	void joinFirstShouldReturnTheFastestSuccess() {
+		Part<Long> slow;
+		Long first;
+		try (Fanout fanout = bus.fanout()) {
+			fanout.fork(BrokenQuery.class, "replica down");
+			slow = fanout.fork(DelayQuery.class, 10_000L);
+			fanout.fork(DelayQuery.class, 20L);
+			first = fanout.joinFirst();
+		}
+
+		assertEquals(20L, first);
+		assertEquals(State.CANCELLED, slow.getState());
+	}
+
+	@Test
+	void joinFirstShouldThrowWhenEverySendFails() {
+		try (Fanout fanout = bus.fanout()) {
+			fanout.fork(BrokenQuery.class, "a");
+			fanout.fork(BrokenQuery.class, "b");
+
+			IllegalStateException ex = assertThrows(IllegalStateException.class, fanout::joinFirst);
+			assertEquals(1, ex.getSuppressed().length, "The other failures must be kept as suppressed");
+		}
+	}
+
+	@Test
+	void checkedExceptionThrownSneakilyShouldFailItsPart() {
+		try (Fanout fanout = bus.fanout()) {
+			Part<String> part = fanout.fork(SneakyQuery.class, "disk gone");
+
+			CompletionException ex = assertTimeoutPreemptively(Duration.ofSeconds(5),
+					() -> assertThrows(CompletionException.class, fanout::joinAll));
+			assertInstanceOf(IOException.class, ex.getCause());
+			assertEquals(State.FAILED, part.getState());
+		}
+		try (Fanout fanout = bus.fanout()) {
+			fanout.fork(SneakyQuery.class, "disk gone");
+
+			assertTimeoutPreemptively(Duration.ofSeconds(5),
+					() -> assertThrows(CompletionException.class, fanout::joinFirst));
+		}
+	}
+
+	@Test
+	void joinUntilShouldKeepPartialResultsAndCancelStragglers() {
+		Part<Long> fast;
+		Part<Long> slow;
+		Part<String> broken;
+		long start = System.nanoTime();
+		try (Fanout fanout = bus.fanout()) {
+			fast = fanout.fork(DelayQuery.class, 10L);
+			slow = fanout.fork(DelayQuery.class, 10_000L);
+			broken = fanout.fork(BrokenQuery.class, "boom");
+			fanout.joinUntil(Duration.ofMillis(200));
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertEquals(10L, fast.get());
+		assertEquals(State.CANCELLED, slow.getState());
+		assertEquals(-1L, slow.orElse(-1L));
+		assertEquals(State.FAILED, broken.getState());
+		assertInstanceOf(IllegalStateException.class, broken.getException());
+		assertTrue(elapsedMillis < 2_000, "Stragglers must not hold the caller past the timeout, took " + elapsedMillis + "ms");
+	}
+
+	@Test
+	void forkShouldResolveTheHandlerOnTheCallerThread() {
+		when(registry.getPipeline(BrokenQuery.class)).thenThrow(new RegistryResolutionException("missing"));
+
+		try (Fanout fanout = bus.fanout()) {
+			assertThrows(RegistryResolutionException.class, () -> fanout.fork(BrokenQuery.class, "x"));
+			fanout.joinAll();
+			assertThrows(IllegalStateException.class, () -> fanout.fork(DelayQuery.class, 1L),
+					"A joined Fanout must not accept new sends");
+		}
+	}
+
+	static class DelayQuery implements Query<Long, Long> {
+		@Override
+		public Long handle(Long millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("interrupted", e);
+			}
+			return millis;
+		}
+	}
+
+	static class BrokenQuery implements Query<String, String> {
+		@Override
+		public String handle(String message) {
+			throw new IllegalStateException(message);
+		}
+	}
+
+	static class SneakyQuery implements Query<String, String> {
+		@Override
+		public String handle(String message) {
+			return SneakyQuery.<RuntimeException>sneakyThrow(new IOException(message));
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <E extends Throwable> String sneakyThrow(Throwable e) throws E {
+			throw (E) e;
+		}
+	}
+
+}
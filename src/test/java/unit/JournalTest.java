@@ -0,0 +1,220 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventBus;
+import com.nexus.core.journal.EventSerializer;
+import com.nexus.core.journal.FsyncPolicy;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.journal.JournalReader;
+import com.nexus.exceptions.JournalException;
+
+class JournalTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void appendedEventsShouldBeReadBackInOrder() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			assertEquals(0, journal.append(new Deposited("a", 1)));
+			assertEquals(1, journal.append(new Deposited("b", 2)));
+			assertEquals(2, journal.appendAll(List.of(new Deposited("c", 3), new Deposited("d", 4))));
+
+			assertEquals(List.of(new Deposited("a", 1), new Deposited("b", 2), new Deposited("c", 3), new Deposited("d", 4)), readAll(journal, 0));
+			assertEquals(List.of(new Deposited("c", 3), new Deposited("d", 4)), readAll(journal, 2), "Readers must start at the requested sequence");
+		}
+	}
+
+	@Test
+	void reopeningShouldResumeAfterTheLastEvent() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			journal.append(new Deposited("a", 1));
+			journal.append(new Deposited("b", 2));
+		}
+
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			assertEquals(2, journal.getNextSequence());
+			assertEquals(2, journal.append(new Deposited("c", 3)));
+			assertEquals(3, readAll(journal, 0).size());
+		}
+	}
+
+	@Test
+	void fullSegmentsShouldRollOver() throws IOException {
+		try (Journal journal = Journal.builder().directory(dir).segmentSize(4096).open()) {
+			for (int i = 0; i < 100; i++) {
+				journal.append(new Deposited("account-" + i, i));
+			}
+
+			List<DomainEvent> events = readAll(journal, 0);
+			assertEquals(100, events.size());
+			assertEquals(new Deposited("account-99", 99), events.get(99));
+			assertEquals(new Deposited("account-60", 60), readAll(journal, 60).get(0), "Readers must find the segment holding their start");
+		}
+		try (Stream<Path> files = Files.list(dir)) {
+			assertTrue(files.count() > 1, "A 4KB segment cannot hold 100 serialized events");
+		}
+	}
+
+	@Test
+	void tornLastRecordShouldBeDiscardedOnOpen() throws IOException {
+		try (Journal journal = Journal.builder().directory(dir).fsync(FsyncPolicy.NEVER).open()) {
+			journal.append(new Deposited("a", 1));
+			journal.append(new Deposited("b", 2));
+		}
+		Path segment;
+		try (Stream<Path> files = Files.list(dir)) {
+			segment = files.findFirst().orElseThrow();
+		}
+		// Corrupt the payload of the second record, as a crash in the middle of writing it would
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(4);
+			channel.read(header, 0);
+			int second = 8 + header.flip().getInt();
+			channel.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), second + 20);
+		}
+
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			assertEquals(1, journal.getNextSequence(), "The torn record must not count");
+			journal.append(new Deposited("c", 3));
+			assertEquals(List.of(new Deposited("a", 1), new Deposited("c", 3)), readAll(journal, 0));
+		}
+	}
+
+	@Test
+	void onAppendShouldReturnOnlyOnceTheEventIsDurable() throws Exception {
+		try (Journal journal = Journal.builder().directory(dir).fsync(FsyncPolicy.ON_APPEND).open()) {
+			List<Thread> appenders = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int id = t;
+				appenders.add(Thread.ofVirtual().start(() -> {
+					for (int i = 0; i < 25; i++) {
+						long sequence = journal.append(new Deposited("t" + id, i));
+						assertTrue(journal.getDurableSequence() > sequence, "append() must wait for the disk");
+					}
+				}));
+			}
+			for (Thread appender : appenders) appender.join();
+
+			assertEquals(100, journal.getDurableSequence());
+		}
+	}
+
+	@Test
+	void replayShouldFeedTheRegisteredHandlers() {
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		List<Deposited> seen = new ArrayList<>();
+		registry.subscribe(Deposited.class, seen::add);
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			journal.append(new Deposited("a", 1));
+			journal.append(new Deposited("b", 2));
+			journal.append(new Deposited("c", 3));
+
+			assertEquals(3, journal.replay(registry, 1), "replay() returns the sequence to resume from");
+			assertEquals(List.of(new Deposited("b", 2), new Deposited("c", 3)), seen);
+		}
+	}
+
+	@Test
+	void replayFailureShouldNameTheSequence() {
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		registry.subscribe(Deposited.class, event -> {
+			if (event.amount() == 2) throw new IllegalStateException("projection down");
+		});
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			journal.append(new Deposited("a", 1));
+			journal.append(new Deposited("b", 2));
+			journal.append(new Deposited("c", 3));
+
+			JournalException ex = assertThrows(JournalException.class, () -> journal.replay(registry, 0));
+			assertTrue(ex.getMessage().contains("event 1 (Deposited)"), ex.getMessage());
+			assertEquals("projection down", ex.getCause().getMessage());
+		}
+	}
+
+	@Test
+	void closeShouldReleaseAppendersWhoseEventsItForced() throws Exception {
+		for (int round = 0; round < 20; round++) {
+			Path roundDir = Files.createDirectory(dir.resolve("round-" + round));
+			Journal journal = Journal.builder().directory(roundDir).fsync(FsyncPolicy.ON_APPEND).open();
+			List<Throwable> failures = new CopyOnWriteArrayList<>();
+			List<Thread> appenders = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				appenders.add(Thread.ofVirtual().start(() -> {
+					try {
+						while (true) journal.append(new Deposited("a", 1));
+					} catch (IllegalStateException closed) {
+						// Appending after close is refused up front
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+				}));
+			}
+			Thread.sleep(2);
+			journal.close();
+			for (Thread appender : appenders) appender.join();
+
+			assertEquals(List.of(), failures, "An event forced by close() must not be reported as lost");
+		}
+	}
+
+	@Test
+	void nonSerializableEventsShouldBeRejectedWithoutCorruptingTheJournal() {
+		try (Journal journal = Journal.builder().directory(dir).serializer(EventSerializer.javaSerialization()).open()) {
+			journal.append(new Deposited("a", 1));
+			assertThrows(JournalException.class, () -> journal.append(new Opaque()));
+			journal.append(new Deposited("b", 2));
+
+			assertEquals(List.of(new Deposited("a", 1), new Deposited("b", 2)), readAll(journal, 0));
+		}
+	}
+
+	@Test
+	void journaledBusShouldAppendBeforeDelivering() {
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			List<Long> journaledWhenDelivered = new ArrayList<>();
+			registry.subscribe(Deposited.class, event -> journaledWhenDelivered.add(journal.getNextSequence()));
+			EventBus bus = BusesProvider.journaled(BusesProvider.getAsyncEventBus(registry, Runnable::run), journal);
+
+			bus.publish(new Deposited("a", 1));
+			bus.publishAll(Deposited.class, List.of(new Deposited("b", 2), new Deposited("c", 3)));
+
+			assertEquals(List.of(1L, 3L, 3L), journaledWhenDelivered, "Handlers must only see journaled events");
+			assertEquals(3, readAll(journal, 0).size());
+		}
+	}
+
+	private static List<DomainEvent> readAll(Journal journal, long from) {
+		List<DomainEvent> events = new ArrayList<>();
+		try (JournalReader reader = journal.reader(from)) {
+			while (reader.next()) {
+				events.add(reader.event());
+			}
+		}
+		return events;
+	}
+
+	public record Deposited(String account, long amount) implements DomainEvent, Serializable {}
+
+	public static class Opaque implements DomainEvent {}
+}
@@ -6,6 +6,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import com.nexus.api.NexusContext;
+import com.nexus.boot.ComponentIndex;
 import com.nexus.boot.CqrsHandlersRegistry;
 import com.nexus.boot.DependencyRegistry;
 import com.nexus.boot.EventHandlersRegistry;
@@ -20,6 +23,7 @@ import com.nexus.boot.InjectableRegistry;
 import com.nexus.boot.ManagedRegistry;
 import com.nexus.boot.PackagesRegistry;
 import com.nexus.boot.RegistryProvider;
+import com.nexus.core.bus.AsyncEventBus;
 import com.nexus.core.bus.BusesProvider;
 import com.nexus.core.bus.NexusCqrsBus;
 import com.nexus.core.bus.NexusEventBus;
@@ -27,8 +31,6 @@ import com.nexus.core.cqrs.CqrsBus;
 import com.nexus.core.event.EventBus;
 import com.nexus.exceptions.BusNotEnabledException;
 
-import io.github.classgraph.ScanResult;
-
 class NexusContextTest {
 
 	private MockedStatic<RegistryProvider> registryProviderStatic;
@@ -49,7 +51,7 @@ class NexusContextTest {
 		InjectableRegistry inject = mock(InjectableRegistry.class);
 		CqrsHandlersRegistry cqrsHandlers = mock(CqrsHandlersRegistry.class);
 		EventHandlersRegistry eventHandlers = mock(EventHandlersRegistry.class);
-		ScanResult sr = mock(ScanResult.class);
+		ComponentIndex components = mock(ComponentIndex.class);
 
 		//Concrete bus types that BusesProvider returns
 		NexusCqrsBus expectedCqrsBus = mock(NexusCqrsBus.class);
@@ -65,13 +67,15 @@ class NexusContextTest {
 		registryProviderStatic.when(() -> RegistryProvider.getRegistry(EventHandlersRegistry.class)).thenReturn(eventHandlers);
 
 		//Behaviour for registry methods
-		when(pkgReg.registry(any())).thenReturn(sr);
-		when(managed.registry(di, sr)).thenReturn(di);
-		when(inject.registry(di, sr)).thenReturn(di);
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
 
 		//CqrsHandlers.registry and eventHandlers.registry return themselves
-		when(cqrsHandlers.registry(di, sr)).thenReturn(cqrsHandlers);
-		when(eventHandlers.registry(di, sr)).thenReturn(eventHandlers);
+		when(cqrsHandlers.registry(di, components)).thenReturn(cqrsHandlers);
+		when(eventHandlers.registry(di, components)).thenReturn(eventHandlers);
 
 		//BusesProvider static mock BEFORE build
 		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
@@ -102,7 +106,7 @@ class NexusContextTest {
 		ManagedRegistry managed = mock(ManagedRegistry.class);
 		InjectableRegistry inject = mock(InjectableRegistry.class);
 		CqrsHandlersRegistry cqrsHandlers = mock(CqrsHandlersRegistry.class);
-		ScanResult sr = mock(ScanResult.class);
+		ComponentIndex components = mock(ComponentIndex.class);
 
 		NexusCqrsBus expectedCqrsBus = mock(NexusCqrsBus.class);
 
@@ -116,10 +120,12 @@ class NexusContextTest {
 		// Note: we DO NOT stub EventHandlersRegistry here on purpose
 
 		//Behaviour
-		when(pkgReg.registry(any())).thenReturn(sr);
-		when(managed.registry(di, sr)).thenReturn(di);
-		when(inject.registry(di, sr)).thenReturn(di);
-		when(cqrsHandlers.registry(di, sr)).thenReturn(cqrsHandlers);
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
+		when(cqrsHandlers.registry(di, components)).thenReturn(cqrsHandlers);
 
 		//BusesProvider static mock BEFORE build
 		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
@@ -150,7 +156,7 @@ class NexusContextTest {
 		DependencyRegistry di = mock(DependencyRegistry.class);
 		ManagedRegistry managed = mock(ManagedRegistry.class);
 		InjectableRegistry inject = mock(InjectableRegistry.class);
-		ScanResult sr = mock(ScanResult.class);
+		ComponentIndex components = mock(ComponentIndex.class);
 
 		//Custom buses provided by user (can be interfaces or concrete impls)
 		CqrsBus customCqrs = mock(CqrsBus.class);
@@ -163,9 +169,11 @@ class NexusContextTest {
 		registryProviderStatic.when(() -> RegistryProvider.getRegistry(ManagedRegistry.class)).thenReturn(managed);
 		registryProviderStatic.when(() -> RegistryProvider.getRegistry(InjectableRegistry.class)).thenReturn(inject);
 
-		when(pkgReg.registry(any())).thenReturn(sr);
-		when(managed.registry(di, sr)).thenReturn(di);
-		when(inject.registry(di, sr)).thenReturn(di);
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
 
 		//BusesProvider static mock BEFORE build - we expect NO interactions because user provides custom buses
 		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
@@ -193,7 +201,7 @@ class NexusContextTest {
 		ManagedRegistry managed = mock(ManagedRegistry.class);
 		InjectableRegistry inject = mock(InjectableRegistry.class);
 		EventHandlersRegistry eventHandlers = mock(EventHandlersRegistry.class);
-		ScanResult sr = mock(ScanResult.class);
+		ComponentIndex components = mock(ComponentIndex.class);
 
 		NexusEventBus expectedEventBus = mock(NexusEventBus.class);
 		CqrsBus providedCqrs = mock(CqrsBus.class);
@@ -207,11 +215,13 @@ class NexusContextTest {
 		// EventHandlersRegistry will be requested because onlyEventBus() is used
 		registryProviderStatic.when(() -> RegistryProvider.getRegistry(EventHandlersRegistry.class)).thenReturn(eventHandlers);
 
-		when(pkgReg.registry(any())).thenReturn(sr);
-		when(managed.registry(di, sr)).thenReturn(di);
-		when(inject.registry(di, sr)).thenReturn(di);
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
 
-		when(eventHandlers.registry(di, sr)).thenReturn(eventHandlers);
+		when(eventHandlers.registry(di, components)).thenReturn(eventHandlers);
 
 		//BusesProvider static mock BEFORE build
 		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
@@ -234,4 +244,129 @@ class NexusContextTest {
 		busesProviderStatic.verify(() -> BusesProvider.getNexusCqrsBus(any()), never());
 		busesProviderStatic.verify(() -> BusesProvider.getNexusEventBus(eventHandlers), times(1));
 	}
+
+	@Test
+	void buildWithAsyncExecutorPassesItToTheCqrsBus() {
+		PackagesRegistry pkgReg = mock(PackagesRegistry.class);
+		DependencyRegistry di = mock(DependencyRegistry.class);
+		ManagedRegistry managed = mock(ManagedRegistry.class);
+		InjectableRegistry inject = mock(InjectableRegistry.class);
+		CqrsHandlersRegistry cqrsHandlers = mock(CqrsHandlersRegistry.class);
+		ComponentIndex components = mock(ComponentIndex.class);
+		Executor asyncExecutor = Runnable::run;
+
+		NexusCqrsBus expectedCqrsBus = mock(NexusCqrsBus.class);
+
+		registryProviderStatic = Mockito.mockStatic(RegistryProvider.class);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(PackagesRegistry.class)).thenReturn(pkgReg);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(DependencyRegistry.class)).thenReturn(di);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(ManagedRegistry.class)).thenReturn(managed);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(InjectableRegistry.class)).thenReturn(inject);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(CqrsHandlersRegistry.class)).thenReturn(cqrsHandlers);
+
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
+		when(cqrsHandlers.registry(di, components)).thenReturn(cqrsHandlers);
+
+		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
+		busesProviderStatic.when(() -> BusesProvider.getNexusCqrsBus(cqrsHandlers, asyncExecutor)).thenReturn(expectedCqrsBus);
+
+		NexusContext ctx = new NexusContext.NexusContextBuilder()
+				.packagesToScan("com.example")
+				.onlyCqrs()
+				.withAsyncExecutor(asyncExecutor)
+				.build();
+
+		Assertions.assertSame(expectedCqrsBus, ctx.getCqrsBus());
+		busesProviderStatic.verify(() -> BusesProvider.getNexusCqrsBus(cqrsHandlers, asyncExecutor), times(1));
+		busesProviderStatic.verify(() -> BusesProvider.getNexusCqrsBus(any()), never());
+	}
+
+	@Test
+	void buildWithPartitionedCommandsPartitionsTheCqrsBus() {
+		PackagesRegistry pkgReg = mock(PackagesRegistry.class);
+		DependencyRegistry di = mock(DependencyRegistry.class);
+		ManagedRegistry managed = mock(ManagedRegistry.class);
+		InjectableRegistry inject = mock(InjectableRegistry.class);
+		CqrsHandlersRegistry cqrsHandlers = mock(CqrsHandlersRegistry.class);
+		ComponentIndex components = mock(ComponentIndex.class);
+		Executor workers = Runnable::run;
+
+		NexusCqrsBus expectedCqrsBus = mock(NexusCqrsBus.class);
+
+		registryProviderStatic = Mockito.mockStatic(RegistryProvider.class);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(PackagesRegistry.class)).thenReturn(pkgReg);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(DependencyRegistry.class)).thenReturn(di);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(ManagedRegistry.class)).thenReturn(managed);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(InjectableRegistry.class)).thenReturn(inject);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(CqrsHandlersRegistry.class)).thenReturn(cqrsHandlers);
+
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
+		when(cqrsHandlers.registry(di, components)).thenReturn(cqrsHandlers);
+
+		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
+		busesProviderStatic.when(() -> BusesProvider.getNexusCqrsBus(cqrsHandlers)).thenReturn(expectedCqrsBus);
+		busesProviderStatic.when(() -> BusesProvider.partitionCommands(expectedCqrsBus, 8, workers)).thenReturn(expectedCqrsBus);
+
+		NexusContext ctx = new NexusContext.NexusContextBuilder()
+				.packagesToScan("com.example")
+				.onlyCqrs()
+				.partitionedCommands(8, workers)
+				.build();
+
+		Assertions.assertSame(expectedCqrsBus, ctx.getCqrsBus());
+		busesProviderStatic.verify(() -> BusesProvider.partitionCommands(expectedCqrsBus, 8, workers), times(1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new NexusContext.NexusContextBuilder().partitionedCommands(0));
+	}
+
+	@Test
+	void withAsyncExecutorRejectsNull() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new NexusContext.NexusContextBuilder().withAsyncExecutor(null));
+	}
+
+	@Test
+	void buildWithAsyncEventBusUsesAsyncBusWithExecutor() {
+		PackagesRegistry pkgReg = mock(PackagesRegistry.class);
+		DependencyRegistry di = mock(DependencyRegistry.class);
+		ManagedRegistry managed = mock(ManagedRegistry.class);
+		InjectableRegistry inject = mock(InjectableRegistry.class);
+		EventHandlersRegistry eventHandlers = mock(EventHandlersRegistry.class);
+		ComponentIndex components = mock(ComponentIndex.class);
+		Executor eventExecutor = Runnable::run;
+
+		AsyncEventBus expectedEventBus = mock(AsyncEventBus.class);
+
+		registryProviderStatic = Mockito.mockStatic(RegistryProvider.class);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(PackagesRegistry.class)).thenReturn(pkgReg);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(DependencyRegistry.class)).thenReturn(di);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(ManagedRegistry.class)).thenReturn(managed);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(InjectableRegistry.class)).thenReturn(inject);
+		registryProviderStatic.when(() -> RegistryProvider.getRegistry(EventHandlersRegistry.class)).thenReturn(eventHandlers);
+
+		when(pkgReg.registry(any())).thenReturn(components);
+		when(di.boot()).thenReturn(di);
+		when(di.freeze()).thenReturn(di);
+		when(managed.registry(di, components)).thenReturn(di);
+		when(inject.registry(di, components)).thenReturn(di);
+		when(eventHandlers.registry(di, components)).thenReturn(eventHandlers);
+
+		busesProviderStatic = Mockito.mockStatic(BusesProvider.class);
+		busesProviderStatic.when(() -> BusesProvider.getAsyncEventBus(eventHandlers, eventExecutor)).thenReturn(expectedEventBus);
+
+		NexusContext ctx = new NexusContext.NexusContextBuilder()
+				.packagesToScan("com.example")
+				.onlyEventBus()
+				.asyncEventBus(eventExecutor)
+				.build();
+
+		Assertions.assertSame(expectedEventBus, ctx.getEventBus());
+		busesProviderStatic.verify(() -> BusesProvider.getNexusEventBus(any()), never());
+	}
 }
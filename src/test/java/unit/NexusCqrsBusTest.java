@@ -0,0 +1,305 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.CqrsHandlersRegistry;
+import com.nexus.core.bus.BusesProvider;
+import com.nexus.core.bus.NexusCqrsBus;
+import com.nexus.core.cqrs.BatchCommand;
+import com.nexus.core.cqrs.Command;
+import com.nexus.core.cqrs.Query;
+import com.nexus.core.cqrs.Routable;
+import com.nexus.exceptions.RegistryResolutionException;
+
+class NexusCqrsBusTest {
+
+	private CqrsHandlersRegistry registry;
+	private NexusCqrsBus bus;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Field cqrsField = BusesProvider.class.getDeclaredField("cqrsBus");
+		cqrsField.setAccessible(true);
+		cqrsField.set(null, null);
+
+		registry = mock(CqrsHandlersRegistry.class);
+		bus = BusesProvider.getNexusCqrsBus(registry);
+	}
+
+	@Test
+	void sendAsyncShouldRunHandlerOnVirtualThreadByDefault() throws Exception {
+		when(registry.getPipeline(ThreadQuery.class)).thenReturn(new ThreadQuery());
+
+		Thread handlerThread = bus.sendAsync(ThreadQuery.class, "q").get();
+
+		assertTrue(handlerThread.isVirtual(), "Without a configured executor sendAsync should use virtual threads");
+		assertNotSame(Thread.currentThread(), handlerThread, "The handler must not run on the caller thread");
+	}
+
+	@Test
+	void sendAsyncShouldCompleteExceptionallyWhenHandlerThrows() {
+		when(registry.getPipeline(FailingCommand.class)).thenReturn(new FailingCommand());
+
+		CompletableFuture<String> result = bus.sendAsync(FailingCommand.class, "boom");
+
+		ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+		assertInstanceOf(IllegalStateException.class, ex.getCause(), "The handler exception must be the failure cause");
+	}
+
+	@Test
+	void sendAsyncShouldThrowImmediatelyForUnknownHandler() {
+		when(registry.getPipeline(FailingCommand.class)).thenThrow(new RegistryResolutionException("missing"));
+
+		assertThrows(RegistryResolutionException.class, () -> bus.sendAsync(FailingCommand.class, "x"),
+				"Handler resolution happens on the caller thread like send()");
+	}
+
+	@Test
+	void sendAllShouldPassTheWholeBatchToBatchCommands() {
+		UpperBatchCommand handler = new UpperBatchCommand();
+		when(registry.getPipeline(UpperBatchCommand.class)).thenReturn(handler);
+
+		List<String> results = bus.sendAll(UpperBatchCommand.class, List.of("a", "b", "c"));
+
+		assertEquals(List.of("A", "B", "C"), results);
+		assertEquals(List.of(3), handler.batchSizes, "A BatchCommand must receive the batch in a single call");
+	}
+
+	@Test
+	void sendAllShouldFallBackToOneCallPerInput() {
+		when(registry.getPipeline(ThreadQuery.class)).thenReturn(new ThreadQuery());
+
+		List<Thread> results = bus.sendAll(ThreadQuery.class, List.of("a", "b"));
+
+		assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), results,
+				"Handlers without batch support are called once per input on the caller thread");
+		assertEquals(List.of(), bus.sendAll(ThreadQuery.class, List.of()));
+	}
+
+	@Test
+	void partitionedSendsShouldKeepOrderPerKey() throws Exception {
+		RecordingCommand handler = new RecordingCommand();
+		when(registry.getPipeline(RecordingCommand.class)).thenReturn(handler);
+		bus = BusesProvider.partitionCommands(bus, 4, null);
+
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+		for (int seq = 0; seq < 200; seq++) {
+			results.add(bus.sendAsync(RecordingCommand.class, new Move("account-" + (seq % 5), seq)));
+		}
+		CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+		assertEquals(5, handler.seen.size());
+		handler.seen.forEach((key, seqs) -> {
+			List<Integer> sorted = new ArrayList<>(seqs);
+			Collections.sort(sorted);
+			assertEquals(sorted, seqs, "Commands of " + key + " must run in send order");
+		});
+	}
+
+	@Test
+	void partitionedSendsShouldRunDifferentKeysConcurrently() throws Exception {
+		CountDownLatch bStarted = new CountDownLatch(1);
+		when(registry.getPipeline(RendezvousCommand.class)).thenReturn(new RendezvousCommand(bStarted));
+		bus = BusesProvider.partitionCommands(bus, 16, null);
+
+		// "a" only finishes once "b" has started, which needs a second lane running at the same time
+		CompletableFuture<String> a = bus.sendAsync(RendezvousCommand.class, new Move("a", 0));
+		String b = bus.send(RendezvousCommand.class, new Move("b", 0));
+
+		assertEquals("b", b);
+		assertEquals("a", a.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void nestedSendOnTheSameKeyShouldRunInline() {
+		when(registry.getPipeline(RecordingCommand.class)).thenReturn(new RecordingCommand());
+		bus = BusesProvider.partitionCommands(bus, 4, null);
+		when(registry.getPipeline(NestingCommand.class)).thenReturn(new NestingCommand(bus));
+
+		assertEquals(7, assertTimeoutPreemptively(Duration.ofSeconds(5),
+				() -> bus.send(NestingCommand.class, new Move("x", 7))),
+				"A handler sending a command for its own key must not wait behind itself");
+	}
+
+	@Test
+	void partitionedSendAllShouldAcceptInputsThatAreNotRoutable() {
+		when(registry.getPipeline(WhereCommand.class)).thenReturn(new WhereCommand());
+		bus = BusesProvider.partitionCommands(bus, 4, null);
+
+		List<Thread> threads = bus.sendAll(WhereCommand.class, List.of(new Move("a", 0), "plain"));
+
+		assertNotSame(Thread.currentThread(), threads.get(0), "Routable inputs run on their lane");
+		assertSame(Thread.currentThread(), threads.get(1), "Other inputs run on the caller thread");
+	}
+
+	@Test
+	void partitionedSendAllShouldHandEachLaneOneBatch() {
+		MoveBatchCommand handler = new MoveBatchCommand();
+		when(registry.getPipeline(MoveBatchCommand.class)).thenReturn(handler);
+		bus = BusesProvider.partitionCommands(bus, 64, null);
+
+		List<Integer> results = bus.sendAll(MoveBatchCommand.class, List.of(new Move("a", 0), new Move("b", 1), new Move("a", 2), new Move("c", 3)));
+
+		assertEquals(List.of(0, 1, 2, 3), results, "Results must come back in input order");
+		assertEquals(4, handler.batchSizes.stream().mapToInt(Integer::intValue).sum());
+		assertTrue(handler.batchSizes.size() < 4, "Inputs sharing a lane must reach handleAll together, got " + handler.batchSizes);
+	}
+
+	@Test
+	void partitionCommandsShouldLeaveTheGivenBusUnchanged() {
+		when(registry.getPipeline(WhereCommand.class)).thenReturn(new WhereCommand());
+
+		NexusCqrsBus partitioned = BusesProvider.partitionCommands(bus, 4, null);
+
+		assertNotSame(bus, partitioned);
+		assertSame(Thread.currentThread(), bus.send(WhereCommand.class, new Move("a", 0)),
+				"A bus shared with other contexts must not pick up the partitions");
+		assertNotSame(Thread.currentThread(), partitioned.send(WhereCommand.class, new Move("a", 0)));
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public static class ThreadQuery implements Query<String, Thread> {
+		@Override
+		public Thread handle(String input) {
+			return Thread.currentThread();
+		}
+	}
+
+	@Test
+	void sendAllShouldRejectBatchResultsThatDoNotMatchTheInputs() {
+		when(registry.getPipeline(DroppingBatchCommand.class)).thenReturn(new DroppingBatchCommand());
+
+		IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> bus.sendAll(DroppingBatchCommand.class, List.of("a", "b", "c")));
+		assertTrue(ex.getMessage().contains("2 results for 3 inputs"), ex.getMessage());
+	}
+
+	public static class DroppingBatchCommand implements BatchCommand<String, String> {
+		@Override
+		public String handle(String input) {
+			return input;
+		}
+
+		@Override
+		public List<String> handleAll(List<String> inputs) {
+			return inputs.subList(1, inputs.size());
+		}
+	}
+
+	public static class FailingCommand implements Command<String, String> {
+		@Override
+		public String handle(String input) {
+			throw new IllegalStateException(input);
+		}
+	}
+
+	public static class UpperBatchCommand implements BatchCommand<String, String> {
+		private final List<Integer> batchSizes = new ArrayList<>();
+
+		@Override
+		public String handle(String input) {
+			return input.toUpperCase();
+		}
+
+		@Override
+		public List<String> handleAll(List<String> inputs) {
+			batchSizes.add(inputs.size());
+			return inputs.stream().map(String::toUpperCase).toList();
+		}
+	}
+
+	public static class MoveBatchCommand implements BatchCommand<Move, Integer> {
+		private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public Integer handle(Move input) {
+			return input.seq();
+		}
+
+		@Override
+		public List<Integer> handleAll(List<Move> inputs) {
+			batchSizes.add(inputs.size());
+			return inputs.stream().map(Move::seq).toList();
+		}
+	}
+
+	public record Move(String account, int seq) implements Routable {
+		@Override
+		public Object routingKey() {
+			return account;
+		}
+	}
+
+	public static class RecordingCommand implements Command<Move, Integer> {
+		private final Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+
+		@Override
+		public Integer handle(Move input) {
+			List<Integer> seqs = seen.computeIfAbsent(input.account(), k -> new ArrayList<>());
+			seqs.add(input.seq());
+			return input.seq();
+		}
+	}
+
+	public static class RendezvousCommand implements Command<Move, String> {
+		private final CountDownLatch bStarted;
+
+		public RendezvousCommand(CountDownLatch bStarted) {
+			this.bStarted = bStarted;
+		}
+
+		@Override
+		public String handle(Move input) {
+			if (input.account().equals("b")) {
+				bStarted.countDown();
+			} else {
+				try {
+					if (!bStarted.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("Lanes did not run concurrently");
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return input.account();
+		}
+	}
+
+	public static class WhereCommand implements Command<Object, Thread> {
+		@Override
+		public Thread handle(Object input) {
+			return Thread.currentThread();
+		}
+	}
+
+	public static class NestingCommand implements Command<Move, Integer> {
+		private final NexusCqrsBus bus;
+
+		public NestingCommand(NexusCqrsBus bus) {
+			this.bus = bus;
+		}
+
+		@Override
+		public Integer handle(Move input) {
+			return bus.send(RecordingCommand.class, input);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.AggregateEvent;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.journal.ParallelReplay;
+import com.nexus.core.journal.ReplayProgress;
+
+class ParallelReplayTest {
+	private static final int ACCOUNTS = 50;
+	private static final int EVENTS = 20_000;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void replayShouldKeepEachKeyInJournalOrder() {
+		Map<String, List<Integer>> byAccount = new ConcurrentHashMap<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		registry.subscribe(Moved.class, event -> {
+			threads.add(Thread.currentThread().getName());
+			byAccount.computeIfAbsent(event.account(), a -> new ArrayList<>()).add(event.step());
+		});
+
+		try (Journal journal = fill()) {
+			ReplayProgress done = ParallelReplay.builder(journal, registry).partitions(4).run();
+
+			assertEquals(EVENTS, done.replayed());
+			assertEquals(EVENTS, done.nextSequence());
+			assertEquals(1.0, done.fraction());
+		}
+
+		assertEquals(ACCOUNTS, byAccount.size());
+		for (List<Integer> steps : byAccount.values()) {
+			for (int i = 1; i < steps.size(); i++) {
+				assertTrue(steps.get(i - 1) < steps.get(i), "Events of one key must be handled in journal order");
+			}
+		}
+		assertTrue(threads.size() > 1, "Different keys should be handled on several workers, got " + threads);
+	}
+
+	@Test
+	void replayShouldStartAtTheRequestedSequenceAndReportProgress() {
+		List<ReplayProgress> reports = new CopyOnWriteArrayList<>();
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		registry.subscribe(Moved.class, event -> {});
+
+		try (Journal journal = fill()) {
+			ReplayProgress done = ParallelReplay.builder(journal, registry)
+					.fromSequence(15_000)
+					.onProgress(reports::add, Duration.ZERO)
+					.run();
+
+			assertEquals(5_000, done.replayed());
+			assertEquals(5_000, done.total());
+		}
+		assertFalse(reports.isEmpty());
+		assertEquals(5_000, reports.get(reports.size() - 1).replayed(), "The last report is the final progress");
+	}
+
+	@Test
+	void handlerFailureShouldStopTheReplay() {
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+		registry.subscribe(Moved.class, event -> {
+			if (event.step() == 7_000) throw new IllegalStateException("projection bug");
+		});
+
+		try (Journal journal = fill()) {
+			IllegalStateException ex = assertThrows(IllegalStateException.class,
+					() -> ParallelReplay.builder(journal, registry).partitions(3).run());
+			assertEquals("projection bug", ex.getMessage());
+		}
+	}
+
+	@Test
+	void invalidSettingsShouldBeRejected() {
+		EventHandlersRegistry registry = new EventHandlersRegistry();
+
+		try (Journal journal = fill()) {
+			ParallelReplay.Builder builder = ParallelReplay.builder(journal, registry);
+			assertThrows(IllegalArgumentException.class, () -> builder.onProgress(progress -> {}, null));
+			assertThrows(IllegalArgumentException.class, () -> builder.onProgress(null, Duration.ofSeconds(1)));
+			assertThrows(IllegalArgumentException.class, () -> builder.fromSequence(EVENTS + 1).run(),
+					"Starting past the end would report a negative total");
+			assertEquals(0, ParallelReplay.builder(journal, registry).fromSequence(EVENTS).run().replayed(),
+					"Starting at the end is an empty replay");
+		}
+	}
+
+	private Journal fill() {
+		Journal journal = Journal.builder().directory(dir).open();
+		List<Moved> events = new ArrayList<>();
+		for (int i = 0; i < EVENTS; i++) {
+			events.add(new Moved("account-" + (i % ACCOUNTS), i));
+		}
+		journal.appendAll(events);
+		return journal;
+	}
+
+	public record Moved(String account, int step) implements AggregateEvent {
+		@Override
+		public Object aggregateKey() {
+			return account;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.journal.Journal;
+import com.nexus.core.projection.Projection;
+import com.nexus.core.projection.ProjectionRunner;
+import com.nexus.exceptions.ProjectionException;
+
+class ProjectionRunnerTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void restartShouldOnlyHandleTheEventsAfterTheSnapshot() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			for (int i = 0; i < 250; i++) journal.append(new Deposited("account-" + (i % 10), 1));
+			Balances balances = new Balances();
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).snapshotEvery(100).add(balances).open()) {
+				assertEquals(250, runner.getPosition("balances"));
+				assertEquals(200, runner.getSnapshotPosition("balances"));
+				assertEquals(250, balances.handled);
+			}
+			for (int i = 0; i < 5; i++) journal.append(new Deposited("account-0", 10));
+
+			Balances restarted = new Balances();
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).snapshotEvery(100).add(restarted).open()) {
+				assertEquals(255, runner.getPosition("balances"));
+				assertEquals(5, restarted.handled, "Only the events after the snapshot written on close must be handled");
+				assertEquals(75L, restarted.totals.get("account-0"));
+				assertEquals(25L, restarted.totals.get("account-9"));
+			}
+		}
+	}
+
+	@Test
+	void projectionsShouldCatchUpIndependently() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			for (int i = 0; i < 50; i++) journal.append(new Deposited("a", 1));
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(new Balances()).open()) {
+				assertEquals(50, runner.getPosition("balances"));
+			}
+			for (int i = 0; i < 50; i++) journal.append(new Deposited("a", 1));
+
+			Balances balances = new Balances();
+			Balances audit = new Balances("audit");
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(balances).add(audit).open()) {
+				assertEquals(50, balances.handled);
+				assertEquals(100, audit.handled, "A projection without a snapshot starts from the first event");
+				assertEquals(100L, balances.totals.get("a"));
+				assertEquals(100L, audit.totals.get("a"));
+			}
+		}
+	}
+
+	@Test
+	void corruptedSnapshotShouldRebuildFromTheStart() throws IOException {
+		Path snapshot;
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			for (int i = 0; i < 20; i++) journal.append(new Deposited("a", 1));
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(new Balances()).open()) {
+				snapshot = runner.getDirectory().resolve("balances.snapshot");
+			}
+			byte[] bytes = Files.readAllBytes(snapshot);
+			bytes[bytes.length - 1] ^= 0x5A;
+			Files.write(snapshot, bytes);
+
+			Balances balances = new Balances();
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(balances).open()) {
+				assertEquals(0, runner.getSnapshotPosition("balances"), "The damaged snapshot must not be restored");
+				assertEquals(20, balances.handled);
+				assertEquals(20L, balances.totals.get("a"));
+			}
+		}
+	}
+
+	@Test
+	void followShouldPickUpNewEvents() throws InterruptedException {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			Balances balances = new Balances();
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(balances).open()) {
+				runner.follow(Duration.ofMillis(5));
+				journal.append(new Deposited("a", 7));
+
+				long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+				while (runner.getPosition("balances") < 1 && System.nanoTime() < deadline) Thread.sleep(5);
+				assertEquals(1, runner.getPosition("balances"));
+				assertEquals(7L, balances.totals.get("a"));
+			}
+		}
+	}
+
+	@Test
+	void failingHandlerShouldOnlyHoldBackItsOwnProjection() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			journal.append(new Deposited("a", 1));
+			journal.append(new Deposited("poison", 1));
+			journal.append(new Deposited("b", 1));
+			Balances balances = new Balances();
+			Balances audit = new Balances("audit");
+			balances.failOn = "poison";
+
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(balances).add(audit).open()) {
+				assertEquals(1, runner.getPosition("balances"), "The failing projection stays before the failed event");
+				assertEquals(3, runner.getPosition("audit"), "The other projections keep advancing");
+				ProjectionException failure = runner.getFailure("balances");
+				assertTrue(failure.getMessage().contains("event 1"), failure.getMessage());
+				assertInstanceOf(IllegalStateException.class, failure.getCause());
+				assertNull(runner.getFailure("audit"));
+
+				balances.failOn = null;
+				runner.catchUp();
+				assertEquals(3, runner.getPosition("balances"), "The failed event is retried on the next catch-up");
+				assertNull(runner.getFailure("balances"));
+				assertEquals(audit.totals, balances.totals);
+			}
+		}
+	}
+
+	@Test
+	void failedSnapshotShouldNotStopTheCatchUp() throws IOException {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			for (int i = 0; i < 10; i++) journal.append(new Deposited("a", 1));
+			// A directory in the way of the temporary file makes every snapshot write fail
+			Path blocker = Files.createDirectories(dir.resolve("projections/balances.snapshot.tmp"));
+			Balances balances = new Balances();
+
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).snapshotEvery(2).add(balances).open()) {
+				assertEquals(10, runner.getPosition("balances"), "Opening must handle every event despite the failed snapshots");
+				assertEquals(0, runner.getSnapshotPosition("balances"));
+				assertTrue(runner.getFailure("balances").getMessage().contains("Cannot write the snapshot"), runner.getFailure("balances").getMessage());
+
+				Files.delete(blocker);
+				for (int i = 0; i < 4; i++) journal.append(new Deposited("a", 1));
+				assertEquals(4, runner.catchUp(), "Later catch-ups must read past the first event again");
+				assertEquals(14, runner.getSnapshotPosition("balances"), "The snapshot is tried again once the next interval is reached");
+				assertNull(runner.getFailure("balances"));
+				assertEquals(14L, balances.totals.get("a"));
+			}
+		}
+	}
+
+	@Test
+	void snapshotOfAnotherStateTypeShouldRebuildFromTheStart() {
+		try (Journal journal = Journal.builder().directory(dir).open()) {
+			for (int i = 0; i < 20; i++) journal.append(new Deposited("a", 1));
+			// Closing writes the snapshot of the map of totals
+			ProjectionRunner.builder(journal).add(new Balances()).open().close();
+
+			// Same name, but the state is now a count instead of a map of totals
+			Count count = new Count("balances");
+			try (ProjectionRunner runner = ProjectionRunner.builder(journal).add(count).open()) {
+				assertEquals(20, runner.getPosition("balances"));
+				assertEquals(20L, count.events, "A snapshot the projection cannot take must be rebuilt from the events");
+			}
+		}
+	}
+
+	public record Deposited(String account, long amount) implements DomainEvent {}
+
+	static final class Count implements Projection<Long> {
+		private final String name;
+		private long events;
+
+		Count(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void subscribe(EventHandlersRegistry registry) {
+			registry.subscribe(Deposited.class, event -> events++);
+		}
+
+		@Override
+		public Long snapshot() {
+			return events;
+		}
+
+		@Override
+		public void restore(Long state) {
+			events = state;
+		}
+	}
+
+	static final class Balances implements Projection<Map<String, Long>> {
+		private final String name;
+		private final Map<String, Long> totals = new ConcurrentHashMap<>();
+		private volatile String failOn;
+		private int handled;
+
+		Balances() {
+			this("balances");
+		}
+
+		Balances(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void subscribe(EventHandlersRegistry registry) {
+			registry.subscribe(Deposited.class, event -> {
+				if (event.account().equals(failOn)) throw new IllegalStateException("cannot project " + event);
+				totals.merge(event.account(), event.amount(), Long::sum);
+				handled++;
+			});
+		}
+
+		@Override
+		public Map<String, Long> snapshot() {
+			return new HashMap<>(totals);
+		}
+
+		@Override
+		public void restore(Map<String, Long> state) {
+			totals.clear();
+			totals.putAll(state);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.cqrs.CacheStats;
+import com.nexus.core.cqrs.Query;
+import com.nexus.core.cqrs.QueryCache;
+
+class QueryCacheTest {
+
+	private final CountingQuery query = new CountingQuery();
+
+	@Test
+	void shouldEvictTheLeastRecentlyUsedEntry() {
+		QueryCache<String, String> cache = new QueryCache<>(query, 2, Duration.ZERO);
+
+		cache.handle("a");
+		cache.handle("b");
+		cache.handle("a");
+		cache.handle("c");
+		cache.handle("a");
+		cache.handle("b");
+
+		assertEquals(4, query.calls.get(), "b was the least recently used entry when c was added");
+		CacheStats stats = cache.getStats();
+		assertEquals(2, stats.hits());
+		assertEquals(4, stats.misses());
+		assertEquals(2, stats.evictions());
+		assertEquals(2, stats.size());
+		assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+	}
+
+	@Test
+	void shouldRecomputeExpiredEntries() throws InterruptedException {
+		QueryCache<String, String> cache = new QueryCache<>(query, 8, Duration.ofMillis(1));
+
+		cache.handle("a");
+		Thread.sleep(20);
+		cache.handle("a");
+
+		assertEquals(2, query.calls.get(), "An entry older than the TTL must not be served");
+	}
+
+	@Test
+	void shouldNotStoreResultsComputedAcrossAnInvalidation() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		QueryCache<String, String> cache = new QueryCache<>(input -> {
+			started.countDown();
+			await(release);
+			return input + "-stale";
+		}, 8, Duration.ZERO);
+
+		CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cache.handle("a"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		cache.invalidateAll();
+		release.countDown();
+
+		assertEquals("a-stale", slow.get(5, TimeUnit.SECONDS), "The caller still gets its result");
+		assertEquals(0, cache.getStats().size(), "A result computed before the invalidation must not be cached");
+	}
+
+	@Test
+	void invalidatingOneKeyShouldOnlyDiscardItsOwnInFlightMisses() throws Exception {
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		QueryCache<String, String> cache = new QueryCache<>(input -> {
+			started.countDown();
+			await(release);
+			return input.toUpperCase();
+		}, 8, Duration.ZERO);
+
+		CompletableFuture<String> a = CompletableFuture.supplyAsync(() -> cache.handle("a"));
+		CompletableFuture<String> b = CompletableFuture.supplyAsync(() -> cache.handle("b"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		cache.invalidate("a");
+		release.countDown();
+
+		assertEquals("A", a.get(5, TimeUnit.SECONDS));
+		assertEquals("B", b.get(5, TimeUnit.SECONDS));
+		assertEquals(1, cache.getStats().size(), "Only the miss of the invalidated key must be discarded");
+		assertEquals("B", cache.handle("b"));
+		assertEquals(1, cache.getStats().hits());
+	}
+
+	@Test
+	void concurrentUseShouldStayWithinTheBound() throws Exception {
+		QueryCache<String, String> cache = new QueryCache<>(query, 64, Duration.ZERO);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			CompletableFuture<?>[] workers = new CompletableFuture<?>[8];
+			for (int w = 0; w < workers.length; w++) {
+				int seed = w;
+				workers[w] = CompletableFuture.runAsync(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						String key = "k" + ((i * 31 + seed) % (i % 4 == 0 ? 512 : 32));
+						assertEquals(key.toUpperCase(), cache.handle(key));
+					}
+				}, pool);
+			}
+			CompletableFuture.allOf(workers).get(30, TimeUnit.SECONDS);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		CacheStats stats = cache.getStats();
+		assertTrue(stats.size() <= 64, "The cache must never hold more than its maximum size, held " + stats.size());
+		assertEquals(160_000, stats.hits() + stats.misses());
+		assertTrue(stats.hits() > 0);
+	}
+
+	@Test
+	void shouldRejectEmptyCaches() {
+		assertThrows(IllegalArgumentException.class, () -> new QueryCache<>(query, 0, Duration.ZERO));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public static class CountingQuery implements Query<String, String> {
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public String handle(String input) {
+			calls.incrementAndGet();
+			return input.toUpperCase();
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.boot.EventHandlersRegistry;
+import com.nexus.core.bus.RingBufferEventBus;
+import com.nexus.core.bus.WaitStrategy;
+import com.nexus.core.event.DomainEvent;
+import com.nexus.core.event.EventHandler;
+
+class RingBufferEventBusTest {
+
+	private EventHandlersRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = mock(EventHandlersRegistry.class);
+	}
+
+	@Test
+	void everyWaitStrategyShouldDeliverAllEventsInOrderPerProducer() throws Exception {
+		for (WaitStrategy strategy : List.of(WaitStrategy.busySpin(), WaitStrategy.yielding(), WaitStrategy.blocking())) {
+			int producers = 4;
+			int perProducer = 5_000;
+			List<SourcedEvent> received = Collections.synchronizedList(new ArrayList<>());
+			EventHandler<SourcedEvent> handler = received::add;
+			when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(handler));
+
+			// A small buffer forces producers to wrap around and wait for the consumer
+			try (RingBufferEventBus bus = RingBufferEventBus.builder().bufferSize(16).waitStrategy(strategy).create(registry)) {
+				List<Thread> threads = IntStream.range(0, producers)
+					.mapToObj(p -> Thread.ofPlatform().start(() -> {
+						for (int i = 0; i < perProducer; i++) bus.publish(SourcedEvent.class, new SourcedEvent(p, i));
+					}))
+					.toList();
+				for (Thread thread : threads) thread.join();
+			}
+
+			assertEquals(producers * perProducer, received.size(), "Closing must drain every published event");
+			for (int p = 0; p < producers; p++) {
+				int producer = p;
+				List<Integer> values = received.stream().filter(e -> e.producer() == producer).map(SourcedEvent::value).toList();
+				assertEquals(IntStream.range(0, perProducer).boxed().toList(), values, "Events of one producer must arrive in publish order");
+			}
+		}
+	}
+
+	@Test
+	void handlerGroupsShouldRunOnSeparateConsumerThreads() throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(2);
+		List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+		EventHandler<SourcedEvent> first = event -> {
+			threadNames.add(Thread.currentThread().getName());
+			done.countDown();
+		};
+		EventHandler<SourcedEvent> second = event -> {
+			threadNames.add(Thread.currentThread().getName());
+			done.countDown();
+		};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(first, second));
+
+		try (RingBufferEventBus bus = RingBufferEventBus.builder().handlerGroups(2).create(registry)) {
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 0));
+			assertTrue(done.await(5, TimeUnit.SECONDS), "Both handlers must receive the event");
+		}
+
+		assertEquals(2, threadNames.stream().distinct().count(), "Each handler group has its own consumer thread");
+	}
+
+	@Test
+	void publishAfterCloseShouldFail() {
+		EventHandler<SourcedEvent> handler = event -> {};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(handler));
+		RingBufferEventBus bus = RingBufferEventBus.builder().create(registry);
+		bus.close();
+
+		assertThrows(IllegalStateException.class, () -> bus.publish(SourcedEvent.class, new SourcedEvent(0, 0)));
+	}
+
+	@Test
+	void closeShouldNotHangOnSlotsOfPublishersThatGaveUp() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		EventHandler<SourcedEvent> handler = event -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(handler));
+		RingBufferEventBus bus = RingBufferEventBus.builder().bufferSize(2).create(registry);
+		bus.publish(SourcedEvent.class, new SourcedEvent(0, 0));
+		bus.publish(SourcedEvent.class, new SourcedEvent(0, 1));
+		AtomicReference<Throwable> publisherFailure = new AtomicReference<>();
+		// Claims the third slot, then waits for the blocked consumer to free one
+		Thread publisher = Thread.ofPlatform().start(() -> {
+			try {
+				bus.publish(SourcedEvent.class, new SourcedEvent(0, 2));
+			} catch (Throwable e) {
+				publisherFailure.set(e);
+			}
+		});
+		Thread.sleep(50);
+		Thread closer = Thread.ofPlatform().start(bus::close);
+		publisher.join(TimeUnit.SECONDS.toMillis(5));
+		release.countDown();
+		closer.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertFalse(closer.isAlive(), "close() must not wait for a slot whose publisher gave up");
+		assertInstanceOf(IllegalStateException.class, publisherFailure.get());
+	}
+
+	@Test
+	void errorInHandlerShouldNotStopTheConsumer() throws InterruptedException {
+		CountDownLatch delivered = new CountDownLatch(1);
+		EventHandler<SourcedEvent> handler = event -> {
+			if (event.value() == 0) throw new AssertionError("first event fails with an Error");
+			delivered.countDown();
+		};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(handler));
+
+		try (RingBufferEventBus bus = RingBufferEventBus.builder().create(registry)) {
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 0));
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 1));
+			assertTrue(delivered.await(5, TimeUnit.SECONDS), "The consumer must keep delivering after an Error");
+		}
+	}
+
+	@Test
+	void handlersSubscribedLaterShouldReceiveEventsOfTypesAlreadyPublished() throws InterruptedException {
+		EventHandlersRegistry real = new EventHandlersRegistry();
+		CountDownLatch first = new CountDownLatch(1);
+		CountDownLatch late = new CountDownLatch(1);
+		real.subscribe(SourcedEvent.class, event -> first.countDown());
+
+		try (RingBufferEventBus bus = RingBufferEventBus.builder().create(real)) {
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 0));
+			assertTrue(first.await(5, TimeUnit.SECONDS));
+			real.subscribe(SourcedEvent.class, event -> late.countDown());
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 1));
+
+			assertTrue(late.await(5, TimeUnit.SECONDS), "A handler subscribed after the first event of its type must be delivered to");
+		}
+	}
+
+	@Test
+	void publishFromAHandlerIntoAFullBufferShouldFailInsteadOfDeadlocking() throws InterruptedException {
+		AtomicReference<RingBufferEventBus> busRef = new AtomicReference<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch failed = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+		EventHandler<SourcedEvent> handler = event -> {
+			received.add(event.value());
+			if (event.value() == 0) {
+				try {
+					for (int i = 10; i < 13; i++) busRef.get().publish(SourcedEvent.class, new SourcedEvent(1, i));
+				} catch (IllegalStateException e) {
+					failure.set(e);
+					failed.countDown();
+				}
+			}
+			if (event.value() == 1) done.countDown();
+		};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(handler));
+
+		try (RingBufferEventBus bus = RingBufferEventBus.builder().bufferSize(2).create(registry)) {
+			busRef.set(bus);
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 0));
+			assertTrue(failed.await(5, TimeUnit.SECONDS), "The consumer must not wait for itself");
+			bus.publish(SourcedEvent.class, new SourcedEvent(0, 1));
+
+			assertTrue(done.await(5, TimeUnit.SECONDS), "Events after the failed publish must still be delivered");
+		}
+		assertInstanceOf(IllegalStateException.class, failure.get());
+		assertEquals(List.of(0, 10, 1), received, "The slot of the failed publish must be skipped");
+	}
+
+	@Test
+	void deliveredEventsShouldNotStayInTheBuffer() throws Exception {
+		EventHandler<SourcedEvent> first = event -> {};
+		EventHandler<SourcedEvent> second = event -> {};
+		when(registry.getHandlers(SourcedEvent.class)).thenReturn(List.of(first, second));
+		RingBufferEventBus bus = RingBufferEventBus.builder().bufferSize(8).handlerGroups(2).create(registry);
+		for (int i = 0; i < 5; i++) bus.publish(SourcedEvent.class, new SourcedEvent(0, i));
+		bus.close();
+
+		Field events = RingBufferEventBus.class.getDeclaredField("events");
+		events.setAccessible(true);
+		assertTrue(Arrays.stream((Object[]) events.get(bus)).allMatch(Objects::isNull),
+				"Slots must drop their event once every handler group delivered it");
+	}
+
+	@Test
+	void builderShouldRejectInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> RingBufferEventBus.builder().bufferSize(1000),
+				"The buffer size must be a power of two");
+		assertThrows(IllegalArgumentException.class, () -> RingBufferEventBus.builder().handlerGroups(0));
+		assertThrows(IllegalArgumentException.class, () -> RingBufferEventBus.builder().waitStrategy(null));
+	}
+
+	// -------------------------
+	// Test helper classes
+	// -------------------------
+
+	public record SourcedEvent(int producer, int value) implements DomainEvent {}
+}
@@ -0,0 +1,143 @@
+package unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.core.cqrs.SingleFlight;
+
+class SingleFlightTest {
+	private static final int CALLERS = 16;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+	private final AtomicInteger calls = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentEqualInputsShouldShareOneExecution() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(input -> {
+			calls.incrementAndGet();
+			await(release);
+			return input + "!";
+		});
+
+		List<Future<String>> results = submitAll(() -> flight.handle("hot"), flight);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertEquals("hot!", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, calls.get(), "Only the first caller may run the query");
+		assertEquals(CALLERS - 1, flight.getCoalescedCount());
+		assertEquals("hot!", flight.handle("hot"));
+		assertEquals(2, calls.get(), "Completed executions must not be reused");
+	}
+
+	@Test
+	void everyWaitingCallerShouldGetTheLeaderException() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(input -> {
+			calls.incrementAndGet();
+			await(release);
+			throw new IllegalStateException("backend down");
+		});
+
+		List<Future<String>> results = submitAll(() -> flight.handle("hot"), flight);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(IllegalStateException.class, ex.getCause(), "Waiting callers must see the original exception");
+		}
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void checkedExceptionsThrownSneakilyShouldReleaseWaitingCallers() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(input -> {
+			calls.incrementAndGet();
+			await(release);
+			return sneakyThrow(new IOException("disk gone"));
+		});
+
+		List<Future<String>> results = submitAll(() -> flight.handle("hot"), flight);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS),
+					"Followers must not wait forever for a leader that threw a checked exception");
+			Throwable cause = ex.getCause() instanceof CompletionException wrapped ? wrapped.getCause() : ex.getCause();
+			assertInstanceOf(IOException.class, cause);
+		}
+	}
+
+	@Test
+	void queryResendingItsOwnInputShouldNotWaitForItself() throws Exception {
+		AtomicInteger depth = new AtomicInteger();
+		AtomicReference<SingleFlight<String, String>> holder = new AtomicReference<>();
+		holder.set(new SingleFlight<>(input -> depth.incrementAndGet() == 1 ? holder.get().handle(input) + "!" : input));
+
+		Future<String> result = executor.submit(() -> holder.get().handle("self"));
+
+		assertEquals("self!", result.get(5, TimeUnit.SECONDS));
+		assertEquals(0, holder.get().getCoalescedCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Throwable, R> R sneakyThrow(Throwable e) throws T {
+		throw (T) e;
+	}
+
+	@Test
+	void differentInputsShouldNotBeCoalesced() {
+		SingleFlight<String, String> flight = new SingleFlight<>(input -> input + calls.incrementAndGet());
+
+		assertEquals("a1", flight.handle("a"));
+		assertEquals("b2", flight.handle("b"));
+		assertEquals("null3", flight.handle(null));
+		assertEquals(0, flight.getCoalescedCount());
+	}
+
+	/**
+	 * Starts the leader first and the other callers once it is in flight, then waits until they are
+	 * all parked on its result.
+	 */
+	private List<Future<String>> submitAll(Callable<String> call, SingleFlight<String, String> flight) throws InterruptedException {
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(call));
+		while (calls.get() == 0) Thread.onSpinWait();
+		for (int i = 1; i < CALLERS; i++) {
+			results.add(executor.submit(call));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (flight.getCoalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) Thread.sleep(1);
+		return results;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}